@@ -0,0 +1,79 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.factory.builder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.eclipse.tractusx.autosetup.entity.AppDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Package values rendering of the V10 flyway app templates, two StringSubstitutor passes against the compiled templates
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppConfigurationBuilderBenchmark {
+
+    @Param({ "EDC_CONNECTOR", "DT_REGISTRY", "SDE" })
+    private String appName;
+
+    private AppDetails appDetails;
+    private Map<String, String> inputProperties;
+    private AppConfigurationBuilder appConfigurationBuilder;
+
+    @Setup
+    public void loadTemplates() throws Exception {
+        appDetails = FlywayAppTemplates.load().get(appName);
+        inputProperties = FlywayAppTemplates.sampleInput(appDetails);
+        appConfigurationBuilder = new AppConfigurationBuilder();
+    }
+
+    @Benchmark
+    public String stringSubstitutor() {
+        Map<String, Object> dyanamicYamlValues = new HashMap<>();
+        String sb = new StringSubstitutor(inputProperties).replace(appDetails.getExpectedInputData());
+        dyanamicYamlValues.put("yamlValues", sb);
+        dyanamicYamlValues.put("dnsName", inputProperties.get("dnsName"));
+        dyanamicYamlValues.putAll(inputProperties);
+        return new StringSubstitutor(dyanamicYamlValues).replace(appDetails.getRequiredYamlConfiguration());
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return appConfigurationBuilder.buildConfiguration(appDetails, inputProperties);
+    }
+
+}
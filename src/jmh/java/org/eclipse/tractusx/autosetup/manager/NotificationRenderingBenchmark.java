@@ -0,0 +1,144 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import freemarker.cache.ClassTemplateLoader;
+import freemarker.template.Configuration;
+
+// A batch of tenant notifications rendered the former way, template looked up per send with a string built
+// result table, against the preloaded templates of NotificationRenderer with the table rendered by the macro
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationRenderingBenchmark {
+
+    private static final int NOTIFICATIONS = 100;
+
+    @Param({ "edc_success_activate.html", "dt_success_template.html" })
+    private String template;
+
+    @Param({ "3", "20" })
+    private int rowsPerTool;
+
+    private Configuration lookupConfiguration;
+    private NotificationRenderer notificationRenderer;
+    private List<Map<String, Object>> models;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Spring Boot defaults without the spring.freemarker.settings of application.properties
+        lookupConfiguration = configuration();
+
+        Configuration tunedConfiguration = configuration();
+        tunedConfiguration.setSetting("template_update_delay", "24h");
+        tunedConfiguration.setSetting("localized_lookup", "false");
+        tunedConfiguration.setSetting("cache_storage", "strong:50");
+        tunedConfiguration.setSetting("object_wrapper", "DefaultObjectWrapper(2.3.32)");
+        notificationRenderer = new NotificationRenderer(tunedConfiguration);
+
+        models = new ArrayList<>();
+        for (int tenant = 0; tenant < NOTIFICATIONS; tenant++) {
+            List<Map<String, String>> results = new ArrayList<>();
+            for (String tool : List.of("EDC", "DT", "SDE")) {
+                Map<String, String> row = new LinkedHashMap<>();
+                row.put("name", tool);
+                for (int i = 0; i < rowsPerTool; i++)
+                    row.put("key" + i, "https://tenant-" + tenant + ".example.com/" + tool.toLowerCase() + "/" + i);
+                results.add(row);
+            }
+            Map<String, Object> model = new HashMap<>();
+            model.put("orgname", "Tenant " + tenant);
+            model.put("connectorTestResult", "consumer and provider");
+            model.put("testServiceURL", "https://test.example.com/" + tenant);
+            model.put(NotificationRenderer.RESULTS, results);
+            models.add(model);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NOTIFICATIONS)
+    public void templateLookupWithConcatenatedTable(Blackhole blackhole) throws Exception {
+        for (Map<String, Object> model : models) {
+            @SuppressWarnings("unchecked")
+            List<Map<String, String>> results = (List<Map<String, String>>) model.get(NotificationRenderer.RESULTS);
+            Map<String, Object> emailContent = new HashMap<>(model);
+            emailContent.remove(NotificationRenderer.RESULTS);
+            emailContent.put("content", generateEmailTable(results));
+            StringWriter stringWriter = new StringWriter();
+            lookupConfiguration.getTemplate(template).process(emailContent, stringWriter);
+            blackhole.consume(stringWriter.getBuffer().toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NOTIFICATIONS)
+    public void preloadedTemplateWithTableMacro(Blackhole blackhole) throws Exception {
+        for (Map<String, Object> model : models)
+            blackhole.consume(notificationRenderer.render(template, model));
+    }
+
+    private static Configuration configuration() {
+        Configuration configuration = new Configuration(Configuration.DEFAULT_INCOMPATIBLE_IMPROVEMENTS);
+        configuration.setTemplateLoader(new ClassTemplateLoader(NotificationRenderingBenchmark.class, "/templates/"));
+        configuration.setDefaultEncoding("UTF-8");
+        return configuration;
+    }
+
+    // AutoSetupOrchitestratorService.generateEmailTable before the table moved into result_table.ftl
+    private static String generateEmailTable(List<Map<String, String>> content) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<table>");
+        content.forEach(element -> {
+            sb.append("<tr><td colspan=\"2\"><b>" + element.get("name") + "</b></td></tr>");
+            element.entrySet().forEach(entry -> {
+                if (!"name".equals(entry.getKey()))
+                    sb.append("<tr><td>" + entry.getKey() + "</td><td>" + entry.getValue() + "</td></tr>");
+            });
+        });
+        sb.append("</table>");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,168 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.repository;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Trigger lookups on 100k synthetic rows of the V13 schema on H2 in PostgreSQL mode,
+// indexed=false runs the same script without its CREATE INDEX statements, result reuse of H2 is off
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TriggerLookupBenchmark {
+
+    private static final String SCRIPT = "/flyway/V13__trigger-timestamps-and-indexes.sql";
+    private static final int TRIGGERS = 100_000;
+    private static final int ORGANIZATIONS = 20_000;
+    private static final String[] SERVICES = { "T-SYSTEM-SDE-EDC", "T-SYSTEM-EDC", "T-SYSTEM-DT" };
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Param({ "false", "true" })
+    private boolean indexed;
+
+    private Connection connection;
+    private PreparedStatement byOrganizationAndService;
+    private PreparedStatement byStatus;
+    private PreparedStatement bySubscription;
+    private PreparedStatement byCreatedRange;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void createTriggers() throws Exception {
+        connection = DriverManager
+                .getConnection("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;OPTIMIZE_REUSE_RESULTS=FALSE");
+
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : readScript()) {
+                if (indexed || !sql.startsWith("CREATE INDEX"))
+                    statement.execute(sql);
+            }
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO auto_setup_trigger_tbl "
+                + "(trigger_id, trigger_type, organization_name, subscription_id, service_id, status, created_at, modified_at) "
+                + "VALUES (?, 'CREATE', ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < TRIGGERS; i++) {
+                OffsetDateTime created = START.plusMinutes(5L * i);
+                insert.setString(1, UUID.randomUUID().toString());
+                insert.setString(2, "organization-" + (i % ORGANIZATIONS));
+                insert.setString(3, "subscription-" + i);
+                insert.setString(4, SERVICES[i % SERVICES.length]);
+                insert.setString(5, i % 200 == 0 ? "INPROGRESS" : "SUCCESS");
+                insert.setObject(6, created);
+                insert.setObject(7, created.plusMinutes(3));
+                insert.addBatch();
+                if (i % 1000 == 999)
+                    insert.executeBatch();
+            }
+        }
+        connection.commit();
+
+        byOrganizationAndService = connection.prepareStatement(
+                "SELECT * FROM auto_setup_trigger_tbl WHERE organization_name = ? AND service_id = ? LIMIT 1");
+        byStatus = connection.prepareStatement("SELECT * FROM auto_setup_trigger_tbl WHERE status = ?");
+        bySubscription = connection.prepareStatement("SELECT * FROM auto_setup_trigger_tbl WHERE subscription_id = ?");
+        byCreatedRange = connection.prepareStatement(
+                "SELECT * FROM auto_setup_trigger_tbl WHERE created_at >= ? AND created_at < ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws Exception {
+        connection.close();
+    }
+
+    @Benchmark
+    public int findByOrganizationAndService() throws Exception {
+        int i = next++ % TRIGGERS;
+        byOrganizationAndService.setString(1, "organization-" + (i % ORGANIZATIONS));
+        byOrganizationAndService.setString(2, SERVICES[i % SERVICES.length]);
+        return count(byOrganizationAndService);
+    }
+
+    @Benchmark
+    public int findInProgress() throws Exception {
+        byStatus.setString(1, "INPROGRESS");
+        return count(byStatus);
+    }
+
+    @Benchmark
+    public int findBySubscription() throws Exception {
+        bySubscription.setString(1, "subscription-" + (next++ % TRIGGERS));
+        return count(bySubscription);
+    }
+
+    @Benchmark
+    public int findCreatedWithinOneDay() throws Exception {
+        OffsetDateTime from = START.plusMinutes(5L * (next++ % TRIGGERS));
+        byCreatedRange.setObject(1, from);
+        byCreatedRange.setObject(2, from.plusDays(1));
+        return count(byCreatedRange);
+    }
+
+    private int count(PreparedStatement statement) throws Exception {
+        int rows = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next())
+                rows++;
+        }
+        return rows;
+    }
+
+    private String[] readScript() throws Exception {
+        try (InputStream in = TriggerLookupBenchmark.class.getResourceAsStream(SCRIPT)) {
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8)
+                    .replaceAll("(?s)/\\*.*?\\*/", "")
+                    .replaceAll("(?m)^--.*$", "");
+            return Arrays.stream(script.split(";")).map(String::strip).filter(sql -> !sql.isEmpty())
+                    .toArray(String[]::new);
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.autosetup.model.AutoSetupRequest;
+import org.eclipse.tractusx.autosetup.model.SelectedTools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Status poll and step save JSON handling with a new ObjectMapper per call against the shared typed readers and writers,
+// the gc profiler of the jmh profile reports the allocation per call as gc.alloc.rate.norm
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonMappingBenchmark {
+
+    private static final String PROCESS_RESULT = "[{\"name\":\"EDC\",\"dnsName\":\"tenant-edc.example.com\","
+            + "\"controlPlaneEndpoint\":\"https://tenant-edc.example.com\",\"dataPlanePublicUrl\":\"https://tenant-edc.example.com/api/public\"},"
+            + "{\"name\":\"DT\",\"dtregistryUrl\":\"https://tenant-dt.example.com/api/v3.0\"},"
+            + "{\"name\":\"SDE\",\"sdeBackEndUrl\":\"https://tenant-sde.example.com/backend\",\"sdeFrontEndUrl\":\"https://tenant-sde.example.com\"}]";
+    private static final String SERVICE_TOOLS = "[{\"tool\":\"EDC_TRACTUS\",\"label\":\"dt\"},{\"tool\":\"DT_REGISTRY\",\"label\":\"dt\"}]";
+    private static final String REQUEST = "{\"customer\":{\"organizationName\":\"Tenant\",\"email\":\"admin@tenant.example.com\","
+            + "\"country\":\"DE\",\"state\":\"BE\",\"city\":\"Berlin\"},\"properties\":{\"bpnNumber\":\"BPNL000000000001\","
+            + "\"subscriptionId\":\"subscription-1\",\"serviceId\":\"service-1\",\"role\":\"app\"}}";
+
+    private List<Map<String, String>> processResult;
+
+    @Setup
+    public void parse() throws Exception {
+        processResult = JsonUtil.STRING_MAP_LIST_READER.readValue(PROCESS_RESULT);
+    }
+
+    @Benchmark
+    public Object newMapperReadProcessResult() throws Exception {
+        return new ObjectMapper().readValue(PROCESS_RESULT, List.class);
+    }
+
+    @Benchmark
+    public Object sharedReaderReadProcessResult() throws Exception {
+        return JsonUtil.STRING_MAP_LIST_READER.readValue(PROCESS_RESULT);
+    }
+
+    @Benchmark
+    public String newMapperWriteProcessResult() throws Exception {
+        return new ObjectMapper().writeValueAsString(processResult);
+    }
+
+    @Benchmark
+    public String sharedWriterWriteProcessResult() throws Exception {
+        return JsonUtil.STRING_MAP_LIST_WRITER.writeValueAsString(processResult);
+    }
+
+    @Benchmark
+    public List<SelectedTools> newTypeReferenceReadSelectedTools() throws Exception {
+        return new ObjectMapper().readValue(SERVICE_TOOLS, new TypeReference<List<SelectedTools>>() {
+        });
+    }
+
+    @Benchmark
+    public List<SelectedTools> sharedReaderReadSelectedTools() throws Exception {
+        return JsonUtil.SELECTED_TOOLS_READER.readValue(SERVICE_TOOLS);
+    }
+
+    @Benchmark
+    public AutoSetupRequest newMapperReadRequest() throws Exception {
+        return new ObjectMapper().readValue(REQUEST, AutoSetupRequest.class);
+    }
+
+    @Benchmark
+    public AutoSetupRequest sharedReaderReadRequest() throws Exception {
+        return JsonUtil.AUTO_SETUP_REQUEST_READER.readValue(REQUEST);
+    }
+
+}
@@ -0,0 +1,81 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.autosetup.constant.CertificateKeyAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Workflow thread cost of the connector certificate with a key pair generated inline or taken from a filled pool
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyPairPoolBenchmark {
+
+    private static final String SUBJECT = "O=Benchmark, OU=BPNL000000000000, C=DE, ST=BE, L=Berlin, CN=www.benchmark.com";
+
+    @Param({ "RSA", "EC" })
+    private CertificateKeyAlgorithm algorithm;
+
+    private KeyPairPool keyPairPool;
+
+    @Setup(Level.Trial)
+    public void createPool() {
+        keyPairPool = new KeyPairPool(algorithm, 2048, 1, 1, TimeUnit.HOURS.toMillis(1), 0, 1);
+    }
+
+    @Setup(Level.Invocation)
+    public void fillPool() {
+        keyPairPool.refill();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        keyPairPool.shutdown();
+    }
+
+    @Benchmark
+    public Certutil.CertKeyPair synchronousKeyPair() throws Exception {
+        return Certutil.generateSelfSignedCertificate(SUBJECT, null, Certutil.generateKeyPair(algorithm, 2048));
+    }
+
+    @Benchmark
+    public Certutil.CertKeyPair pooledKeyPair() throws Exception {
+        return Certutil.generateSelfSignedCertificate(SUBJECT, null, keyPairPool.take());
+    }
+
+}
@@ -20,7 +20,6 @@
 
 package org.eclipse.tractusx.autosetup.apiproxy;
 
-import java.io.InputStream;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -29,16 +28,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
-import org.apache.commons.text.StringSubstitutor;
-import org.eclipse.tractusx.autosetup.exception.ServiceException;
 import org.eclipse.tractusx.autosetup.model.Customer;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.MappingJsonFactory;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
@@ -51,6 +46,19 @@ public class EDCProxyService {
 
 	private final EDCApiProxy eDCApiProxy;
 
+	private EDCRequestTemplate assetRequestFilterTemplate;
+	private EDCRequestTemplate assetTemplate;
+	private EDCRequestTemplate policyTemplate;
+	private EDCRequestTemplate contractDefinationTemplate;
+
+	@PostConstruct
+	public void loadTemplates() {
+		assetRequestFilterTemplate = EDCRequestTemplate.load("/edc-request-template/asset-request-filter.json");
+		assetTemplate = EDCRequestTemplate.load("/edc-request-template/asset.json");
+		policyTemplate = EDCRequestTemplate.load("/edc-request-template/policy.json");
+		contractDefinationTemplate = EDCRequestTemplate.load("/edc-request-template/contract-defination.json");
+	}
+
 	private Map<String, String> requestHeader(Map<String, String> inputData) {
 		Map<String, String> header = new HashMap<>();
 		header.put(inputData.get("edcApiKey"), inputData.get("edcApiKeyValue"));
@@ -60,8 +68,7 @@ public class EDCProxyService {
 	@SneakyThrows
 	public List<Object> getAssets(Customer customerDetails, Map<String, String> inputData) {
 		String dataURL = inputData.get(CONTROL_PLANE_DATA_ENDPOINT);
-		String readValueAsTree = getSchemaFromFile("/edc-request-template/asset-request-filter.json");
-		ObjectNode requestBody = (ObjectNode) new ObjectMapper().readTree(readValueAsTree);
+		ObjectNode requestBody = assetRequestFilterTemplate.render(inputData);
 		return eDCApiProxy.getAssets(new URI(dataURL), requestHeader(inputData), requestBody);
 	}
 
@@ -75,9 +82,7 @@ public class EDCProxyService {
 		String date = localdate.format(DateTimeFormatter.ofPattern(DATE_FORMATTER));
 		inputData.put("createdDate", date);
 		inputData.put("updateDate", date);
-		String readValueAsTree = getSchemaFromFile("/edc-request-template/asset.json");
-		String jsonString = valueReplacer(readValueAsTree, inputData);
-		ObjectNode json = (ObjectNode) new ObjectMapper().readTree(jsonString);
+		ObjectNode json = assetTemplate.render(inputData);
 		eDCApiProxy.createAsset(new URI(dataURL), requestHeader(inputData), json);
 
 		return uId;
@@ -88,9 +93,7 @@ public class EDCProxyService {
 		String uId = UUID.randomUUID().toString();
 		inputData.put("policyId", uId);
 		String dataURL = inputData.get(CONTROL_PLANE_DATA_ENDPOINT);
-		String readValueAsTree = getSchemaFromFile("/edc-request-template/policy.json");
-		String jsonString = valueReplacer(readValueAsTree, inputData);
-		ObjectNode json = (ObjectNode) new ObjectMapper().readTree(jsonString);
+		ObjectNode json = policyTemplate.render(inputData);
 		eDCApiProxy.createPolicy(new URI(dataURL), requestHeader(inputData), json);
 		return uId;
 	}
@@ -99,42 +102,10 @@ public class EDCProxyService {
 	public String createContractDefination(Customer customerDetails, Map<String, String> inputData) {
 		String uId = UUID.randomUUID().toString();
 		inputData.put("contractPolicyId", uId);
-		String readValueAsTree = getSchemaFromFile("/edc-request-template/contract-defination.json");
-		String jsonString = valueReplacer(readValueAsTree, inputData);
+		ObjectNode json = contractDefinationTemplate.render(inputData);
 		String dataURL = inputData.get(CONTROL_PLANE_DATA_ENDPOINT);
-		ObjectNode json = (ObjectNode) new ObjectMapper().readTree(jsonString);
 		eDCApiProxy.createContractDefination(new URI(dataURL), requestHeader(inputData), json);
 		return uId;
 	}
 
-	@SneakyThrows
-	private String getSchemaFromFile(String schemaFile) {
-		JsonParser createParser = null;
-		String schema = null;
-		try {
-			MappingJsonFactory jf = new MappingJsonFactory();
-			InputStream jsonFile = this.getClass().getResourceAsStream(schemaFile);
-
-			if (jsonFile == null) {
-				// this is how we load file within editor (eg eclipse)
-				jsonFile = this.getClass().getClassLoader().getResourceAsStream(schemaFile);
-			}
-			createParser = jf.createParser(jsonFile);
-			schema = createParser.readValueAsTree().toString();
-			if (schema == null) {
-				throw new ServiceException("The schema for EDC asset creation is null " + schemaFile);
-			}
-
-			return schema;
-		} finally {
-			if (createParser != null)
-				createParser.close();
-		}
-	}
-
-	private String valueReplacer(String requestTemplate, Map<String, String> inputData) {
-		StringSubstitutor stringSubstitutor1 = new StringSubstitutor(inputData);
-		return stringSubstitutor1.replace(requestTemplate);
-	}
-
 }
@@ -0,0 +1,102 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.apiproxy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.tractusx.autosetup.exception.ServiceException;
+import org.eclipse.tractusx.autosetup.utility.ConfigurationTemplate;
+import org.eclipse.tractusx.autosetup.utility.JsonUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// EDC request body parsed once, text values containing ${...} are substitution slots
+// and every other node is shared between rendered requests
+final class EDCRequestTemplate {
+
+	private final ObjectNode template;
+	private final Map<JsonNode, ConfigurationTemplate> slots = new IdentityHashMap<>();
+
+	private EDCRequestTemplate(ObjectNode template) {
+		this.template = template;
+		collectSlots(template);
+	}
+
+	static EDCRequestTemplate load(String resource) {
+		try (InputStream jsonFile = EDCRequestTemplate.class.getResourceAsStream(resource)) {
+			if (jsonFile == null)
+				throw new ServiceException("The EDC request template is missing " + resource);
+			return new EDCRequestTemplate((ObjectNode) JsonUtil.MAPPER.readTree(jsonFile));
+		} catch (IOException e) {
+			throw new ServiceException("The EDC request template is invalid " + resource + " " + e.getMessage());
+		}
+	}
+
+	// Values are set as JSON text so they are escaped instead of being spliced into the document
+	ObjectNode render(Map<String, String> values) {
+		return (ObjectNode) render(template, values);
+	}
+
+	int getSlotCount() {
+		return slots.size();
+	}
+
+	private JsonNode render(JsonNode node, Map<String, String> values) {
+
+		if (node.isObject()) {
+			ObjectNode rendered = JsonNodeFactory.instance.objectNode();
+			Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				rendered.set(field.getKey(), render(field.getValue(), values));
+			}
+			return rendered;
+		}
+
+		if (node.isArray()) {
+			ArrayNode rendered = JsonNodeFactory.instance.arrayNode(node.size());
+			node.forEach(element -> rendered.add(render(element, values)));
+			return rendered;
+		}
+
+		ConfigurationTemplate slot = slots.get(node);
+		return slot == null ? node : JsonNodeFactory.instance.textNode(slot.render(values::get, new HashSet<>()));
+	}
+
+	private void collectSlots(JsonNode node) {
+		if (node.isContainerNode()) {
+			node.forEach(this::collectSlots);
+		} else if (node.isTextual()) {
+			ConfigurationTemplate slot = ConfigurationTemplate.compile(node.textValue());
+			if (slot.getVariableCount() > 0)
+				slots.put(node, slot);
+		}
+	}
+
+}
@@ -23,7 +23,6 @@ import java.util.Properties;
 
 import javax.mail.PasswordAuthentication;
 import javax.mail.Session;
-import javax.mail.internet.MimeMessage;
 
 import org.eclipse.tractusx.autosetup.constant.EmailConfigurationProperty;
 import org.springframework.context.annotation.Bean;
@@ -37,16 +36,15 @@ public class EmailConfiguration {
 
 	private final EmailConfigurationProperty emailConfigurationProperty;
 
+    // Shared by all senders, every email builds its own message from it
     @Bean
-    public MimeMessage mimeMessage() {
-       
-    	Session session = Session.getInstance(properties(), new javax.mail.Authenticator() {
+    public Session mailSession() {
+        return Session.getInstance(properties(), new javax.mail.Authenticator() {
             @Override
             protected PasswordAuthentication getPasswordAuthentication() {
                 return new PasswordAuthentication(emailConfigurationProperty.getUsername(), emailConfigurationProperty.getPassword());
             }
         });
-        return new MimeMessage(session);
     }
 
     @Bean
@@ -57,6 +55,10 @@ public class EmailConfiguration {
         props.put("mail.smtp.port", emailConfigurationProperty.getPort());
         props.put("mail.smtp.starttls.enable", emailConfigurationProperty.getStartTlsEnable());
         props.put("mail.smtp.auth", emailConfigurationProperty.getAuth());
+        // without timeouts a stalled server keeps a sender thread forever
+        props.put("mail.smtp.connectiontimeout", emailConfigurationProperty.getConnectionTimeoutMs());
+        props.put("mail.smtp.timeout", emailConfigurationProperty.getReadTimeoutMs());
+        props.put("mail.smtp.writetimeout", emailConfigurationProperty.getWriteTimeoutMs());
         return props;
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration.HttpClientBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FeignHttpClientConfiguration {
+
+	// Pool size, TTL and timeouts come from spring.cloud.openfeign.httpclient.*,
+	// response gzip decompression is on by default in HttpClient 5
+	@Bean
+	public HttpClientBuilderCustomizer keepAliveHttpClientBuilderCustomizer(
+			@Value("${http.client.keep-alive-seconds:30}") long keepAliveSeconds,
+			@Value("${http.client.idle-eviction-seconds:60}") long idleEvictionSeconds) {
+
+		TimeValue maxKeepAlive = TimeValue.of(keepAliveSeconds, TimeUnit.SECONDS);
+
+		return builder -> builder.setKeepAliveStrategy((response, context) -> {
+			TimeValue offered = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			return TimeValue.isPositive(offered) && offered.compareTo(maxKeepAlive) < 0 ? offered : maxKeepAlive;
+		}).evictIdleConnections(TimeValue.of(idleEvictionSeconds, TimeUnit.SECONDS));
+	}
+
+}
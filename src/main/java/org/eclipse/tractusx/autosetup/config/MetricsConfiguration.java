@@ -0,0 +1,72 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.config;
+
+import org.eclipse.tractusx.autosetup.service.AutoSetupWorkflowExecutor;
+import org.eclipse.tractusx.autosetup.utility.HttpConnectionPoolMonitor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+public class MetricsConfiguration {
+
+	// Same values as /internal/statistics/workflow-executor, read on scrape
+	@Bean
+	public MeterBinder workflowExecutorMetrics(AutoSetupWorkflowExecutor autoSetupWorkflowExecutor) {
+		return registry -> {
+			Gauge.builder("autosetup.workflow.active", autoSetupWorkflowExecutor,
+					executor -> executor.getStatistics().getActive())
+					.description("Workflows in flight").register(registry);
+			Gauge.builder("autosetup.workflow.queued", autoSetupWorkflowExecutor,
+					executor -> executor.getStatistics().getQueued())
+					.description("Workflows waiting for a free worker").register(registry);
+			Gauge.builder("autosetup.workflow.deferred", autoSetupWorkflowExecutor,
+					executor -> executor.getStatistics().getDeferred())
+					.description("Workflows deferred until capacity is available").register(registry);
+			FunctionCounter.builder("autosetup.workflow.completed", autoSetupWorkflowExecutor,
+					executor -> executor.getStatistics().getCompleted()).register(registry);
+			FunctionCounter.builder("autosetup.workflow.failed", autoSetupWorkflowExecutor,
+					executor -> executor.getStatistics().getFailed()).register(registry);
+			FunctionCounter.builder("autosetup.workflow.rejected", autoSetupWorkflowExecutor,
+					executor -> executor.getStatistics().getRejected()).register(registry);
+		};
+	}
+
+	@Bean
+	public MeterBinder httpConnectionPoolMetrics(HttpConnectionPoolMonitor httpConnectionPoolMonitor) {
+		return registry -> {
+			Gauge.builder("autosetup.http.client.pool.leased", httpConnectionPoolMonitor,
+					monitor -> monitor.getStatistics().getLeased())
+					.description("Downstream connections in use").register(registry);
+			Gauge.builder("autosetup.http.client.pool.pending", httpConnectionPoolMonitor,
+					monitor -> monitor.getStatistics().getPending())
+					.description("Downstream calls waiting for a connection").register(registry);
+			Gauge.builder("autosetup.http.client.pool.available", httpConnectionPoolMonitor,
+					monitor -> monitor.getStatistics().getAvailable())
+					.description("Idle downstream connections").register(registry);
+		};
+	}
+
+}
@@ -47,6 +47,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.SneakyThrows;
 
 @Configuration
@@ -57,9 +58,14 @@ public class SecurityConfig {
 	private static final String[] PUBLIC_URL = { "/ping", "/*/public/**", "/api-docs/**", "/swagger-ui/**",
 			"*/swagger-ui/**", "/actuator/health/readiness", "/actuator/health/liveness", "/v3/api-docs/**" };
 
+	private static final String METRICS_URL = "/actuator/prometheus";
+
 	@Value("${keycloak.clientid}")
 	private String resourceName;
 
+	@Value("${management.server.port:-1}")
+	private int managementPort;
+
 	public interface Jwt2AuthoritiesConverter extends Converter<Jwt, Collection<? extends GrantedAuthority>> {
 	}
 
@@ -118,6 +124,7 @@ public class SecurityConfig {
 		// @formatter:off
         http.authorizeHttpRequests(authz -> authz
         		.requestMatchers(PUBLIC_URL).permitAll()
+        		.requestMatchers(request -> isMetricsScrape(request, serverProperties)).permitAll()
                 .anyRequest().authenticated());
             
         // @formatter:on
@@ -129,6 +136,12 @@ public class SecurityConfig {
 		return http.build();
 	}
 
+	// Metrics are only public on a separate management port, which is not exposed through the service
+	private boolean isMetricsScrape(HttpServletRequest request, ServerProperties serverProperties) {
+		return managementPort > 0 && !Integer.valueOf(managementPort).equals(serverProperties.getPort())
+				&& request.getLocalPort() == managementPort && METRICS_URL.equals(request.getRequestURI());
+	}
+
 	@Bean
 	protected CorsConfigurationSource corsConfigurationSource() {
 		// Very permissive CORS config...
@@ -53,4 +53,13 @@ public class EmailConfigurationProperty {
 	@Value("${mail.replyto.address}")
 	private String replytoAddress;
 
+	@Value("${mail.smtp.connection-timeout-ms:10000}")
+	private String connectionTimeoutMs;
+
+	@Value("${mail.smtp.read-timeout-ms:30000}")
+	private String readTimeoutMs;
+
+	@Value("${mail.smtp.write-timeout-ms:30000}")
+	private String writeTimeoutMs;
+
 }
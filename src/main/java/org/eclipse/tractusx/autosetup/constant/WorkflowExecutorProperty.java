@@ -0,0 +1,55 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.constant;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "workflow.executor")
+@Configuration
+@Data
+public class WorkflowExecutorProperty {
+
+	// Number of workflows executed in parallel
+	private int concurrency = 5;
+
+	// Workflows waiting for a free worker before the overflow policy applies
+	private int queueCapacity = 25;
+
+	private WorkflowOverflowPolicy overflowPolicy = WorkflowOverflowPolicy.REJECT;
+
+	// Only used with the DEFER policy, beyond this limit requests are rejected
+	private int deferredCapacity = 100;
+
+	private long retryAfterSeconds = 60;
+
+	// Time given to running and queued workflows to finish on shutdown
+	private long drainTimeoutSeconds = 120;
+
+	// Requires the java21 build profile, each workflow then runs on its own virtual thread
+	private boolean virtualThreads = false;
+
+	// Steps of one workflow without data dependency between them run concurrently
+	private boolean parallelSteps = true;
+
+}
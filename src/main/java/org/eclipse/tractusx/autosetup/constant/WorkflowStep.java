@@ -0,0 +1,80 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.constant;
+
+import java.util.Set;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WorkflowStep {
+
+	PORTAL("PostServiceInstanceResultAndGetTenantSpecs", Set.of(),
+			Set.of("applicationURL", "dimClientId", "dimClientSecret", "keycloakAuthenticationClientId",
+					"keycloakAuthenticationClientSecret", "keycloakResourceClient")),
+
+	CERTIFICATE("CERTIFICATE", Set.of(), Set.of("dapsclientid", "selfsigncertificate", "selfsigncertificateprivatekey")),
+
+	VAULT("VAULT",
+			Set.of("selfsigncertificate", "selfsigncertificateprivatekey", "dimClientSecret",
+					"keycloakAuthenticationClientSecret"),
+			Set.of("vaulturl", "vaulttoken", "valuttenantpath", "vaulttimeout", "daps-cert", "certificate-private-key",
+					"encryptionkeys", "dim-client-secret", "client-secret", "certificate-data-plane-private-key",
+					"certificate-data-plane-public-key")),
+
+	EDC_PACKAGE("EDC_CONNECTOR",
+			Set.of("dimClientId", "keycloakAuthenticationClientId", "vaulturl", "vaulttoken", "valuttenantpath",
+					"daps-cert", "certificate-private-key", "encryptionkeys", "dim-client-secret",
+					"certificate-data-plane-private-key", "certificate-data-plane-public-key"),
+			Set.of("controlPlaneEndpoint", "controlPlaneDataEndpoint", "controlPlaneIdsEndpoint",
+					"controlPlaneValidationEndpoint", "dataPlanePublicEndpoint", "dataPlanePublicUrl",
+					"dataplaneendpoint", "edcApiKey", "edcApiKeyValue", "edcdatabaseurl", "postgresPassword",
+					"username", "appdbpass", "dftAddress")),
+
+	CONNECTOR_REGISTRATION("CONNECTOR-REGISTER", Set.of("controlPlaneEndpoint", "selfsigncertificate"),
+			Set.of("connectorId", "connectorstatus")),
+
+	// connectorId is not read by the test, it orders the test after the registration of the connector
+	CONNECTOR_TEST("CONNECTOR_TEST_SERVICE", Set.of("controlPlaneEndpoint", "edcApiKey", "edcApiKeyValue", "connectorId"),
+			Set.of("connectorTestResult", "testServiceURL")),
+
+	DT("DT_REGISTRY", Set.of(),
+			Set.of("dtregistryUrl", "dtregistryUrlPrefix", "dtregistryURI", "dtregistryUrlWithURI",
+					"dtNeedExternalAccess", "idpClientId", "idpIssuerUri", "rgdatabase", "rgdbpass", "rgusername",
+					"tenantId")),
+
+	SDE("SDE",
+			Set.of("keycloakAuthenticationClientId", "keycloakAuthenticationClientSecret", "keycloakResourceClient",
+					"dtregistryUrl", "dtregistryUrlPrefix", "dtregistryURI", "controlPlaneEndpoint",
+					"dataPlanePublicEndpoint", "edcApiKey", "edcApiKeyValue", "postgresPassword", "username"),
+			Set.of("sdeBackEndUrl", "sdeFrontEndUrl", "sdeBackEndApiKey", "sdeBackEndApiKeyHeader", "database",
+					"manufacturerId"));
+
+	// step name the managers record in auto_setup_trigger_details_tbl
+	private final String detailStep;
+
+	// inputConfiguration keys the step reads from and writes to, a step depends on every step producing one of its inputs
+	private final Set<String> inputs;
+
+	private final Set<String> outputs;
+}
@@ -20,20 +20,35 @@
 
 package org.eclipse.tractusx.autosetup.controller;
 
+import java.io.IOException;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.eclipse.tractusx.autosetup.exception.NoDataFoundException;
 import org.eclipse.tractusx.autosetup.manager.AutoSetupTriggerManager;
+import org.eclipse.tractusx.autosetup.manager.TriggerStatusNotifier;
 import org.eclipse.tractusx.autosetup.model.AutoSetupRequest;
 import org.eclipse.tractusx.autosetup.model.AutoSetupResponse;
+import org.eclipse.tractusx.autosetup.model.TriggerStatusEvent;
 import org.eclipse.tractusx.autosetup.service.AutoSetupOrchitestratorService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -53,6 +68,19 @@ public class AutoSetupHandlerController {
 	@Autowired
 	private AutoSetupTriggerManager autoSetupTriggerManager;
 
+	@Autowired
+	private TriggerStatusNotifier triggerStatusNotifier;
+
+	@Autowired
+	@Qualifier("applicationTaskExecutor")
+	private AsyncTaskExecutor taskExecutor;
+
+	@Value("${trigger.status.long-poll-timeout-ms:25000}")
+	private long longPollTimeoutMs;
+
+	@Value("${trigger.status.sse-timeout-ms:600000}")
+	private long sseTimeoutMs;
+
 	/// internal access
 	@GetMapping("/internal")
 	public String getAllInstallPackages() {
@@ -62,30 +90,36 @@ public class AutoSetupHandlerController {
 	// portal access
 	@Operation(summary = "Start autosetup process", description = "This API will use to start the Auto setup process")
 	@ApiResponses(value = {
-			@ApiResponse(responseCode = "200", description = "Created", content = @Content(schema = @Schema(implementation = UUID.class))) })
+			@ApiResponse(responseCode = "200", description = "Created", content = @Content(schema = @Schema(implementation = UUID.class))),
+			@ApiResponse(responseCode = "202", description = "Accepted, execution deferred until capacity is available", content = @Content(schema = @Schema(implementation = UUID.class))),
+			@ApiResponse(responseCode = "429", description = "Too many executions in progress, retry after the given seconds") })
 	@PostMapping("/autosetup")
-	public String createPackage(@Valid @RequestBody AutoSetupRequest autoSetupRequest) {
-		return appHandlerService.createPackage(autoSetupRequest);
+	public ResponseEntity<String> createPackage(@Valid @RequestBody AutoSetupRequest autoSetupRequest) {
+		return executionResponse(appHandlerService.createPackage(autoSetupRequest));
 	}
 
 	// portal access
 	@Operation(summary = "Update existing autosetup packages", description = "This API will use to update the existing packages created by the Auto setup process")
 	@ApiResponses(value = {
-			@ApiResponse(responseCode = "200", description = "Updated", content = @Content(schema = @Schema(implementation = UUID.class))) })
+			@ApiResponse(responseCode = "200", description = "Updated", content = @Content(schema = @Schema(implementation = UUID.class))),
+			@ApiResponse(responseCode = "202", description = "Accepted, execution deferred until capacity is available", content = @Content(schema = @Schema(implementation = UUID.class))),
+			@ApiResponse(responseCode = "429", description = "Too many executions in progress, retry after the given seconds") })
 
 	@PutMapping("/autosetup/{executionId}")
-	public String updatePackage(@PathVariable("executionId") UUID executionId,
+	public ResponseEntity<String> updatePackage(@PathVariable("executionId") UUID executionId,
 			@RequestBody @Valid AutoSetupRequest autoSetupRequest) {
-		return appHandlerService.updatePackage(autoSetupRequest, executionId.toString());
+		return executionResponse(appHandlerService.updatePackage(autoSetupRequest, executionId.toString()));
 	}
 
 	// portal access
 	@Operation(summary = "Delete autosetup packages", description = "This API will use to delete the existing packages created by the Auto setup process")
 	@ApiResponses(value = {
-			@ApiResponse(responseCode = "200", description = "Deleted", content = @Content(schema = @Schema(implementation = UUID.class))) })
+			@ApiResponse(responseCode = "200", description = "Deleted", content = @Content(schema = @Schema(implementation = UUID.class))),
+			@ApiResponse(responseCode = "202", description = "Accepted, execution deferred until capacity is available", content = @Content(schema = @Schema(implementation = UUID.class))),
+			@ApiResponse(responseCode = "429", description = "Too many executions in progress, retry after the given seconds") })
 	@DeleteMapping("/autosetup/{executionId}")
-	public String deletePackage(@PathVariable("executionId") UUID executionId) {
-		return appHandlerService.deletePackage(executionId.toString());
+	public ResponseEntity<String> deletePackage(@PathVariable("executionId") UUID executionId) {
+		return executionResponse(appHandlerService.deletePackage(executionId.toString()));
 	}
 
 	// portal access
@@ -93,7 +127,105 @@ public class AutoSetupHandlerController {
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = AutoSetupResponse.class))) })
 	@GetMapping("/autosetup/{executionId}")
-	public AutoSetupResponse getCheckDetails(@PathVariable("executionId") UUID executionId) {
-		return autoSetupTriggerManager.getCheckDetails(executionId.toString());
+	public ResponseEntity<AutoSetupResponse> getCheckDetails(@PathVariable("executionId") UUID executionId) {
+		String triggerId = executionId.toString();
+		TriggerStatusEvent status = autoSetupTriggerManager.getTriggerStatus(triggerId);
+		AutoSetupResponse response = autoSetupTriggerManager.getCheckDetails(triggerId);
+		if (status == null)
+			return ResponseEntity.ok(response);
+		return ResponseEntity.ok().eTag(status.getVersion()).body(response);
+	}
+
+	// portal access
+	@Operation(summary = "Wait for Auto setup execution status change", description = "Long poll of the execution status, answers as soon as the status differs from the ETag sent in If-None-Match "
+			+ "or with 304 once the wait time passed without change")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = AutoSetupResponse.class))),
+			@ApiResponse(responseCode = "304", description = "Not modified within the wait time") })
+	@GetMapping(value = "/autosetup/{executionId}", headers = HttpHeaders.IF_NONE_MATCH)
+	public DeferredResult<ResponseEntity<AutoSetupResponse>> waitForCheckDetails(
+			@PathVariable("executionId") UUID executionId,
+			@RequestHeader(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+		String triggerId = executionId.toString();
+		TriggerStatusEvent current = getTriggerStatus(triggerId);
+		DeferredResult<ResponseEntity<AutoSetupResponse>> result = new DeferredResult<>(longPollTimeoutMs);
+		if (!matchesETag(ifNoneMatch, current.getVersion())) {
+			result.setResult(checkDetailsResponse(triggerId, current));
+			return result;
+		}
+
+		result.onTimeout(
+				() -> result.setResult(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current.getVersion()).build()));
+		// the notifier thread only hands the event over, the response is read on an async request thread
+		Runnable unsubscribe = triggerStatusNotifier.subscribe(triggerId, current.getVersion(),
+				event -> taskExecutor.execute(() -> {
+					if (!result.isSetOrExpired())
+						result.setResult(checkDetailsResponse(triggerId, event));
+				}));
+		result.onCompletion(unsubscribe);
+		return result;
+	}
+
+	// portal access
+	@Operation(summary = "Stream Auto setup execution status", description = "Server sent events with the current status and every status or step change of the execution, "
+			+ "the stream ends once the execution succeeded or failed")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = TriggerStatusEvent.class))) })
+	@GetMapping(value = "/autosetup/{executionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamCheckDetails(@PathVariable("executionId") UUID executionId,
+			@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+		String triggerId = executionId.toString();
+		TriggerStatusEvent current = getTriggerStatus(triggerId);
+		SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+		emitter.onTimeout(emitter::complete);
+
+		// a reconnecting client that already saw the current version only gets later changes
+		if (!current.getVersion().equals(lastEventId))
+			sendStatus(emitter, current);
+		else if (current.isFinished())
+			emitter.complete();
+
+		// subscribed after the current status went out, changes in between are found by the notifier's poll
+		if (!current.isFinished())
+			emitter.onCompletion(triggerStatusNotifier.subscribe(triggerId, current.getVersion(),
+					event -> sendStatus(emitter, event)));
+		return emitter;
+	}
+
+	private TriggerStatusEvent getTriggerStatus(String triggerId) {
+		return Optional.ofNullable(autoSetupTriggerManager.getTriggerStatus(triggerId))
+				.orElseThrow(() -> new NoDataFoundException("No data found for " + triggerId));
+	}
+
+	private ResponseEntity<AutoSetupResponse> checkDetailsResponse(String triggerId, TriggerStatusEvent status) {
+		return ResponseEntity.ok().eTag(status.getVersion()).body(autoSetupTriggerManager.getCheckDetails(triggerId));
+	}
+
+	private static void sendStatus(SseEmitter emitter, TriggerStatusEvent event) {
+		try {
+			emitter.send(SseEmitter.event().id(event.getVersion()).name("status").data(event,
+					MediaType.APPLICATION_JSON));
+			if (event.isFinished())
+				emitter.complete();
+		} catch (IOException | IllegalStateException e) {
+			emitter.completeWithError(e);
+		}
+	}
+
+	private static boolean matchesETag(String ifNoneMatch, String version) {
+		for (String tag : ifNoneMatch.split(",")) {
+			String value = tag.trim();
+			if (value.startsWith("W/"))
+				value = value.substring(2);
+			if ("*".equals(value) || ("\"" + version + "\"").equals(value) || version.equals(value))
+				return true;
+		}
+		return false;
+	}
+
+	private ResponseEntity<String> executionResponse(String executionId) {
+		if (appHandlerService.isDeferred(executionId))
+			return ResponseEntity.accepted().body(executionId);
+		return ResponseEntity.ok(executionId);
 	}
 }
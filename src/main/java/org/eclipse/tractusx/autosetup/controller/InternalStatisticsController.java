@@ -0,0 +1,120 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.controller;
+
+import org.eclipse.tractusx.autosetup.model.AppDetailsCacheStatistics;
+import org.eclipse.tractusx.autosetup.model.HttpConnectionPoolStatistics;
+import org.eclipse.tractusx.autosetup.model.KeyPairPoolStatistics;
+import org.eclipse.tractusx.autosetup.model.ServiceCatalogCacheStatistics;
+import org.eclipse.tractusx.autosetup.model.TokenCacheStatistics;
+import org.eclipse.tractusx.autosetup.model.WorkflowExecutorStatistics;
+import org.eclipse.tractusx.autosetup.service.AppDetailsCache;
+import org.eclipse.tractusx.autosetup.service.AutoSetupWorkflowExecutor;
+import org.eclipse.tractusx.autosetup.service.ServiceCatalogCache;
+import org.eclipse.tractusx.autosetup.utility.HttpConnectionPoolMonitor;
+import org.eclipse.tractusx.autosetup.utility.KeyCloakTokenProxyUtitlity;
+import org.eclipse.tractusx.autosetup.utility.KeyPairPool;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+@RestController
+public class InternalStatisticsController {
+
+	@Autowired
+	private AutoSetupWorkflowExecutor autoSetupWorkflowExecutor;
+
+	@Autowired
+	private KeyCloakTokenProxyUtitlity keyCloakTokenProxyUtitlity;
+
+	@Autowired
+	private HttpConnectionPoolMonitor httpConnectionPoolMonitor;
+
+	@Autowired
+	private KeyPairPool keyPairPool;
+
+	@Autowired
+	private AppDetailsCache appDetailsCache;
+
+	@Autowired
+	private ServiceCatalogCache serviceCatalogCache;
+
+	/// internal access
+	@Operation(summary = "Workflow executor statistics", description = "This will fetch the active, queued, deferred and completed workflow counts of this instance")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = WorkflowExecutorStatistics.class))) })
+	@GetMapping("/internal/statistics/workflow-executor")
+	public WorkflowExecutorStatistics getWorkflowExecutorStatistics() {
+		return autoSetupWorkflowExecutor.getStatistics();
+	}
+
+	/// internal access
+	@Operation(summary = "Keycloak token cache statistics", description = "This will fetch the cached client credential tokens count and the hit, miss and background refresh counters of this instance")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = TokenCacheStatistics.class))) })
+	@GetMapping("/internal/statistics/token-cache")
+	public TokenCacheStatistics getTokenCacheStatistics() {
+		return keyCloakTokenProxyUtitlity.getStatistics();
+	}
+
+	/// internal access
+	@Operation(summary = "Outbound HTTP connection pool statistics", description = "This will fetch the leased, available and pending connections of the shared Feign client pool, in total and per downstream route")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = HttpConnectionPoolStatistics.class))) })
+	@GetMapping("/internal/statistics/http-client")
+	public HttpConnectionPoolStatistics getHttpConnectionPoolStatistics() {
+		return httpConnectionPoolMonitor.getStatistics();
+	}
+
+	/// internal access
+	@Operation(summary = "Certificate key pair pool statistics", description = "This will fetch the available pre-generated key pairs and how many certificates used a pooled or a synchronously generated key pair")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = KeyPairPoolStatistics.class))) })
+	@GetMapping("/internal/statistics/key-pool")
+	public KeyPairPoolStatistics getKeyPairPoolStatistics() {
+		return keyPairPool.getStatistics();
+	}
+
+	/// internal access
+	@Operation(summary = "App details cache statistics", description = "This will fetch the cached app details count and the hit, miss and invalidation counters of this instance")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = AppDetailsCacheStatistics.class))) })
+	@GetMapping("/internal/statistics/app-details-cache")
+	public AppDetailsCacheStatistics getAppDetailsCacheStatistics() {
+		return appDetailsCache.getStatistics();
+	}
+
+	/// internal access
+	@Operation(summary = "Service catalog cache statistics", description = "This will fetch the cached service ids count, the hit, miss and reload counters and the last load time of this instance")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = ServiceCatalogCacheStatistics.class))) })
+	@GetMapping("/internal/statistics/service-catalog-cache")
+	public ServiceCatalogCacheStatistics getServiceCatalogCacheStatistics() {
+		return serviceCatalogCache.getStatistics();
+	}
+
+}
@@ -20,14 +20,35 @@
 
 package org.eclipse.tractusx.autosetup.controller;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
 import java.util.List;
 
+import org.eclipse.tractusx.autosetup.constant.AppActions;
 import org.eclipse.tractusx.autosetup.manager.AutoSetupTriggerManager;
+import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerFilter;
+import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerPage;
 import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerResponse;
+import org.eclipse.tractusx.autosetup.model.StepLatency;
+import org.eclipse.tractusx.autosetup.model.TriggerTimeline;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -42,13 +63,42 @@ public class TriggerDetailsController {
 	@Autowired
 	private AutoSetupTriggerManager autoSetupTriggerManager;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
 	/// internal access
-	@Operation(summary = "Fetch all the orchestrator requests", description = "This will fetch all orchestrator request and their details")
+	@Operation(summary = "Fetch the orchestrator requests page wise", description = "This will fetch orchestrator requests newest first, filtered by status, organization, service and creation time. "
+			+ "Request, result and step details are only loaded when listed in include. The nextCursor of a page is passed as cursor to fetch the following page")
 	@ApiResponses(value = {
-			@ApiResponse(responseCode = "200", description = "OK", content = @Content(array = @ArraySchema(schema = @Schema(implementation = AutoSetupTriggerResponse.class)))) })
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = AutoSetupTriggerPage.class))),
+			@ApiResponse(responseCode = "400", description = "Invalid cursor or limit") })
 	@GetMapping("/internal/trigger")
-	public List<AutoSetupTriggerResponse> getAllTriggers() {
-		return autoSetupTriggerManager.getAllTriggers();
+	public AutoSetupTriggerPage getTriggers(@ParameterObject AutoSetupTriggerFilter filter,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "limit", defaultValue = "50") int limit) {
+		return autoSetupTriggerManager.getTriggers(filter, cursor, limit);
+	}
+
+	/// internal access
+	@Operation(summary = "Export the orchestrator requests", description = "This will stream all orchestrator requests matching the filter as newline delimited JSON, one request per line")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = AutoSetupTriggerResponse.class))) })
+	@GetMapping(value = "/internal/trigger/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportTriggers(@ParameterObject AutoSetupTriggerFilter filter) {
+		ObjectWriter writer = objectMapper.writerFor(AutoSetupTriggerResponse.class);
+		StreamingResponseBody body = outputStream -> {
+			Writer output = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+			autoSetupTriggerManager.streamTriggers(filter, trigger -> {
+				try {
+					output.write(writer.writeValueAsString(trigger));
+					output.write('\n');
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			output.flush();
+		};
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
 	}
 
 	/// internal access
@@ -59,6 +109,31 @@ public class TriggerDetailsController {
 	public AutoSetupTriggerResponse getTriggerDetails(@PathVariable("triggerId") String triggerId) {
 		return autoSetupTriggerManager.getTriggerDetails(triggerId);
 	}
+
+	/// internal access
+	@Operation(summary = "Fetch the step timeline of an orchestrator request", description = "This will fetch every attempt of every step of the request with its start, end, duration and attempt number, "
+			+ "offsetMs is the start of the attempt relative to the creation of the request")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = TriggerTimeline.class))),
+			@ApiResponse(responseCode = "404", description = "Request not found") })
+	@GetMapping("/internal/trigger/{triggerId}/timeline")
+	public TriggerTimeline getTriggerTimeline(@PathVariable("triggerId") String triggerId) {
+		return autoSetupTriggerManager.getTriggerTimeline(triggerId);
+	}
+
+	/// internal access
+	@Operation(summary = "Fetch step duration percentiles", description = "This will aggregate the durations of all step attempts started between from and to per step, "
+			+ "without from the configured window up to now is used. Failed and retried attempts are counted as well")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "OK", content = @Content(array = @ArraySchema(schema = @Schema(implementation = StepLatency.class)))),
+			@ApiResponse(responseCode = "400", description = "Invalid time range") })
+	@GetMapping("/internal/trigger/step-latency")
+	public List<StepLatency> getStepLatency(
+			@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+			@RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+			@RequestParam(value = "action", required = false) AppActions action) {
+		return autoSetupTriggerManager.getStepLatency(from, to, action);
+	}
 	
 
 }
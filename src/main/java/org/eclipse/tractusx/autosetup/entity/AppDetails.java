@@ -26,6 +26,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 
+import org.eclipse.persistence.annotations.Cache;
+import org.eclipse.persistence.config.CacheIsolationType;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -37,6 +40,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Entity
 @Table(name = "app_tbl")
+@Cache(isolation = CacheIsolationType.ISOLATED)
 public class AppDetails {
 
 	@Id
@@ -76,5 +80,8 @@ public class AppDetails {
 	@Lob 
 	@Column(name = "yaml_value_field_type")
 	private String yamlValueFieldType;
+
+	@Column(name = "revision", insertable = false, updatable = false)
+	private Long revision;
 	
 }
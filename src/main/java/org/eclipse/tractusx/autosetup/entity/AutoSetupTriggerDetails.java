@@ -21,12 +21,17 @@
 package org.eclipse.tractusx.autosetup.entity;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 
+import org.eclipse.persistence.annotations.Cache;
+import org.eclipse.persistence.config.CacheIsolationType;
+
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
@@ -41,6 +46,8 @@ import lombok.NoArgsConstructor;
 @Data
 @Entity
 @Table(name = "auto_setup_trigger_details_tbl")
+// rows are changed by other replicas, never serve them from the shared cache
+@Cache(isolation = CacheIsolationType.ISOLATED)
 @JsonInclude(Include.NON_NULL)
 public class AutoSetupTriggerDetails {
 
@@ -63,4 +70,26 @@ public class AutoSetupTriggerDetails {
 	@Column(name = "created_date")
 	private LocalDateTime createdDate;
 
+	// set once the workflow step finished and its output is persisted with the trigger
+	@Column(name = "checkpoint")
+	private Boolean checkpoint;
+
+	// timing of this attempt of the step, the end is taken when the details are saved
+	@Column(name = "started_at")
+	private OffsetDateTime startedAt;
+
+	@Column(name = "finished_at")
+	private OffsetDateTime finishedAt;
+
+	@Column(name = "duration_ms")
+	private Long durationMs;
+
+	@Column(name = "attempt")
+	private Integer attempt;
+
+	public static AutoSetupTriggerDetails startStep(String step) {
+		return AutoSetupTriggerDetails.builder().id(UUID.randomUUID().toString()).step(step)
+				.startedAt(OffsetDateTime.now()).build();
+	}
+
 }
@@ -20,6 +20,8 @@
 
 package org.eclipse.tractusx.autosetup.entity;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,6 +33,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
+import org.eclipse.persistence.annotations.Cache;
+import org.eclipse.persistence.config.CacheIsolationType;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -46,6 +51,8 @@ import lombok.NoArgsConstructor;
 @Data
 @Entity
 @Table(name = "auto_setup_trigger_tbl")
+// rows are changed by other replicas, never serve them from the shared cache
+@Cache(isolation = CacheIsolationType.ISOLATED)
 @JsonInclude(Include.NON_NULL)
 public class AutoSetupTriggerEntry {
 
@@ -79,11 +86,21 @@ public class AutoSetupTriggerEntry {
 	@Column(name = "autosetup_result", columnDefinition = "TEXT")
 	private String autosetupResult;
 
+	@Column(name = "created_at")
+	private OffsetDateTime createdTimestamp;
+
+	@Column(name = "modified_at")
+	private OffsetDateTime modifiedTimestamp;
+
+	// The varchar columns replaced by created_at and modified_at in V13 are still written while replicas
+	// of earlier versions may run against the same database, as LocalDateTime of the application time zone
+	@JsonIgnore
 	@Column(name = "created_timestamp")
-	private String createdTimestamp;
+	private String legacyCreatedTimestamp;
 
+	@JsonIgnore
 	@Column(name = "modified_timestamp")
-	private String modifiedTimestamp;
+	private String legacyModifiedTimestamp;
 
 	@Column(name = "status")
 	private String status;
@@ -94,6 +111,49 @@ public class AutoSetupTriggerEntry {
 	@Column(name = "input_configuration", columnDefinition = "TEXT")
 	private String inputConfiguration;
 
+	// set while an update runs, the new request is only copied to autosetupRequest once the old packages are gone
+	@JsonIgnore
+	@Column(name = "pending_action")
+	private String pendingAction;
+
+	@JsonIgnore
+	@Column(name = "pending_request", columnDefinition = "TEXT")
+	private String pendingRequest;
+
+	// instance running the trigger and its last sign of life, written by targeted updates only
+	@JsonIgnore
+	@Column(name = "owner_node")
+	private String ownerNode;
+
+	@JsonIgnore
+	@Column(name = "heartbeat_at")
+	private OffsetDateTime heartbeatTimestamp;
+
+	// steps that determined the duration of the last execution, shown on its timeline
+	@JsonIgnore
+	@Column(name = "critical_path", columnDefinition = "TEXT")
+	private String criticalPath;
+
+	// raised by every update of status, steps and input configuration, the ETag of the trigger status
+	@JsonIgnore
+	@Column(name = "status_version")
+	private long statusVersion;
+
+	public void setCreatedTimestamp(OffsetDateTime createdTimestamp) {
+		this.createdTimestamp = createdTimestamp;
+		this.legacyCreatedTimestamp = toLegacyTimestamp(createdTimestamp);
+	}
+
+	public void setModifiedTimestamp(OffsetDateTime modifiedTimestamp) {
+		this.modifiedTimestamp = modifiedTimestamp;
+		this.legacyModifiedTimestamp = toLegacyTimestamp(modifiedTimestamp);
+	}
+
+	private static String toLegacyTimestamp(OffsetDateTime timestamp) {
+		return timestamp == null ? null
+				: timestamp.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime().toString();
+	}
+
 	public void addTriggerDetails(AutoSetupTriggerDetails autoSetupTriggerDetails) {
 		if (autosetupTriggerDetails == null)
 			autosetupTriggerDetails = new ArrayList<>();
@@ -0,0 +1,91 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.entity;
+
+import java.time.OffsetDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.eclipse.persistence.annotations.Cache;
+import org.eclipse.persistence.config.CacheIsolationType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Entity
+@Table(name = "auto_setup_email_outbox_tbl")
+// rows are changed by other replicas, never serve them from the shared cache
+@Cache(isolation = CacheIsolationType.ISOLATED)
+public class EmailOutboxEntry {
+
+	@Id
+	@Column(name = "email_id")
+	private String emailId;
+
+	@Column(name = "subject")
+	private String subject;
+
+	@Column(name = "to_address", columnDefinition = "TEXT")
+	private String toAddress;
+
+	@Column(name = "cc_address", columnDefinition = "TEXT")
+	private String ccAddress;
+
+	@Column(name = "template_name")
+	private String templateName;
+
+	@Column(name = "template_model", columnDefinition = "TEXT")
+	private String templateModel;
+
+	@Column(name = "status")
+	private String status;
+
+	@Column(name = "attempts")
+	private int attempts;
+
+	@Column(name = "next_attempt_at")
+	private OffsetDateTime nextAttemptAt;
+
+	@Column(name = "lease_owner")
+	private String leaseOwner;
+
+	@Column(name = "lease_until")
+	private OffsetDateTime leaseUntil;
+
+	@Column(name = "last_error", columnDefinition = "TEXT")
+	private String lastError;
+
+	@Column(name = "created_at")
+	private OffsetDateTime createdAt;
+
+	@Column(name = "sent_at")
+	private OffsetDateTime sentAt;
+
+}
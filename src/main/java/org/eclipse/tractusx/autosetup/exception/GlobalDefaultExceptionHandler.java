@@ -23,6 +23,7 @@ package org.eclipse.tractusx.autosetup.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.tractusx.autosetup.utility.JsonUtil;
 import org.eclipse.tractusx.autosetup.utility.LogUtil;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -37,7 +38,6 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import feign.FeignException;
 import lombok.extern.slf4j.Slf4j;
@@ -68,17 +68,22 @@ public class GlobalDefaultExceptionHandler extends ResponseEntityExceptionHandle
 		return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
 	}
 	
+	@ExceptionHandler(WorkflowCapacityException.class)
+	public ResponseEntity<String> handleWorkflowCapacityException(WorkflowCapacityException ex, WebRequest request) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds())).body(ex.getMessage());
+	}
+
 	@ExceptionHandler(FeignException.class)
 	public ResponseEntity<Map<String, String>> handleFeignException(FeignException ex) {
 		log.error("FeignException: " + ex.getMessage());
 		log.error("FeignException RequestBody: " + ex.request());
 		log.error("FeignException ResponseBody: " + ex.contentUTF8());
-		ObjectMapper objmap = new ObjectMapper();
 		Map<String, String> errorResponse = new HashMap<>();
 		errorResponse.put("msg", "Error in remote service execution");
 		try {
 			@SuppressWarnings("unchecked")
-			Map<String, Object> map = objmap.readValue(ex.contentUTF8(), Map.class);
+			Map<String, Object> map = JsonUtil.MAPPER.readValue(ex.contentUTF8(), Map.class);
 			Object object = map.get("errors");
 			if (object != null)
 				errorResponse = prepareErrorResponse(object.toString());
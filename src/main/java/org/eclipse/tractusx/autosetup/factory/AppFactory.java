@@ -25,7 +25,7 @@ import java.util.Map;
 import org.eclipse.tractusx.autosetup.constant.AppNameConstant;
 import org.eclipse.tractusx.autosetup.entity.AppDetails;
 import org.eclipse.tractusx.autosetup.factory.builder.AppConfigurationBuilder;
-import org.eclipse.tractusx.autosetup.repository.AppRepository;
+import org.eclipse.tractusx.autosetup.service.AppDetailsCache;
 import org.eclipse.tractusx.autosetup.wrapper.model.CreatePackageRequest;
 import org.springframework.stereotype.Component;
 
@@ -36,14 +36,14 @@ import lombok.SneakyThrows;
 @RequiredArgsConstructor
 public class AppFactory {
 
-	private final AppRepository appRepository;
+	private final AppDetailsCache appDetailsCache;
 	private final AppConfigurationBuilder appConfigurationBuilder;
 
 	@SneakyThrows
 	public CreatePackageRequest getAppInputRequestwithrequireDetails(AppNameConstant app,
 			Map<String, String> inputProperties) {
 
-		AppDetails appDetails = appRepository.findById(app.name()).orElseThrow(() -> new RuntimeException(
+		AppDetails appDetails = appDetailsCache.get(app.name()).orElseThrow(() -> new RuntimeException(
 				String.format("The app %s is not supported for auto set up", app.name())));
 
 		String targetCluster = inputProperties.get("targetCluster");
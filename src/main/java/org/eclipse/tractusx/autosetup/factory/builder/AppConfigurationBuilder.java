@@ -20,36 +20,76 @@
 
 package org.eclipse.tractusx.autosetup.factory.builder;
 
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.apache.commons.text.StringSubstitutor;
 import org.eclipse.tractusx.autosetup.entity.AppDetails;
+import org.eclipse.tractusx.autosetup.utility.ConfigurationTemplate;
+import org.eclipse.tractusx.autosetup.utility.LogUtil;
 import org.springframework.stereotype.Service;
 
-import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 public class AppConfigurationBuilder {
 
-	@SneakyThrows
+	private static final String YAML_VALUES = "yamlValues";
+
+	private final Map<String, CompiledApp> compiledApps = new ConcurrentHashMap<>();
+
+	public record RenderedConfiguration(String configuration, Set<String> unresolvedPlaceholders) {
+	}
+
+	private record CompiledApp(Long revision, String expectedInputData, String requiredYamlConfiguration,
+			ConfigurationTemplate expectedInputTemplate, ConfigurationTemplate requiredYamlTemplate) {
+
+		boolean isCompiledFrom(AppDetails appDetails) {
+			return Objects.equals(revision, appDetails.getRevision())
+					&& Objects.equals(expectedInputData, appDetails.getExpectedInputData())
+					&& Objects.equals(requiredYamlConfiguration, appDetails.getRequiredYamlConfiguration());
+		}
+	}
+
 	public String buildConfiguration(AppDetails appDetails, Map<String, String> inputProperties) {
 
-		Map<String, Object> dyanamicYamlValues = new HashMap<>();
-		
-		// Initialize StringSubstitutor instance with value map
-		StringSubstitutor stringSubstitutor1 = new StringSubstitutor(inputProperties);
-		String sb=stringSubstitutor1.replace(appDetails.getExpectedInputData());
-		dyanamicYamlValues.put("yamlValues", sb);
-		dyanamicYamlValues.put("dnsName", inputProperties.get("dnsName"));
-		dyanamicYamlValues.putAll(inputProperties);
-		
-		
-		// Initialize StringSubstitutor instance with value map
-		StringSubstitutor stringSubstitutor = new StringSubstitutor(dyanamicYamlValues);
-
-		// replace value map to template string
-		return stringSubstitutor.replace(appDetails.getRequiredYamlConfiguration());
+		RenderedConfiguration rendered = render(appDetails, inputProperties);
+		if (!rendered.unresolvedPlaceholders().isEmpty())
+			log.warn(LogUtil.encode(appDetails.getAppName()) + " configuration has unresolved placeholders "
+					+ rendered.unresolvedPlaceholders());
+		return rendered.configuration();
+	}
+
+	// expectedInputData is rendered with the input properties and then placed into
+	// requiredYamlConfiguration as ${yamlValues}
+	public RenderedConfiguration render(AppDetails appDetails, Map<String, String> inputProperties) {
+
+		CompiledApp compiledApp = compile(appDetails);
+		Set<String> unresolved = new LinkedHashSet<>();
+
+		String yamlValues = compiledApp.expectedInputTemplate().render(inputProperties::get, unresolved);
+		String configuration = compiledApp.requiredYamlTemplate()
+				.render(name -> YAML_VALUES.equals(name) ? yamlValues : inputProperties.get(name), unresolved);
+
+		return new RenderedConfiguration(configuration, unresolved);
+	}
+
+	// Templates are compiled once per app revision, the cached AppDetails instance
+	// shares its template strings so the check is usually a reference comparison
+	private CompiledApp compile(AppDetails appDetails) {
+		String key = String.valueOf(appDetails.getAppName());
+		CompiledApp compiledApp = compiledApps.get(key);
+		if (compiledApp == null || !compiledApp.isCompiledFrom(appDetails)) {
+			compiledApp = new CompiledApp(appDetails.getRevision(), appDetails.getExpectedInputData(),
+					appDetails.getRequiredYamlConfiguration(),
+					ConfigurationTemplate.compile(appDetails.getExpectedInputData()),
+					ConfigurationTemplate.compile(appDetails.getRequiredYamlConfiguration()));
+			compiledApps.put(key, compiledApp);
+		}
+		return compiledApp;
 	}
 
 }
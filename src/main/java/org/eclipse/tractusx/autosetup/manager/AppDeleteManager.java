@@ -20,7 +20,6 @@
 package org.eclipse.tractusx.autosetup.manager;
 
 import java.util.Map;
-import java.util.UUID;
 
 import org.eclipse.tractusx.autosetup.constant.AppNameConstant;
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
@@ -49,8 +48,8 @@ public class AppDeleteManager {
 			AutoSetupTriggerEntry triger) {
 
 		String packageName = tool.getLabel();
-		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.builder()
-				.id(UUID.randomUUID().toString()).step(app.name() + "-" + packageName).build();
+		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails
+				.startStep(app.name() + "-" + packageName);
 		try {
 			appManagement.deletePackage(app, packageName, inputData);
 
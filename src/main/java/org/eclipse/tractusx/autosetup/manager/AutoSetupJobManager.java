@@ -0,0 +1,116 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.tractusx.autosetup.constant.AppActions;
+import org.eclipse.tractusx.autosetup.constant.JobStatusEnum;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupJob;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutoSetupJobManager {
+
+	private final AutoSetupJobRepository autoSetupJobRepository;
+
+	@Getter
+	@Value("${workflow.distribution.enabled:false}")
+	private boolean enabled;
+
+	@Value("${workflow.distribution.lease-seconds:120}")
+	private long leaseSeconds;
+
+	@Getter
+	@Value("${workflow.distribution.max-attempts:3}")
+	private int maxAttempts;
+
+	@Getter
+	@Value("${workflow.distribution.node-id:${HOSTNAME:autosetup}-#{T(java.util.UUID).randomUUID().toString().substring(0, 8)}}")
+	private String nodeId;
+
+	public AutoSetupJob enqueue(String triggerId, AppActions action, String payload) {
+		AutoSetupJob job = AutoSetupJob.builder().jobId(UUID.randomUUID().toString()).triggerId(triggerId)
+				.action(action.name()).payload(payload).status(JobStatusEnum.PENDING.name())
+				.createdAt(OffsetDateTime.now()).build();
+		log.info("Queued " + action + " job for " + triggerId);
+		return autoSetupJobRepository.save(job);
+	}
+
+	@Transactional
+	public List<AutoSetupJob> claim(int limit) {
+
+		if (limit <= 0)
+			return List.of();
+
+		List<AutoSetupJob> claimed = new ArrayList<>();
+		for (String jobId : autoSetupJobRepository.findClaimableJobIds(limit, maxAttempts)) {
+			if (autoSetupJobRepository.leaseJob(jobId, nodeId, leaseSeconds) == 1)
+				autoSetupJobRepository.findById(jobId).ifPresent(claimed::add);
+		}
+		return claimed;
+	}
+
+	// Jobs whose replica died on their last attempt, returned to the caller to fail their trigger
+	@Transactional
+	public List<AutoSetupJob> failExhaustedJobs() {
+		List<AutoSetupJob> failed = new ArrayList<>();
+		for (String jobId : autoSetupJobRepository.findExhaustedJobIds(maxAttempts)) {
+			if (autoSetupJobRepository.failExhaustedJob(jobId, maxAttempts) == 1)
+				autoSetupJobRepository.findById(jobId).ifPresent(failed::add);
+		}
+		return failed;
+	}
+
+	@Transactional
+	public int renewLeases(Collection<String> jobIds) {
+		int renewed = 0;
+		for (String jobId : jobIds) {
+			if (autoSetupJobRepository.renewLease(jobId, nodeId, leaseSeconds) == 1)
+				renewed++;
+			else
+				log.warn("Lease of job " + jobId + " lost, another replica may take it over");
+		}
+		return renewed;
+	}
+
+	@Transactional
+	public boolean release(String jobId, JobStatusEnum status) {
+		boolean released = autoSetupJobRepository.releaseJob(jobId, nodeId, status.name()) == 1;
+		if (!released)
+			log.warn("Job " + jobId + " no longer leased by " + nodeId + ", status " + status + " not recorded");
+		return released;
+	}
+
+}
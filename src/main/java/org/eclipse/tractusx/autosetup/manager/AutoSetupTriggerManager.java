@@ -24,24 +24,49 @@ import static org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum.FAILED;
 import static org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum.INPROGRESS;
 import static org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum.SUCCESS;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.eclipse.tractusx.autosetup.constant.AppActions;
+import org.eclipse.tractusx.autosetup.constant.TriggerIncludeEnum;
+import org.eclipse.tractusx.autosetup.constant.WorkflowStep;
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
 import org.eclipse.tractusx.autosetup.exception.NoDataFoundException;
+import org.eclipse.tractusx.autosetup.exception.ValidationException;
 import org.eclipse.tractusx.autosetup.mapper.AutoSetupRequestMapper;
 import org.eclipse.tractusx.autosetup.mapper.AutoSetupTriggerMapper;
 import org.eclipse.tractusx.autosetup.model.AutoSetupRequest;
 import org.eclipse.tractusx.autosetup.model.AutoSetupResponse;
+import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerCursor;
+import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerFilter;
+import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerPage;
 import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerResponse;
 import org.eclipse.tractusx.autosetup.model.Customer;
 import org.eclipse.tractusx.autosetup.model.CustomerProperties;
+import org.eclipse.tractusx.autosetup.model.StepLatency;
+import org.eclipse.tractusx.autosetup.model.TriggerStatusEvent;
+import org.eclipse.tractusx.autosetup.model.TriggerTimeline;
+import org.eclipse.tractusx.autosetup.model.TriggerTimelineStep;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerDetailsRepository;
 import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerEntryRepository;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerQueryRepository;
+import org.eclipse.tractusx.autosetup.utility.TriggerLocks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.support.RetrySynchronizationManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -51,12 +76,25 @@ import lombok.SneakyThrows;
 public class AutoSetupTriggerManager {
 
 	private final AutoSetupTriggerEntryRepository autoSetupTriggerEntryRepository;
+	private final AutoSetupTriggerDetailsRepository autoSetupTriggerDetailsRepository;
 	private final AutoSetupRequestMapper customerDetailsMapper;
 	private final AutoSetupTriggerMapper autoSetupTriggerMapper;
+	private final AutoSetupJobManager autoSetupJobManager;
+	private final AutoSetupTriggerQueryRepository autoSetupTriggerQueryRepository;
+	private final TriggerStatusNotifier triggerStatusNotifier;
 
+	private static final int EXPORT_DETAILS_BATCH_SIZE = 200;
+
+	@Value("${trigger.page.max-size:500}")
+	private int maxPageSize;
+
+	@Value("${trigger.latency.window:7d}")
+	private Duration latencyWindow;
+
+	@Transactional
 	public AutoSetupTriggerEntry createTrigger(AutoSetupRequest autoSetupRequest, AppActions action, String triggerId,
 			String tenantNamespace) {
-		LocalDateTime now = LocalDateTime.now();
+		OffsetDateTime now = OffsetDateTime.now();
 		Customer customer = autoSetupRequest.getCustomer();
 		CustomerProperties customerProp = autoSetupRequest.getProperties();
 		AutoSetupTriggerEntry autoSetupTriggerEntry = AutoSetupTriggerEntry.builder()
@@ -64,17 +102,52 @@ public class AutoSetupTriggerManager {
 				.subscriptionId(customerProp.getSubscriptionId())
 				.serviceId(customerProp.getServiceId())
 				.autosetupRequest(customerDetailsMapper.fromCustomer(autoSetupRequest)).triggerId(triggerId)
-				.triggerType(action.name()).createdTimestamp(now.toString()).modifiedTimestamp(now.toString())
-				.status(INPROGRESS.name()).autosetupTenantName(tenantNamespace).build();
+				.triggerType(action.name()).status(INPROGRESS.name()).autosetupTenantName(tenantNamespace)
+				.ownerNode(autoSetupJobManager.getNodeId()).heartbeatTimestamp(now).build();
+		autoSetupTriggerEntry.setCreatedTimestamp(now);
+		autoSetupTriggerEntry.setModifiedTimestamp(now);
+
+		AutoSetupTriggerEntry trigger = autoSetupTriggerEntryRepository.save(autoSetupTriggerEntry);
 
-		return autoSetupTriggerEntryRepository.save(autoSetupTriggerEntry);
+		if (autoSetupJobManager.isEnabled())
+			autoSetupJobManager.enqueue(triggerId, action, null);
+
+		return trigger;
+	}
+
+	@Transactional
+	public void deleteTrigger(AutoSetupTriggerEntry trigger) {
+		autoSetupTriggerEntryRepository.deleteById(trigger.getTriggerId());
 	}
 
+	// Writes type, status, remark, result and tenant of the trigger, request and input configuration
+	// are only written by their own save methods
 	@SneakyThrows
 	public AutoSetupTriggerEntry saveTriggerUpdate(AutoSetupTriggerEntry autoSetupTriggerEntry) {
-		LocalDateTime now = LocalDateTime.now();
-		autoSetupTriggerEntry.setModifiedTimestamp(now.toString());
-		return autoSetupTriggerEntryRepository.save(autoSetupTriggerEntry);
+		autoSetupTriggerEntry.setModifiedTimestamp(OffsetDateTime.now());
+		autoSetupTriggerEntryRepository.updateState(autoSetupTriggerEntry);
+		statusVersionIncremented(autoSetupTriggerEntry, 1);
+		triggerStatusNotifier.publish(autoSetupTriggerEntry);
+		return autoSetupTriggerEntry;
+	}
+
+	@Transactional
+	public AutoSetupTriggerEntry saveTriggerRequestUpdate(AutoSetupTriggerEntry autoSetupTriggerEntry) {
+		autoSetupTriggerEntry.setModifiedTimestamp(OffsetDateTime.now());
+		autoSetupTriggerEntryRepository.updateRequest(autoSetupTriggerEntry);
+		autoSetupTriggerEntryRepository.updateState(autoSetupTriggerEntry);
+		statusVersionIncremented(autoSetupTriggerEntry, 2);
+		triggerStatusNotifier.publish(autoSetupTriggerEntry);
+		return autoSetupTriggerEntry;
+	}
+
+	public AutoSetupTriggerEntry saveInputConfiguration(AutoSetupTriggerEntry trigger,
+			Map<String, String> inputConfiguration) {
+		trigger.setInputConfiguration(autoSetupTriggerMapper.fromMaptoStr(List.of(inputConfiguration)));
+		trigger.setModifiedTimestamp(OffsetDateTime.now());
+		autoSetupTriggerEntryRepository.updateInputConfiguration(trigger);
+		statusVersionIncremented(trigger, 1);
+		return trigger;
 	}
 
 	@SneakyThrows
@@ -85,25 +158,213 @@ public class AutoSetupTriggerManager {
 		autoSetupTriggerEntry.setOrganizationName(autoSetupRequest.getCustomer().getOrganizationName());
 		autoSetupTriggerEntry.setAutosetupRequest(customerDetailsMapper.fromCustomer(autoSetupRequest));
 		autoSetupTriggerEntry.setStatus(INPROGRESS.name());
-		LocalDateTime now = LocalDateTime.now();
-		autoSetupTriggerEntry.setModifiedTimestamp(now.toString());
+		autoSetupTriggerEntry.setPendingAction(null);
+		autoSetupTriggerEntry.setPendingRequest(null);
 
-		return autoSetupTriggerEntryRepository.save(autoSetupTriggerEntry);
+		return saveTriggerRequestUpdate(autoSetupTriggerEntry);
 	}
 
 	@SneakyThrows
 	public AutoSetupTriggerDetails saveTriggerDetails(AutoSetupTriggerDetails autoSetupTriggerDetails,
 			AutoSetupTriggerEntry trigger) {
-		autoSetupTriggerDetails.setCreatedDate(LocalDateTime.now());
-		autoSetupTriggerDetails.setAction(trigger.getTriggerType());
-		trigger.addTriggerDetails(autoSetupTriggerDetails);
-		autoSetupTriggerEntryRepository.save(trigger);
+		OffsetDateTime finished = OffsetDateTime.now();
+		autoSetupTriggerDetails.setCreatedDate(finished.toLocalDateTime());
+		autoSetupTriggerDetails.setFinishedAt(finished);
+		if (autoSetupTriggerDetails.getStartedAt() != null)
+			autoSetupTriggerDetails.setDurationMs(
+					Duration.between(autoSetupTriggerDetails.getStartedAt(), finished).toMillis());
+		if (autoSetupTriggerDetails.getAttempt() == null)
+			autoSetupTriggerDetails.setAttempt(currentAttempt());
+		// independent workflow steps report from their own threads
+		ReentrantLock lock = TriggerLocks.of(trigger);
+		lock.lock();
+		try {
+			autoSetupTriggerDetails.setAction(trigger.getTriggerType());
+			autoSetupTriggerDetailsRepository.insertDetails(trigger.getTriggerId(), autoSetupTriggerDetails);
+			incrementStatusVersion(trigger);
+			trigger.addTriggerDetails(autoSetupTriggerDetails);
+			triggerStatusNotifier.publish(trigger);
+		} finally {
+			lock.unlock();
+		}
 		return autoSetupTriggerDetails;
 	}
 
-	public List<AutoSetupTriggerResponse> getAllTriggers() {
-		return Optional.of(autoSetupTriggerEntryRepository.findAll()).orElseGet(ArrayList::new).stream()
-				.map(autoSetupTriggerMapper::fromEntitytoCustom).toList();
+	private void incrementStatusVersion(AutoSetupTriggerEntry trigger) {
+		autoSetupTriggerEntryRepository.incrementStatusVersion(trigger.getTriggerId());
+		statusVersionIncremented(trigger, 1);
+	}
+
+	// the updates raise the version in the row, the published status follows it without reading the row again
+	private static void statusVersionIncremented(AutoSetupTriggerEntry trigger, int updates) {
+		ReentrantLock lock = TriggerLocks.of(trigger);
+		lock.lock();
+		try {
+			trigger.setStatusVersion(trigger.getStatusVersion() + updates);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// managers save their step details from within the retried method, outside of a retry it is the first attempt
+	private static int currentAttempt() {
+		RetryContext retryContext = RetrySynchronizationManager.getContext();
+		return retryContext == null ? 1 : retryContext.getRetryCount() + 1;
+	}
+
+	public boolean isStepCompleted(AutoSetupTriggerEntry trigger, WorkflowStep step) {
+		ReentrantLock lock = TriggerLocks.of(trigger);
+		lock.lock();
+		try {
+			List<AutoSetupTriggerDetails> details = trigger.getAutosetupTriggerDetails();
+			return details != null && details.stream().anyMatch(detail -> step.getDetailStep().equals(detail.getStep())
+					&& Boolean.TRUE.equals(detail.getCheckpoint()));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public boolean hasCheckpoint(AutoSetupTriggerEntry trigger) {
+		List<AutoSetupTriggerDetails> details = trigger.getAutosetupTriggerDetails();
+		return details != null && details.stream().anyMatch(detail -> Boolean.TRUE.equals(detail.getCheckpoint()));
+	}
+
+	@SneakyThrows
+	@Transactional
+	public AutoSetupTriggerEntry saveCheckpoint(AutoSetupTriggerEntry trigger, WorkflowStep step,
+			Map<String, String> inputConfiguration) {
+
+		ReentrantLock lock = TriggerLocks.of(trigger);
+		lock.lock();
+		try {
+			AutoSetupTriggerDetails stepDetails = null;
+			List<AutoSetupTriggerDetails> details = trigger.getAutosetupTriggerDetails();
+			for (int i = details == null ? -1 : details.size() - 1; i >= 0 && stepDetails == null; i--) {
+				if (step.getDetailStep().equals(details.get(i).getStep()))
+					stepDetails = details.get(i);
+			}
+
+			// the step output is written before its checkpoint, a step is never skipped without it
+			saveInputConfiguration(trigger, inputConfiguration);
+
+			if (stepDetails == null) {
+				stepDetails = AutoSetupTriggerDetails.builder().id(UUID.randomUUID().toString())
+						.step(step.getDetailStep()).status(SUCCESS.name()).action(trigger.getTriggerType())
+						.createdDate(LocalDateTime.now()).checkpoint(true).build();
+				autoSetupTriggerDetailsRepository.insertDetails(trigger.getTriggerId(), stepDetails);
+				incrementStatusVersion(trigger);
+				trigger.addTriggerDetails(stepDetails);
+			} else {
+				autoSetupTriggerDetailsRepository.markCheckpoint(stepDetails.getId());
+				stepDetails.setCheckpoint(true);
+			}
+			triggerStatusNotifier.publish(trigger);
+			return trigger;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void clearCheckpoints(AutoSetupTriggerEntry trigger) {
+		List<AutoSetupTriggerDetails> details = trigger.getAutosetupTriggerDetails();
+		if (details != null && !details.isEmpty()) {
+			autoSetupTriggerDetailsRepository.clearCheckpoints(trigger.getTriggerId());
+			details.forEach(detail -> detail.setCheckpoint(null));
+		}
+	}
+
+	public void saveCriticalPath(AutoSetupTriggerEntry trigger, String criticalPath) {
+		autoSetupTriggerEntryRepository.updateCriticalPath(trigger.getTriggerId(), criticalPath);
+		trigger.setCriticalPath(criticalPath);
+	}
+
+	// Marks this instance as the one running the trigger, other instances leave it alone while it heartbeats
+	public void takeOwnership(String triggerId) {
+		autoSetupTriggerEntryRepository.takeOwnership(triggerId, autoSetupJobManager.getNodeId());
+	}
+
+	// Leaves the trigger orphaned again, e.g. after a claimed trigger could not be started
+	public void releaseOwnership(String triggerId) {
+		autoSetupTriggerEntryRepository.releaseOwnership(triggerId, autoSetupJobManager.getNodeId());
+	}
+
+	public int heartbeat() {
+		return autoSetupTriggerEntryRepository.heartbeat(autoSetupJobManager.getNodeId());
+	}
+
+	// INPROGRESS triggers whose owner stopped heartbeating for staleSeconds, each one claimed for this instance
+	public List<AutoSetupTriggerEntry> claimOrphanedTriggers(long staleSeconds, int limit) {
+		String nodeId = autoSetupJobManager.getNodeId();
+		List<AutoSetupTriggerEntry> claimed = new ArrayList<>();
+		for (String triggerId : autoSetupTriggerEntryRepository.findOrphanedTriggerIds(staleSeconds, limit)) {
+			if (autoSetupTriggerEntryRepository.claimOrphanedTrigger(triggerId, nodeId, staleSeconds) == 1)
+				claimed.add(autoSetupTriggerEntryRepository.findAllByTriggerId(triggerId));
+		}
+		return claimed;
+	}
+
+	public AutoSetupTriggerPage getTriggers(AutoSetupTriggerFilter filter, String cursor, int limit) {
+		if (limit < 1 || limit > maxPageSize)
+			throw new ValidationException("Limit must be between 1 and " + maxPageSize);
+
+		AutoSetupTriggerCursor position = cursor == null ? null : AutoSetupTriggerCursor.decode(cursor);
+		// one extra row tells whether another page follows
+		List<AutoSetupTriggerEntry> triggers = autoSetupTriggerQueryRepository.findTriggers(filter, position,
+				limit + 1);
+		String nextCursor = null;
+		if (triggers.size() > limit) {
+			triggers = triggers.subList(0, limit);
+			AutoSetupTriggerEntry last = triggers.get(limit - 1);
+			nextCursor = new AutoSetupTriggerCursor(last.getCreatedTimestamp(), last.getTriggerId()).encode();
+		}
+		return AutoSetupTriggerPage.builder().triggers(toResponses(triggers, filter)).nextCursor(nextCursor).build();
+	}
+
+	public void streamTriggers(AutoSetupTriggerFilter filter, Consumer<AutoSetupTriggerResponse> consumer) {
+		if (!filter.isIncluded(TriggerIncludeEnum.DETAILS)) {
+			autoSetupTriggerQueryRepository.streamTriggers(filter,
+					trigger -> consumer.accept(toResponse(trigger, filter, null)));
+			return;
+		}
+		// step details are loaded per batch instead of per row
+		List<AutoSetupTriggerEntry> batch = new ArrayList<>(EXPORT_DETAILS_BATCH_SIZE);
+		autoSetupTriggerQueryRepository.streamTriggers(filter, trigger -> {
+			batch.add(trigger);
+			if (batch.size() == EXPORT_DETAILS_BATCH_SIZE) {
+				toResponses(batch, filter).forEach(consumer);
+				batch.clear();
+			}
+		});
+		toResponses(batch, filter).forEach(consumer);
+	}
+
+	private List<AutoSetupTriggerResponse> toResponses(List<AutoSetupTriggerEntry> triggers,
+			AutoSetupTriggerFilter filter) {
+		Map<String, List<AutoSetupTriggerDetails>> details = filter.isIncluded(TriggerIncludeEnum.DETAILS)
+				? autoSetupTriggerQueryRepository
+						.findDetails(triggers.stream().map(AutoSetupTriggerEntry::getTriggerId).toList())
+				: Map.of();
+		return triggers.stream().map(trigger -> toResponse(trigger, filter,
+				filter.isIncluded(TriggerIncludeEnum.DETAILS)
+						? details.getOrDefault(trigger.getTriggerId(), List.of())
+						: null))
+				.toList();
+	}
+
+	private AutoSetupTriggerResponse toResponse(AutoSetupTriggerEntry trigger, AutoSetupTriggerFilter filter,
+			List<AutoSetupTriggerDetails> details) {
+		return AutoSetupTriggerResponse.builder().triggerId(trigger.getTriggerId())
+				.triggerType(trigger.getTriggerType()).organizationName(trigger.getOrganizationName())
+				.status(trigger.getStatus()).remark(trigger.getRemark())
+				.createdTimestamp(autoSetupTriggerMapper.fromTimestamp(trigger.getCreatedTimestamp()))
+				.modifiedTimestamp(autoSetupTriggerMapper.fromTimestamp(trigger.getModifiedTimestamp()))
+				.request(filter.isIncluded(TriggerIncludeEnum.REQUEST)
+						? customerDetailsMapper.fromStr(trigger.getAutosetupRequest())
+						: null)
+				.processResult(filter.isIncluded(TriggerIncludeEnum.RESULT)
+						? autoSetupTriggerMapper.fromJsonStrToMap(trigger.getAutosetupResult())
+						: null)
+				.autosetupTriggerDetails(details).build();
 	}
 
 	public AutoSetupTriggerResponse getTriggerDetails(String triggerId) {
@@ -113,6 +374,33 @@ public class AutoSetupTriggerManager {
 
 	}
 
+	public TriggerStatusEvent getTriggerStatus(String triggerId) {
+		return autoSetupTriggerQueryRepository.findStatus(List.of(triggerId)).get(triggerId);
+	}
+
+	public TriggerTimeline getTriggerTimeline(String triggerId) {
+		TriggerTimeline timeline = autoSetupTriggerQueryRepository.findTimeline(triggerId)
+				.orElseThrow(() -> new NoDataFoundException("No data found for " + triggerId));
+
+		OffsetDateTime created = timeline.getCreatedTimestamp();
+		if (created != null) {
+			timeline.getSteps().stream().filter(step -> step.getStartedAt() != null)
+					.forEach(step -> step.setOffsetMs(Duration.between(created, step.getStartedAt()).toMillis()));
+			timeline.getSteps().stream().map(TriggerTimelineStep::getFinishedAt).filter(Objects::nonNull)
+					.max(Comparator.naturalOrder())
+					.ifPresent(finished -> timeline.setDurationMs(Duration.between(created, finished).toMillis()));
+		}
+		return timeline;
+	}
+
+	public List<StepLatency> getStepLatency(OffsetDateTime from, OffsetDateTime to, AppActions action) {
+		OffsetDateTime end = to == null ? OffsetDateTime.now() : to;
+		OffsetDateTime start = from == null ? end.minus(latencyWindow) : from;
+		if (!start.isBefore(end))
+			throw new ValidationException("from must be before to");
+		return autoSetupTriggerQueryRepository.findStepLatency(start, end, action == null ? null : action.name());
+	}
+
 	public AutoSetupResponse getCheckDetails(String triggerId) {
 
 		return Optional.ofNullable(autoSetupTriggerEntryRepository.findAllByTriggerId(triggerId)).map(obj -> {
@@ -24,7 +24,6 @@ import java.security.cert.X509Certificate;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
@@ -33,6 +32,7 @@ import org.eclipse.tractusx.autosetup.exception.ServiceException;
 import org.eclipse.tractusx.autosetup.model.Customer;
 import org.eclipse.tractusx.autosetup.model.SelectedTools;
 import org.eclipse.tractusx.autosetup.utility.Certutil;
+import org.eclipse.tractusx.autosetup.utility.KeyPairPool;
 import org.eclipse.tractusx.autosetup.utility.LogUtil;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -50,6 +50,8 @@ public class CertificateManager {
 
 	private final AutoSetupTriggerManager autoSetupTriggerManager;
 
+	private final KeyPairPool keyPairPool;
+
 	@SneakyThrows
 	@Retryable(value = {
 			ServiceException.class }, maxAttemptsExpression = "${retry.maxAttempts}", backoff = @Backoff(delayExpression = "#{${retry.backOffDelay}}"))
@@ -57,8 +59,7 @@ public class CertificateManager {
 			AutoSetupTriggerEntry triger) {
 
 		Map<String, String> outputData = new HashMap<>();
-		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.builder()
-				.id(UUID.randomUUID().toString()).step("CERTIFICATE").build();
+		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.startStep("CERTIFICATE");
 
 		try {
 
@@ -79,7 +80,7 @@ public class CertificateManager {
 			String params = String.format("O=%s, OU=%s, C=%s, ST=%s, L=%s, CN=%s", cn,
 					bpnNumber, c, st, l, "www." + cn + ".com");
 
-			Certutil.CertKeyPair certificateDetails = Certutil.generateSelfSignedCertificateSecret(params, null, null);
+			Certutil.CertKeyPair certificateDetails = Certutil.generateSelfSignedCertificate(params, null, keyPairPool.take());
 			X509Certificate certificate = certificateDetails.certificate();
 			String clientId = Certutil.getClientId(certificate);
 
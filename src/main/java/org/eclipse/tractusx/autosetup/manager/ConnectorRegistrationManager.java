@@ -26,7 +26,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
@@ -84,8 +83,7 @@ public class ConnectorRegistrationManager {
 	public Map<String, String> registerConnector(Customer customerDetails, SelectedTools tool,
 			Map<String, String> inputData, AutoSetupTriggerEntry triger) {
 
-		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.builder()
-				.id(UUID.randomUUID().toString()).step("CONNECTOR-REGISTER").build();
+		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.startStep("CONNECTOR-REGISTER");
 
 		Path file = null;
 		try {
@@ -201,8 +199,7 @@ public class ConnectorRegistrationManager {
 	public Map<String, String> deleteConnector(SelectedTools tool, Map<String, String> inputData,
 			AutoSetupTriggerEntry triger) {
 
-		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.builder()
-				.id(UUID.randomUUID().toString()).step("CONNECTOR-DELETE").build();
+		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.startStep("CONNECTOR-DELETE");
 
 		try {
 			String packageName = tool.getLabel();
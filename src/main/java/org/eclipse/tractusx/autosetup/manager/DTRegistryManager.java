@@ -25,7 +25,6 @@ import static org.eclipse.tractusx.autosetup.constant.AppNameConstant.DT_REGISTR
 
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.autosetup.apiproxy.EDCProxyService;
@@ -65,8 +64,7 @@ public class DTRegistryManager {
 	public Map<String, String> managePackage(Customer customerDetails, AppActions action, SelectedTools tool,
 			Map<String, String> inputData, AutoSetupTriggerEntry triger) {
 
-		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.builder()
-				.id(UUID.randomUUID().toString()).step(DT_REGISTRY.name()).build();
+		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.startStep(DT_REGISTRY.name());
 		try {
 			String packageName = tool.getLabel();
 
@@ -21,25 +21,33 @@
 package org.eclipse.tractusx.autosetup.manager;
 
 import java.io.IOException;
-import java.io.StringWriter;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import javax.mail.Message;
 import javax.mail.MessagingException;
-import javax.mail.Transport;
+import javax.mail.Session;
+import javax.mail.internet.AddressException;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
 
 import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.tractusx.autosetup.constant.EmailStatusEnum;
+import org.eclipse.tractusx.autosetup.entity.EmailOutboxEntry;
 import org.eclipse.tractusx.autosetup.exception.ServiceException;
 import org.eclipse.tractusx.autosetup.exception.ValidationException;
 import org.eclipse.tractusx.autosetup.model.EmailRequest;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.eclipse.tractusx.autosetup.repository.EmailOutboxRepository;
+import org.eclipse.tractusx.autosetup.utility.JsonUtil;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import freemarker.template.Configuration;
 import freemarker.template.TemplateException;
 import lombok.extern.slf4j.Slf4j;
 
@@ -48,8 +56,6 @@ import lombok.extern.slf4j.Slf4j;
 public class EmailManager {
 
 	public static final String CCEMAIL = "ccemail";
-	@Autowired
-	private MimeMessage mimeMessage;
 
 	@Value("${mail.from.address}")
 	private String fromEmail;
@@ -57,12 +63,35 @@ public class EmailManager {
 	@Value("${mail.replyto.address}")
 	private String replyTo;
 
-	final Configuration configuration;
+	@Value("${mail.outbox.max-attempts:5}")
+	private int maxAttempts;
 
-	public EmailManager(Configuration configuration) {
-		this.configuration = configuration;
+	@Value("${mail.outbox.backoff-ms:5000}")
+	private long backoffMs;
+
+	@Value("${mail.outbox.max-backoff-ms:600000}")
+	private long maxBackoffMs;
+
+	@Value("${mail.outbox.lease-seconds:300}")
+	private long leaseSeconds;
+
+	@Value("${mail.outbox.retention-days:30}")
+	private int retentionDays;
+
+	private final NotificationRenderer notificationRenderer;
+
+	private final Session mailSession;
+
+	private final EmailOutboxRepository emailOutboxRepository;
+
+	public EmailManager(NotificationRenderer notificationRenderer, Session mailSession,
+			EmailOutboxRepository emailOutboxRepository) {
+		this.notificationRenderer = notificationRenderer;
+		this.mailSession = mailSession;
+		this.emailOutboxRepository = emailOutboxRepository;
 	}
 
+	// The email is only stored here with its template and model, EmailOutboxSender renders and delivers it
 	public String sendEmail(Map<String, Object> emailContent, String subject, String templateFileName) {
 		try {
 
@@ -70,60 +99,119 @@ public class EmailManager {
 					.toEmail(emailContent.get("toemail").toString()).subject(subject).templateFileName(templateFileName)
 					.build();
 
-			mimeMessage.setFrom(new InternetAddress(fromEmail));
-			if (replyTo != null && !replyTo.isEmpty()) {
-				String[] mailAddressTo = replyTo.split(",");
-				InternetAddress[] mailAddressTO = new InternetAddress[mailAddressTo.length];
-				for (int i = 0; i < mailAddressTo.length; i++) {
-					mailAddressTO[i] = new InternetAddress(mailAddressTo[i]);
-				}
-				mimeMessage.setReplyTo(mailAddressTO);
-			}
-			mimeMessage.setSubject(emailRequest.getSubject());
-
-			if (emailRequest.getToEmail() != null && !emailRequest.getToEmail().isEmpty()) {
-				String[] split = emailRequest.getToEmail().split(",");
-				InternetAddress[] addressTo = new InternetAddress[split.length];
-				int i = 0;
-				for (String string : split) {
-					addressTo[i] = new InternetAddress(StringEscapeUtils.unescapeHtml4(StringEscapeUtils.escapeJava(string)));
-					i++;
-				}
-				mimeMessage.setRecipients(Message.RecipientType.TO, addressTo);
-			} else {
+			if (emailRequest.getToEmail() == null || emailRequest.getToEmail().isEmpty()) {
 				throw new ValidationException("To email is null");
 			}
+			InternetAddress[] addressTo = toAddresses(emailRequest.getToEmail());
 
-			InternetAddress[] addressCC = new InternetAddress[1];
-			int i = 0;
+			List<InternetAddress> addressCC = new ArrayList<>();
 			if (emailContent.containsKey(CCEMAIL) && emailContent.get(CCEMAIL) != null
 					&& !emailContent.get(CCEMAIL).toString().isEmpty()) {
-				String[] split = emailContent.get(CCEMAIL).toString().split(",");
-				addressCC = new InternetAddress[split.length + 1];
-				for (String string : split) {
-					addressCC[i] = new InternetAddress(StringEscapeUtils.unescapeHtml4(StringEscapeUtils.escapeJava(string)));
-					i++;
-				}
+				addressCC.addAll(List.of(toAddresses(emailContent.get(CCEMAIL).toString())));
 			}
-			addressCC[i] = new InternetAddress(StringEscapeUtils.unescapeHtml4(StringEscapeUtils.escapeJava(fromEmail)));
-
-			mimeMessage.setRecipients(Message.RecipientType.CC, addressCC);
-
-			String data = getEmailContent(emailRequest);
-			mimeMessage.setContent(data, "text/html; charset=utf-8"); // as "text/plain"
-			mimeMessage.setSentDate(new Date());
-			Transport.send(mimeMessage);
-			return "Email Sent Success";
-		} catch (MessagingException | IOException | TemplateException e) {
+			addressCC.addAll(List.of(toAddresses(fromEmail)));
+
+			String model = JsonUtil.MAPPER.writeValueAsString(emailRequest.getEmailContent());
+
+			OffsetDateTime now = OffsetDateTime.now();
+			EmailOutboxEntry email = EmailOutboxEntry.builder().emailId(UUID.randomUUID().toString())
+					.subject(emailRequest.getSubject()).toAddress(InternetAddress.toString(addressTo))
+					.ccAddress(InternetAddress.toString(addressCC.toArray(new InternetAddress[0])))
+					.templateName(emailRequest.getTemplateFileName()).templateModel(model)
+					.status(EmailStatusEnum.PENDING.name()).attempts(0).nextAttemptAt(now).createdAt(now).build();
+			emailOutboxRepository.save(email);
+			return "Email queued";
+		} catch (AddressException | IOException e) {
 			log.error("Error in email sending :{}", e.getMessage());
 			throw new ServiceException("Error in email sending :" + e.getMessage());
 		}
 	}
 
-	String getEmailContent(EmailRequest emailRequest) throws IOException, TemplateException {
-		StringWriter stringWriter = new StringWriter();
-		configuration.getTemplate(emailRequest.getTemplateFileName()).process(emailRequest.getEmailContent(),
-				stringWriter);
-		return stringWriter.getBuffer().toString();
+	private InternetAddress[] toAddresses(String addresses) throws AddressException {
+		String[] split = addresses.split(",");
+		InternetAddress[] internetAddresses = new InternetAddress[split.length];
+		for (int i = 0; i < split.length; i++) {
+			internetAddresses[i] = new InternetAddress(
+					StringEscapeUtils.unescapeHtml4(StringEscapeUtils.escapeJava(split[i])));
+		}
+		return internetAddresses;
+	}
+
+	// A new message per send, a MimeMessage must not be shared between sender threads
+	public MimeMessage buildMessage(EmailOutboxEntry email) throws MessagingException {
+		MimeMessage mimeMessage = new MimeMessage(mailSession);
+		mimeMessage.setFrom(new InternetAddress(fromEmail));
+		if (replyTo != null && !replyTo.isEmpty()) {
+			mimeMessage.setReplyTo(InternetAddress.parse(replyTo));
+		}
+		mimeMessage.setSubject(email.getSubject());
+		mimeMessage.setRecipients(Message.RecipientType.TO, InternetAddress.parse(email.getToAddress()));
+		if (email.getCcAddress() != null && !email.getCcAddress().isEmpty()) {
+			mimeMessage.setRecipients(Message.RecipientType.CC, InternetAddress.parse(email.getCcAddress()));
+		}
+		mimeMessage.setContent(render(email), "text/html; charset=utf-8");
+		mimeMessage.setSentDate(new Date());
+		mimeMessage.saveChanges();
+		return mimeMessage;
+	}
+
+	@Transactional
+	public List<EmailOutboxEntry> claimEmails(String leaseOwner, int limit) {
+		int exhausted = emailOutboxRepository.failExhaustedEmails(maxAttempts);
+		if (exhausted > 0)
+			log.error("Giving up on {} emails whose lease expired on their last attempt", exhausted);
+
+		List<EmailOutboxEntry> claimed = new ArrayList<>();
+		for (String emailId : emailOutboxRepository.findClaimableEmailIds(limit, maxAttempts)) {
+			if (emailOutboxRepository.leaseEmail(emailId, leaseOwner, leaseSeconds) == 1) {
+				emailOutboxRepository.findById(emailId).ifPresent(claimed::add);
+			}
+		}
+		return claimed;
+	}
+
+	@Transactional
+	public void markSent(EmailOutboxEntry email, String leaseOwner) {
+		emailOutboxRepository.markSent(email.getEmailId(), leaseOwner);
+	}
+
+	// Backs off exponentially from the attempt count until the email is given up
+	@Transactional
+	public void markAttemptFailed(EmailOutboxEntry email, String leaseOwner, String error) {
+		if (email.getAttempts() >= maxAttempts) {
+			log.error("Giving up on email {} '{}' after {} attempts: {}", email.getEmailId(), email.getSubject(),
+					email.getAttempts(), error);
+			emailOutboxRepository.markFailed(email.getEmailId(), leaseOwner, error);
+			return;
+		}
+		int exponent = Math.min(Math.max(email.getAttempts() - 1, 0), 20);
+		long delayMs = Math.min(maxBackoffMs, backoffMs << exponent);
+		log.warn("Email {} attempt {} failed, retrying in {} ms: {}", email.getEmailId(), email.getAttempts(), delayMs,
+				error);
+		emailOutboxRepository.reschedule(email.getEmailId(), leaseOwner,
+				OffsetDateTime.now().plus(Duration.ofMillis(delayMs)), error);
+	}
+
+	// Sent and given up emails are kept for retention-days, e.g. to look up the last error
+	public int deleteFinishedEmails() {
+		int deleted = 0;
+		int batch;
+		do {
+			batch = emailOutboxRepository.deleteFinishedEmails(retentionDays, 500);
+			deleted += batch;
+		} while (batch == 500);
+		if (deleted > 0)
+			log.info("Deleted {} emails older than {} days from the outbox", deleted, retentionDays);
+		return deleted;
+	}
+
+	// Runs on the sender threads, a failed render counts as failed attempt like a failed send
+	private String render(EmailOutboxEntry email) {
+		try {
+			Map<String, Object> model = JsonUtil.OBJECT_MAP_READER.readValue(email.getTemplateModel());
+			return notificationRenderer.render(email.getTemplateName(), model);
+		} catch (IOException | TemplateException e) {
+			throw new ServiceException("Error in email rendering :" + e.getMessage());
+		}
 	}
 }
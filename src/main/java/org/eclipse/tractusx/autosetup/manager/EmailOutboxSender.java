@@ -0,0 +1,173 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+
+import org.eclipse.tractusx.autosetup.entity.EmailOutboxEntry;
+import org.eclipse.tractusx.autosetup.exception.ServiceException;
+import org.eclipse.tractusx.autosetup.utility.AutoSetupTracing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Delivers the emails stored by EmailManager. A single dispatcher thread claims due emails and hands
+// them in batches to a fixed pool of senders; each sender keeps one SMTP connection open for its
+// whole batch and reconnects only after a failed send. Workflows never wait for the mail server.
+@Slf4j
+@Component
+public class EmailOutboxSender {
+
+	private static final String SMTP_SPAN = "smtp send";
+
+	private final EmailManager emailManager;
+
+	private final AutoSetupJobManager autoSetupJobManager;
+
+	private final Session mailSession;
+
+	private final AutoSetupTracing autoSetupTracing;
+
+	private final int senders;
+
+	private final int batchSize;
+
+	private final ScheduledExecutorService dispatcher;
+
+	private final ExecutorService senderPool;
+
+	public EmailOutboxSender(EmailManager emailManager, AutoSetupJobManager autoSetupJobManager, Session mailSession,
+			AutoSetupTracing autoSetupTracing, @Value("${mail.outbox.senders:2}") int senders,
+			@Value("${mail.outbox.batch-size:10}") int batchSize,
+			@Value("${mail.outbox.poll-interval-ms:1000}") long pollIntervalMs,
+			@Value("${mail.outbox.cleanup-interval-ms:3600000}") long cleanupIntervalMs) {
+		this.emailManager = emailManager;
+		this.autoSetupJobManager = autoSetupJobManager;
+		this.mailSession = mailSession;
+		this.autoSetupTracing = autoSetupTracing;
+		this.senders = senders;
+		this.batchSize = batchSize;
+		CustomizableThreadFactory senderThreadFactory = new CustomizableThreadFactory("email-sender-");
+		senderThreadFactory.setDaemon(true);
+		this.senderPool = Executors.newFixedThreadPool(senders, senderThreadFactory);
+		CustomizableThreadFactory dispatcherThreadFactory = new CustomizableThreadFactory("email-outbox-");
+		dispatcherThreadFactory.setDaemon(true);
+		this.dispatcher = new ScheduledThreadPoolExecutor(1, dispatcherThreadFactory);
+		dispatcher.scheduleWithFixedDelay(this::dispatch, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+		dispatcher.scheduleWithFixedDelay(this::cleanUp, cleanupIntervalMs, cleanupIntervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// emails of an interrupted batch stay leased and are picked up again once the lease expires
+		dispatcher.shutdownNow();
+		senderPool.shutdownNow();
+	}
+
+	void dispatch() {
+		try {
+			String leaseOwner = autoSetupJobManager.getNodeId();
+			List<EmailOutboxEntry> emails = emailManager.claimEmails(leaseOwner, batchSize * senders);
+			if (emails.isEmpty())
+				return;
+
+			int batches = Math.min(senders, emails.size());
+			List<List<EmailOutboxEntry>> perSender = new ArrayList<>();
+			for (int i = 0; i < batches; i++)
+				perSender.add(new ArrayList<>());
+			for (int i = 0; i < emails.size(); i++)
+				perSender.get(i % batches).add(emails.get(i));
+
+			CompletableFuture.allOf(perSender.stream()
+					.map(batch -> CompletableFuture.runAsync(() -> sendBatch(batch, leaseOwner), senderPool))
+					.toArray(CompletableFuture[]::new)).join();
+		} catch (RuntimeException e) {
+			log.error("Email outbox dispatch failed: " + e.getMessage());
+		}
+	}
+
+	void cleanUp() {
+		try {
+			emailManager.deleteFinishedEmails();
+		} catch (RuntimeException e) {
+			log.error("Email outbox cleanup failed: " + e.getMessage());
+		}
+	}
+
+	private void sendBatch(List<EmailOutboxEntry> batch, String leaseOwner) {
+		Transport transport = null;
+		try {
+			for (EmailOutboxEntry email : batch) {
+				try {
+					if (transport == null || !transport.isConnected()) {
+						transport = mailSession.getTransport("smtp");
+						transport.connect();
+					}
+					send(transport, email);
+					emailManager.markSent(email, leaseOwner);
+				} catch (MessagingException | RuntimeException e) {
+					emailManager.markAttemptFailed(email, leaseOwner, e.getMessage());
+					close(transport);
+					transport = null;
+				}
+			}
+		} finally {
+			close(transport);
+		}
+	}
+
+	private void send(Transport transport, EmailOutboxEntry email) throws MessagingException {
+		MimeMessage message = emailManager.buildMessage(email);
+		autoSetupTracing.traceClient(SMTP_SPAN, "smtp", () -> {
+			try {
+				transport.sendMessage(message, message.getAllRecipients());
+				return null;
+			} catch (MessagingException e) {
+				throw new ServiceException(e.getMessage());
+			}
+		});
+	}
+
+	private void close(Transport transport) {
+		if (transport == null)
+			return;
+		try {
+			transport.close();
+		} catch (MessagingException e) {
+			log.debug("Closing SMTP connection failed: " + e.getMessage());
+		}
+	}
+}
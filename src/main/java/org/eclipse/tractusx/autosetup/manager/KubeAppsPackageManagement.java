@@ -27,10 +27,14 @@ import org.eclipse.tractusx.autosetup.factory.AppFactory;
 import org.eclipse.tractusx.autosetup.kubeapps.model.CreateInstalledPackageRequest;
 import org.eclipse.tractusx.autosetup.kubeapps.proxy.KubeAppManageProxy;
 import org.eclipse.tractusx.autosetup.mapper.CreatePackageMapper;
+import org.eclipse.tractusx.autosetup.utility.JsonUtil;
 import org.eclipse.tractusx.autosetup.wrapper.model.CreatePackageRequest;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -59,18 +63,11 @@ public class KubeAppsPackageManagement {
 
 	public String updatePackage(AppNameConstant app, String packageName, Map<String, String> inputProperties) {
 		log.info(packageName + "-" + app.name() + " package updating");
-		CreatePackageRequest appWithStandardInfo = appFactory.getAppInputRequestwithrequireDetails(app,
-				inputProperties);
-
-		CreateInstalledPackageRequest updateControlPlane = createPackageMapper
-				.getUpdatePackageRequest(appWithStandardInfo, app.name(), packageName);
-
-		String appName = app.name().replace("_", "");
+		InstalledPackage installedPackage = getInstalledPackage(app, packageName, inputProperties);
 
-		String updatePackage = kubeAppManageProxy.updatePackage(appWithStandardInfo.getPluginName(),
-				appWithStandardInfo.getPluginVersion(), appWithStandardInfo.getTargetCluster(),
-				appWithStandardInfo.getTargetNamespace(), packageName + "-" + appName.toLowerCase(),
-				updateControlPlane);
+		String updatePackage = kubeAppManageProxy.updatePackage(installedPackage.pluginName(),
+				installedPackage.pluginVersion(), installedPackage.cluster(), installedPackage.namespace(),
+				installedPackage.identifier(), installedPackage.request());
 		log.info(packageName + "-" + app.name() + " package updated");
 		return updatePackage;
 
@@ -79,19 +76,48 @@ public class KubeAppsPackageManagement {
 	public void deletePackage(AppNameConstant app, String packageName, Map<String, String> inputProperties) {
 
 		log.info(packageName + "-" + app.name() + " package deleting ");
+		InstalledPackage installedPackage = getInstalledPackage(app, packageName, inputProperties);
+
+		kubeAppManageProxy.deletePackage(installedPackage.pluginName(), installedPackage.pluginVersion(),
+				installedPackage.cluster(), installedPackage.namespace(), installedPackage.identifier(),
+				installedPackage.request());
+		log.info(packageName + "-" + app.name() + " package deleted ");
+
+	}
+
+	// Renders the app configuration once to locate the installed package, e.g. before polling its status
+	public InstalledPackage getInstalledPackage(AppNameConstant app, String packageName,
+			Map<String, String> inputProperties) {
+
 		CreatePackageRequest appWithStandardInfo = appFactory.getAppInputRequestwithrequireDetails(app,
 				inputProperties);
 
-		CreateInstalledPackageRequest updateControlPlane = createPackageMapper
+		CreateInstalledPackageRequest installedPackageRequest = createPackageMapper
 				.getUpdatePackageRequest(appWithStandardInfo, app.name(), packageName);
 
 		String appName = app.name().replace("_", "");
 
-		kubeAppManageProxy.deletePackage(appWithStandardInfo.getPluginName(), appWithStandardInfo.getPluginVersion(),
-				appWithStandardInfo.getTargetCluster(), appWithStandardInfo.getTargetNamespace(),
-				packageName + "-" + appName.toLowerCase(), updateControlPlane);
-		log.info(packageName + "-" + app.name() + " package deleted ");
+		return new InstalledPackage(app, packageName, appWithStandardInfo.getPluginName(),
+				appWithStandardInfo.getPluginVersion(), appWithStandardInfo.getTargetCluster(),
+				appWithStandardInfo.getTargetNamespace(), packageName + "-" + appName.toLowerCase(),
+				installedPackageRequest);
+	}
+
+	@SneakyThrows
+	public boolean isPackageReady(InstalledPackage installedPackage) {
+
+		String packageDetails = kubeAppManageProxy.getInstallPackageDetails(installedPackage.pluginName(),
+				installedPackage.pluginVersion(), installedPackage.cluster(), installedPackage.namespace(),
+				installedPackage.identifier(), installedPackage.request());
+
+		JsonNode status = JsonUtil.MAPPER.readTree(packageDetails).path("installedPackageDetail").path("status");
+		log.info(installedPackage.packageName() + "-" + installedPackage.app().name() + " package status "
+				+ status.path("userReason").asText());
+		return status.path("ready").asBoolean(false);
+	}
 
+	public record InstalledPackage(AppNameConstant app, String packageName, String pluginName, String pluginVersion,
+			String cluster, String namespace, String identifier, CreateInstalledPackageRequest request) {
 	}
 
 }
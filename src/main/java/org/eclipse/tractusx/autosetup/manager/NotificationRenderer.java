@@ -0,0 +1,72 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import lombok.extern.slf4j.Slf4j;
+
+// Notification templates are parsed once at startup, rendering uses the parsed templates without a
+// lookup in the FreeMarker template cache. Result tables are rendered by the result_table.ftl macro.
+@Slf4j
+@Component
+public class NotificationRenderer {
+
+	public static final String RESULTS = "results";
+
+	private static final String TEMPLATE_PATTERN = "classpath:/templates/*.html";
+
+	private static final int INITIAL_BUFFER_SIZE = 4096;
+
+	private final Configuration configuration;
+
+	private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+	public NotificationRenderer(Configuration configuration) throws IOException {
+		this.configuration = configuration;
+		for (Resource resource : new PathMatchingResourcePatternResolver().getResources(TEMPLATE_PATTERN)) {
+			String templateFileName = resource.getFilename();
+			templates.put(templateFileName, configuration.getTemplate(templateFileName));
+		}
+		log.info("Preloaded notification templates " + templates.keySet());
+	}
+
+	public String render(String templateFileName, Map<String, Object> model) throws IOException, TemplateException {
+		Template template = templates.get(templateFileName);
+		if (template == null) {
+			template = configuration.getTemplate(templateFileName);
+			templates.putIfAbsent(templateFileName, template);
+		}
+		StringWriter stringWriter = new StringWriter(INITIAL_BUFFER_SIZE);
+		template.process(model, stringWriter);
+		return stringWriter.toString();
+	}
+}
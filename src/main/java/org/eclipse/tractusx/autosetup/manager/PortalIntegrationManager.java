@@ -21,10 +21,10 @@
 package org.eclipse.tractusx.autosetup.manager;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
@@ -42,6 +42,7 @@ import org.eclipse.tractusx.autosetup.portal.model.TechnicalUsers;
 import org.eclipse.tractusx.autosetup.portal.proxy.PortalIntegrationProxy;
 import org.eclipse.tractusx.autosetup.utility.KeyCloakTokenProxyUtitlity;
 import org.eclipse.tractusx.autosetup.utility.LogUtil;
+import org.eclipse.tractusx.autosetup.utility.ReadinessPoller;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -69,6 +70,8 @@ public class PortalIntegrationManager {
 	private final AutoSetupTriggerManager autoSetupTriggerManager;
 
 	private final KeyCloakTokenProxyUtitlity keyCloakTokenProxyUtitlity;
+
+	private final ReadinessPoller readinessPoller;
 	
 	@Value("${portal.url}")
 	private URI portalUrl;
@@ -85,13 +88,19 @@ public class PortalIntegrationManager {
 	@Value("${portal.request.timeout:20000}")
 	private int requestTimeout;
 
+	@Value("${portal.readiness.initial-delay-ms:2000}")
+	private long readinessInitialDelay;
+
+	@Value("${portal.readiness.deadline-ms:100000}")
+	private long readinessDeadline;
+
 	@Retryable(retryFor = {
 			ServiceException.class }, maxAttemptsExpression = "${retry.maxAttempts}", backoff = @Backoff(delayExpression = "#{${retry.backOffDelay}}"))
 	public Map<String, String> postServiceInstanceResultAndGetTenantSpecs(Customer customerDetails, SelectedTools tool,
 			Map<String, String> inputData, AutoSetupTriggerEntry triger) {
 
-		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.builder()
-				.id(UUID.randomUUID().toString()).step("PostServiceInstanceResultAndGetTenantSpecs").build();
+		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails
+				.startStep("PostServiceInstanceResultAndGetTenantSpecs");
 		ServiceInstanceResultResponse serviceInstanceResultResponse = null;
 		try {
 			String appServiceURIPath = "apps";
@@ -233,55 +242,56 @@ public class PortalIntegrationManager {
 		return serviceInstanceResultResponse;
 	}
 
-	@SneakyThrows
 	private ServiceInstanceResultResponse verifyIsAlreadySubcribedActivatedAndGetDetails(String subscriptionId,
 			String offerId, Map<String, String> header, String appServiceURIPath) {
 
-		int retry = 5;
-		int counter = 1;
-		ServiceInstanceResultResponse serviceInstanceResultResponse = null;
-		String offerSubscriptionStatus = null;
-		do {
-			log.info("Waiting '" + requestTimeout + "'sec to portal /provider API call to get subcription status");
-			Thread.sleep(requestTimeout);
-			try {
-
-				header.put(AUTHORIZATION,
-						BEARER + keyCloakTokenProxyUtitlity.getKeycloakToken(clientId, clientSecret, tokenURI));
-
-				serviceInstanceResultResponse = portalIntegrationProxy.getAppServiceInstanceSubcriptionDetails(
-						portalUrl, header, appServiceURIPath, offerId, subscriptionId);
-
-				offerSubscriptionStatus = serviceInstanceResultResponse.getOfferSubscriptionStatus();
-
-				log.info(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails: The subscription details found for " + offerId
-						+ ", " + subscriptionId + ", status is " + offerSubscriptionStatus + ", result is "
-						+ serviceInstanceResultResponse.toJsonString()));
-
-			} catch (FeignException e) {
-				log.error(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails FeignException request: " + e.request()));
-				log.error(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails FeignException response Body: "
-						+ e.responseBody()));
-				String error = e.contentUTF8();
-				error = StringUtils.isAllEmpty(error) ? error : e.getMessage();
-
-				if (e.status() == 404) {
-					log.warn(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails: The no app or subscription found for "
-							+ offerId + ", " + subscriptionId + ", result is " + error));
-				} else {
-					log.error(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails FeignException Exception response: "
-							+ error));
-				}
+		ReadinessPoller.Backoff backoff = new ReadinessPoller.Backoff(Duration.ofMillis(readinessInitialDelay),
+				Duration.ofMillis(requestTimeout), Duration.ofMillis(readinessDeadline));
 
-			} catch (Exception e) {
-				log.error(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails Exception processing portal call "
-						+ e.getMessage()));
-			}
-			counter++;
+		return readinessPoller.await("Portal subscription " + LogUtil.encode(subscriptionId),
+				() -> readSubcriptionDetails(subscriptionId, offerId, header, appServiceURIPath),
+				response -> response != null && ACTIVE.equalsIgnoreCase(response.getOfferSubscriptionStatus()),
+				backoff);
+	}
 
-		} while (!ACTIVE.equalsIgnoreCase(offerSubscriptionStatus) && counter <= retry);
+	private ServiceInstanceResultResponse readSubcriptionDetails(String subscriptionId, String offerId,
+			Map<String, String> header, String appServiceURIPath) {
 
-		return serviceInstanceResultResponse;
+		try {
+
+			header.put(AUTHORIZATION,
+					BEARER + keyCloakTokenProxyUtitlity.getKeycloakToken(clientId, clientSecret, tokenURI));
+
+			ServiceInstanceResultResponse serviceInstanceResultResponse = portalIntegrationProxy
+					.getAppServiceInstanceSubcriptionDetails(portalUrl, header, appServiceURIPath, offerId,
+							subscriptionId);
+
+			log.info(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails: The subscription details found for " + offerId
+					+ ", " + subscriptionId + ", status is " + serviceInstanceResultResponse.getOfferSubscriptionStatus()
+					+ ", result is " + serviceInstanceResultResponse.toJsonString()));
+
+			return serviceInstanceResultResponse;
+
+		} catch (FeignException e) {
+			log.error(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails FeignException request: " + e.request()));
+			log.error(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails FeignException response Body: "
+					+ e.responseBody()));
+			String error = e.contentUTF8();
+			error = StringUtils.isAllEmpty(error) ? error : e.getMessage();
+
+			if (e.status() == 404) {
+				log.warn(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails: The no app or subscription found for "
+						+ offerId + ", " + subscriptionId + ", result is " + error));
+			} else {
+				log.error(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails FeignException Exception response: "
+						+ error));
+			}
+
+		} catch (Exception e) {
+			log.error(LogUtil.encode("VerifyIsAlreadySubcribedActivatedAndGetDetails Exception processing portal call "
+					+ e.getMessage()));
+		}
+		return null;
 	}
 
 	@SneakyThrows
@@ -23,7 +23,6 @@ package org.eclipse.tractusx.autosetup.manager;
 import static org.eclipse.tractusx.autosetup.constant.AppNameConstant.SDE;
 
 import java.util.Map;
-import java.util.UUID;
 
 import org.eclipse.tractusx.autosetup.constant.AppActions;
 import org.eclipse.tractusx.autosetup.constant.EmailConfigurationProperty;
@@ -66,8 +65,7 @@ public class SDEManager {
 	public Map<String, String> managePackage(Customer customerDetails, AppActions action, SelectedTools tool,
 			Map<String, String> inputData, AutoSetupTriggerEntry triger) {
 
-		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.builder()
-				.id(UUID.randomUUID().toString()).step(SDE.name()).build();
+		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.startStep(SDE.name());
 		try {
 			String dnsName = inputData.get("dnsName");
 			String dnsNameURLProtocol = inputData.get("dnsNameURLProtocol");
@@ -20,18 +20,22 @@
 
 package org.eclipse.tractusx.autosetup.manager;
 
+import static org.eclipse.tractusx.autosetup.constant.AppNameConstant.EDC_CONNECTOR;
+
+import java.time.Duration;
 import java.util.Map;
-import java.util.UUID;
 
 import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
 import org.eclipse.tractusx.autosetup.exception.ServiceException;
+import org.eclipse.tractusx.autosetup.manager.KubeAppsPackageManagement.InstalledPackage;
 import org.eclipse.tractusx.autosetup.model.Customer;
+import org.eclipse.tractusx.autosetup.model.SelectedTools;
 import org.eclipse.tractusx.autosetup.testservice.proxy.ConnectorTestRequest;
 import org.eclipse.tractusx.autosetup.testservice.proxy.ConnectorTestServiceProxy;
 import org.eclipse.tractusx.autosetup.testservice.proxy.ConnectorTestServiceResponse;
-import org.eclipse.tractusx.autosetup.utility.WaitingTimeUtility;
+import org.eclipse.tractusx.autosetup.utility.ReadinessPoller;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -50,16 +54,28 @@ public class TestConnectorServiceManager {
 
 	private final ConnectorTestServiceProxy connectorTestServiceProxy;
 
+	private final KubeAppsPackageManagement appManagement;
+
+	private final ReadinessPoller readinessPoller;
+
 	@Value("${connector.test.service.url}")
 	private String connectorTestServiceURL;
 
+	@Value("${connector.readiness.initial-delay-ms:5000}")
+	private long readinessInitialDelay;
+
+	@Value("${connector.readiness.max-delay-ms:20000}")
+	private long readinessMaxDelay;
+
+	@Value("${connector.readiness.deadline-ms:90000}")
+	private long readinessDeadline;
+
 	@Retryable(retryFor = {
 			ServiceException.class }, maxAttemptsExpression = "${retry.maxAttempts}", backoff = @Backoff(delayExpression = "#{${retry.backOffDelay}}"))
-	public Map<String, String> verifyConnectorTestingThroughTestService(Customer customerDetails,
+	public Map<String, String> verifyConnectorTestingThroughTestService(Customer customerDetails, SelectedTools tool,
 			Map<String, String> inputData, AutoSetupTriggerEntry triger) {
 
-		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.builder()
-				.id(UUID.randomUUID().toString()).step("CONNECTOR_TEST_SERVICE").build();
+		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.startStep("CONNECTOR_TEST_SERVICE");
 		try {
 
 			ConnectorTestRequest connectorTestRequest = ConnectorTestRequest.builder()
@@ -71,7 +87,7 @@ public class TestConnectorServiceManager {
 
 			inputData.put("testServiceURL", connectorTestServiceURL);
 
-			WaitingTimeUtility.waitingTime("Waiting after connector setup to get pod up to test connector as data provider/consumer");
+			waitForConnectorReady(tool.getLabel(), inputData);
 
 			ConnectorTestServiceResponse testResult = connectorTestServiceProxy
 					.verifyConnectorTestingThroughTestService(connectorTestRequest);
@@ -99,5 +115,25 @@ public class TestConnectorServiceManager {
 		return inputData;
 	}
 
+	// Waits on the step's own thread like the portal subscription check, the test cannot run before the package
+	private void waitForConnectorReady(String packageName, Map<String, String> inputData) {
+
+		ReadinessPoller.Backoff backoff = new ReadinessPoller.Backoff(Duration.ofMillis(readinessInitialDelay),
+				Duration.ofMillis(readinessMaxDelay), Duration.ofMillis(readinessDeadline));
+
+		InstalledPackage installedPackage;
+		try {
+			installedPackage = appManagement.getInstalledPackage(EDC_CONNECTOR, packageName, inputData);
+		} catch (Exception e) {
+			log.warn("Connector " + packageName + " package not resolvable, testing it anyway " + e.getMessage());
+			return;
+		}
+
+		Boolean ready = readinessPoller.await("Connector " + packageName,
+				() -> appManagement.isPackageReady(installedPackage), Boolean.TRUE::equals, backoff);
+
+		if (!Boolean.TRUE.equals(ready))
+			log.warn("Connector " + packageName + " not reported ready, testing it anyway");
+	}
 
 }
@@ -24,7 +24,6 @@ import static org.eclipse.tractusx.autosetup.constant.AppNameConstant.EDC_CONNEC
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 import org.eclipse.tractusx.autosetup.constant.AppActions;
 import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
@@ -56,8 +55,7 @@ public class TractusConnectorManager {
 			Map<String, String> inputData, AutoSetupTriggerEntry triger) {
 
 		Map<String, String> outputData = new HashMap<>();
-		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.builder()
-				.id(UUID.randomUUID().toString()).step(EDC_CONNECTOR.name()).build();
+		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.startStep(EDC_CONNECTOR.name());
 		try {
 			String packageName = tool.getLabel();
 
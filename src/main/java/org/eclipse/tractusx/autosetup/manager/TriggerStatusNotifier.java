@@ -0,0 +1,173 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.model.TriggerStatusEvent;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerQueryRepository;
+import org.eclipse.tractusx.autosetup.utility.TriggerLocks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Pushes status changes of watched triggers to SSE and long-poll clients. Writes of this replica are
+// published directly, writes of other replicas are found by one status query for all watched triggers
+// per poll interval. Events are dispatched on a single thread, every subscriber sees each version once
+// and in order.
+@Slf4j
+@Component
+public class TriggerStatusNotifier {
+
+	private static final int POLL_BATCH_SIZE = 500;
+
+	private final AutoSetupTriggerQueryRepository autoSetupTriggerQueryRepository;
+
+	private final ScheduledExecutorService dispatcher;
+
+	private final Map<String, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+
+	public TriggerStatusNotifier(AutoSetupTriggerQueryRepository autoSetupTriggerQueryRepository,
+			@Value("${trigger.status.poll-interval-ms:1000}") long pollIntervalMs) {
+		this.autoSetupTriggerQueryRepository = autoSetupTriggerQueryRepository;
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("trigger-status-");
+		threadFactory.setDaemon(true);
+		this.dispatcher = new ScheduledThreadPoolExecutor(1, threadFactory);
+		dispatcher.scheduleWithFixedDelay(this::pollWatched, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	// The listener is called for every version after the given one, the returned handle removes it again
+	public Runnable subscribe(String triggerId, String version, Consumer<TriggerStatusEvent> listener) {
+		Subscription subscription = new Subscription(listener, version);
+		subscriptions.computeIfAbsent(triggerId, id -> new CopyOnWriteArrayList<>()).add(subscription);
+		return () -> subscriptions.computeIfPresent(triggerId, (id, watching) -> {
+			watching.remove(subscription);
+			return watching.isEmpty() ? null : watching;
+		});
+	}
+
+	public void publish(AutoSetupTriggerEntry trigger) {
+		if (!subscriptions.containsKey(trigger.getTriggerId()))
+			return;
+
+		TriggerStatusEvent event;
+		ReentrantLock lock = TriggerLocks.of(trigger);
+		lock.lock();
+		try {
+			List<AutoSetupTriggerDetails> details = trigger.getAutosetupTriggerDetails();
+			AutoSetupTriggerDetails last = details == null || details.isEmpty() ? null : details.get(details.size() - 1);
+			event = TriggerStatusEvent.builder().executionId(trigger.getTriggerId())
+					.status(TriggerStatusEnum.valueOf(trigger.getStatus()))
+					.step(last == null ? null : last.getStep()).stepStatus(last == null ? null : last.getStatus())
+					.modifiedTimestamp(trigger.getModifiedTimestamp() == null ? null
+							: trigger.getModifiedTimestamp().toString())
+					.version(TriggerStatusEvent.version(trigger.getStatusVersion()))
+					.build();
+		} finally {
+			lock.unlock();
+		}
+
+		// subscribers read the trigger again, they must not see it before the write is committed
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					dispatcher.execute(() -> dispatch(event));
+				}
+			});
+		} else {
+			dispatcher.execute(() -> dispatch(event));
+		}
+	}
+
+	public int getSubscriptionCount() {
+		return subscriptions.values().stream().mapToInt(List::size).sum();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		dispatcher.shutdownNow();
+	}
+
+	private void pollWatched() {
+		if (subscriptions.isEmpty())
+			return;
+
+		List<String> triggerIds = new ArrayList<>(subscriptions.keySet());
+		for (int from = 0; from < triggerIds.size(); from += POLL_BATCH_SIZE) {
+			try {
+				autoSetupTriggerQueryRepository
+						.findStatus(triggerIds.subList(from, Math.min(from + POLL_BATCH_SIZE, triggerIds.size())))
+						.values().forEach(this::dispatch);
+			} catch (Exception e) {
+				log.warn("Status poll of watched triggers failed " + e.getMessage());
+			}
+		}
+	}
+
+	private void dispatch(TriggerStatusEvent event) {
+		List<Subscription> watching = subscriptions.get(event.getExecutionId());
+		if (watching == null)
+			return;
+
+		for (Subscription subscription : watching) {
+			if (event.getVersion().equals(subscription.version))
+				continue;
+			subscription.version = event.getVersion();
+			try {
+				subscription.listener.accept(event);
+			} catch (Exception e) {
+				log.debug("Status listener of " + event.getExecutionId() + " failed " + e.getMessage());
+			}
+		}
+	}
+
+	private static final class Subscription {
+
+		private final Consumer<TriggerStatusEvent> listener;
+
+		// only read and written on the dispatcher thread
+		private String version;
+
+		private Subscription(Consumer<TriggerStatusEvent> listener, String version) {
+			this.listener = listener;
+			this.version = version;
+		}
+	}
+
+}
@@ -21,10 +21,19 @@
 package org.eclipse.tractusx.autosetup.manager;
 
 import java.net.URI;
-import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
 
 import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
@@ -33,14 +42,18 @@ import org.eclipse.tractusx.autosetup.exception.ServiceException;
 import org.eclipse.tractusx.autosetup.model.Customer;
 import org.eclipse.tractusx.autosetup.model.SelectedTools;
 import org.eclipse.tractusx.autosetup.model.VaultSecreteRequest;
+import org.eclipse.tractusx.autosetup.utility.AutoSetupTracing;
 import org.eclipse.tractusx.autosetup.utility.LogUtil;
 import org.eclipse.tractusx.autosetup.vault.proxy.VaultAppManageProxy;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.retry.support.RetrySynchronizationManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -53,12 +66,14 @@ public class VaultManager {
 	private static final String DIM_CLIENT_SECRET = "dim-client-secret";
 	private static final String CLIENT_SECRET = "client-secret";
 	private static final String V1_SECRET_DATA = "/v1/secret/data/";
+	private static final String VAULT_WRITTEN_SECRETS = "vaultWrittenSecrets";
 	public static final String ENCRYPTIONKEYS = "encryptionkeys";
 	public static final String CONTENT = "content";
 	public static final String DAPS_CERT = "daps-cert";
 	public static final String CERTIFICATE_PRIVATE_KEY = "certificate-private-key";
 	private final VaultAppManageProxy vaultManagerProxy;
 	private final AutoSetupTriggerManager autoSetupTriggerManager;
+	private final AutoSetupTracing autoSetupTracing;
 
 	@Value("${vault.url}")
 	private String valutURL;
@@ -69,16 +84,30 @@ public class VaultManager {
 	@Value("${vault.timeout}")
 	private String vaulttimeout;
 
+	@Value("${vault.write-concurrency:5}")
+	private int writeConcurrency;
+
+	private ExecutorService vaultExecutor;
+
 	int counter = 0;
 
+	@PostConstruct
+	public void init() {
+		vaultExecutor = Executors.newFixedThreadPool(writeConcurrency, new CustomizableThreadFactory("vault-write-"));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		vaultExecutor.shutdown();
+	}
+
 	@SneakyThrows
 	@Retryable(retryFor = {
 			ServiceException.class }, maxAttemptsExpression = "${retry.maxAttempts}", backoff = @Backoff(delayExpression = "#{${retry.backOffDelay}}"))
 	public Map<String, String> uploadKeyandValues(Customer customerDetails, SelectedTools tool,
 			Map<String, String> inputData, AutoSetupTriggerEntry triger) {
 
-		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.builder()
-				.id(UUID.randomUUID().toString()).step("VAULT").build();
+		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.startStep("VAULT");
 
 		try {
 
@@ -87,25 +116,13 @@ public class VaultManager {
 			String orgName = customerDetails.getOrganizationName();
 			log.info(LogUtil.encode(orgName) + "-" + LogUtil.encode(packageName) + "-Vault creating");
 
-			Map<String, String> tenantVaultSecret = new HashMap<>();
-			tenantVaultSecret.put(CONTENT, inputData.get("selfsigncertificate"));
-			uploadSecrete(tenantNameNamespace, DAPS_CERT, tenantVaultSecret);
-
-			tenantVaultSecret = new HashMap<>();
-			tenantVaultSecret.put(CONTENT, inputData.get("selfsigncertificateprivatekey"));
-			uploadSecrete(tenantNameNamespace, CERTIFICATE_PRIVATE_KEY, tenantVaultSecret);
-
-			tenantVaultSecret = new HashMap<>();
-			tenantVaultSecret.put(CONTENT, inputData.get("keycloakAuthenticationClientSecret"));
-			uploadSecrete(tenantNameNamespace, CLIENT_SECRET, tenantVaultSecret);
-
-			tenantVaultSecret = new HashMap<>();
-			tenantVaultSecret.put(CONTENT, "c3RhbmRhcmRfZW5jX2tleQo=");
-			uploadSecrete(tenantNameNamespace, ENCRYPTIONKEYS, tenantVaultSecret);
-			
-			tenantVaultSecret = new HashMap<>();
-			tenantVaultSecret.put(CONTENT, inputData.get("dimClientSecret"));
-			uploadSecrete(tenantNameNamespace, DIM_CLIENT_SECRET, tenantVaultSecret);
+			Map<String, String> tenantVaultSecrets = new LinkedHashMap<>();
+			tenantVaultSecrets.put(DAPS_CERT, inputData.get("selfsigncertificate"));
+			tenantVaultSecrets.put(CERTIFICATE_PRIVATE_KEY, inputData.get("selfsigncertificateprivatekey"));
+			tenantVaultSecrets.put(CLIENT_SECRET, inputData.get("keycloakAuthenticationClientSecret"));
+			tenantVaultSecrets.put(ENCRYPTIONKEYS, "c3RhbmRhcmRfZW5jX2tleQo=");
+			tenantVaultSecrets.put(DIM_CLIENT_SECRET, inputData.get("dimClientSecret"));
+			uploadSecretes(tenantNameNamespace, tenantVaultSecrets, inputData);
 
 			inputData.put(DAPS_CERT, DAPS_CERT);
 			inputData.put(CERTIFICATE_PRIVATE_KEY, CERTIFICATE_PRIVATE_KEY);
@@ -118,6 +135,7 @@ public class VaultManager {
 			inputData.put("certificate-data-plane-private-key", CERTIFICATE_PRIVATE_KEY);
 			inputData.put("certificate-data-plane-public-key", CERTIFICATE_PRIVATE_KEY);
 			inputData.put(DIM_CLIENT_SECRET, DIM_CLIENT_SECRET);
+			inputData.remove(VAULT_WRITTEN_SECRETS);
 
 			autoSetupTriggerDetails.setStatus(TriggerStatusEnum.SUCCESS.name());
 			log.info(LogUtil.encode(orgName) + "-" + LogUtil.encode(packageName) + "-Vault created");
@@ -138,8 +156,35 @@ public class VaultManager {
 		return inputData;
 	}
 
-	public void uploadSecrete(String tenantName, String secretePath, Map<String, String> tenantVaultSecret)
-			throws URISyntaxException {
+	// All secrets are written at once, the ones stored by a previous attempt are kept in inputData and skipped on
+	// retry
+	@SneakyThrows
+	private void uploadSecretes(String tenantName, Map<String, String> tenantVaultSecrets,
+			Map<String, String> inputData) {
+
+		Set<String> writtenSecrets = ConcurrentHashMap.newKeySet();
+		String previousAttempt = inputData.get(VAULT_WRITTEN_SECRETS);
+		if (StringUtils.isNotBlank(previousAttempt))
+			writtenSecrets.addAll(Arrays.asList(previousAttempt.split(",")));
+
+		try {
+			CompletableFuture.allOf(tenantVaultSecrets.entrySet().stream()
+					.filter(secret -> !writtenSecrets.contains(secret.getKey()))
+					.map(secret -> CompletableFuture.runAsync(autoSetupTracing.propagate(() -> {
+						Map<String, String> tenantVaultSecret = new HashMap<>();
+						tenantVaultSecret.put(CONTENT, secret.getValue());
+						uploadSecrete(tenantName, secret.getKey(), tenantVaultSecret);
+						writtenSecrets.add(secret.getKey());
+					}), vaultExecutor)).toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			throw e.getCause();
+		} finally {
+			inputData.put(VAULT_WRITTEN_SECRETS, String.join(",", writtenSecrets));
+		}
+	}
+
+	@SneakyThrows
+	public void uploadSecrete(String tenantName, String secretePath, Map<String, String> tenantVaultSecret) {
 
 		String valutURLwithpath = valutURL + V1_SECRET_DATA + tenantName + "/data/" + secretePath;
 		VaultSecreteRequest vaultSecreteRequest = VaultSecreteRequest.builder().data(tenantVaultSecret).build();
@@ -153,8 +198,7 @@ public class VaultManager {
 			ServiceException.class }, maxAttemptsExpression = "${retry.maxAttempts}", backoff = @Backoff(delayExpression = "#{${retry.backOffDelay}}"))
 	public void deleteAllSecret(SelectedTools tool, Map<String, String> inputData, AutoSetupTriggerEntry triger) {
 
-		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.builder()
-				.id(UUID.randomUUID().toString()).step("VAULT").build();
+		AutoSetupTriggerDetails autoSetupTriggerDetails = AutoSetupTriggerDetails.startStep("VAULT");
 
 		try {
 
@@ -163,10 +207,11 @@ public class VaultManager {
 			String orgName = triger.getOrganizationName();
 			log.info(LogUtil.encode(orgName) + "-" + LogUtil.encode(packageName) + "-Vault deleting");
 
-			deleteSecret(tenantNameNamespace, DAPS_CERT);
-			deleteSecret(tenantNameNamespace, CERTIFICATE_PRIVATE_KEY);
-			deleteSecret(tenantNameNamespace, ENCRYPTIONKEYS);
-			deleteSecret(tenantNameNamespace, CLIENT_SECRET);
+			CompletableFuture.allOf(Stream.of(DAPS_CERT, CERTIFICATE_PRIVATE_KEY, ENCRYPTIONKEYS, CLIENT_SECRET)
+					.map(secretePath -> CompletableFuture
+							.runAsync(autoSetupTracing.propagate(() -> deleteSecret(tenantNameNamespace, secretePath)),
+									vaultExecutor))
+					.toArray(CompletableFuture[]::new)).join();
 
 			log.info(LogUtil.encode(orgName) + "-" + LogUtil.encode(packageName) + "-Vault deleted");
 		} catch (Exception ex) {
@@ -174,6 +219,8 @@ public class VaultManager {
 			log.error("VaultManager failed retry attempt: : {}",
 					RetrySynchronizationManager.getContext().getRetryCount() + 1);
 
+			if (ex instanceof CompletionException)
+				ex = (Exception) ex.getCause();
 			autoSetupTriggerDetails.setStatus(TriggerStatusEnum.FAILED.name());
 			autoSetupTriggerDetails.setRemark(ex.getMessage());
 			throw new ServiceException("VaultManager Oops! We have an exception - " + ex.getMessage() + ", Cause: "
@@ -184,7 +231,8 @@ public class VaultManager {
 		}
 	}
 
-	public void deleteSecret(String tenantName, String secretePath) throws URISyntaxException {
+	@SneakyThrows
+	public void deleteSecret(String tenantName, String secretePath) {
 
 		String valutURLwithpath = valutURL + V1_SECRET_DATA + tenantName + "/data/" + secretePath;
 		URI url = new URI(valutURLwithpath);
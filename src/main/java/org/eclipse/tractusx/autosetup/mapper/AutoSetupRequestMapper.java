@@ -22,10 +22,9 @@ package org.eclipse.tractusx.autosetup.mapper;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.autosetup.model.AutoSetupRequest;
+import org.eclipse.tractusx.autosetup.utility.JsonUtil;
 import org.mapstruct.Mapper;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import lombok.SneakyThrows;
 
 @Mapper(componentModel = "spring")
@@ -33,19 +32,16 @@ public interface AutoSetupRequestMapper {
 
 	@SneakyThrows
 	public default String fromCustomer(AutoSetupRequest request) {
-		ObjectMapper mapper = new ObjectMapper();
 		if (request == null)
 			return "";
-		return mapper.writeValueAsString(request);
+		return JsonUtil.AUTO_SETUP_REQUEST_WRITER.writeValueAsString(request);
 	}
 
 	@SneakyThrows
 	public default AutoSetupRequest fromStr(String requetsstr) {
-		ObjectMapper mapper = new ObjectMapper();
-
 		if (StringUtils.isBlank(requetsstr))
 			return null;
-		return mapper.readValue(requetsstr, AutoSetupRequest.class);
+		return JsonUtil.AUTO_SETUP_REQUEST_READER.readValue(requetsstr);
 	}
 
 }
@@ -20,17 +20,17 @@
 
 package org.eclipse.tractusx.autosetup.mapper;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
 import org.eclipse.tractusx.autosetup.model.AutoSetupResponse;
 import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerResponse;
+import org.eclipse.tractusx.autosetup.utility.JsonUtil;
 import org.mapstruct.Mapper;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,13 +45,11 @@ public abstract class AutoSetupTriggerMapper {
 	
 	public abstract AutoSetupResponse fromEntityforCustomResponse(AutoSetupTriggerEntry autoSetupTriggerEntry);
 
-	@SuppressWarnings("unchecked")
 	@SneakyThrows
 	public List<Map<String, String>> fromJsonStrToMap(String jsonStr) {
-		ObjectMapper mapper = new ObjectMapper();
 		try {
 			if (jsonStr != null && !jsonStr.isEmpty())
-				return mapper.readValue(jsonStr, List.class);
+				return JsonUtil.STRING_MAP_LIST_READER.readValue(jsonStr);
 			else
 				return List.of();
 		} catch (Exception e) {
@@ -65,13 +63,17 @@ public abstract class AutoSetupTriggerMapper {
 	public String fromMaptoStr(List<Map<String, String>> listMap) {
 		try {
 			if (listMap != null && !listMap.isEmpty())
-				return new ObjectMapper().writeValueAsString(listMap);
+				return JsonUtil.STRING_MAP_LIST_WRITER.writeValueAsString(listMap);
 		} catch (Exception e) {
 			log.error("Error in read value of autosetup field result" + e.getMessage());
 		}
 		return "{}";
 	}
 
+	public String fromTimestamp(OffsetDateTime timestamp) {
+		return timestamp == null ? null : timestamp.toString();
+	}
+
 	public AutoSetupTriggerResponse fromEntitytoCustom(AutoSetupTriggerEntry autoSetupTriggerEntry) {
 
 		AutoSetupTriggerResponse obj = fromEntity(autoSetupTriggerEntry);
@@ -1,6 +1,6 @@
 /********************************************************************************
- * Copyright (c) 2023 T-Systems International GmbH
- * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
  *
  * See the NOTICE file(s) distributed with this work for additional
  * information regarding copyright ownership.
@@ -18,27 +18,23 @@
  * SPDX-License-Identifier: Apache-2.0
  ********************************************************************************/
 
-package org.eclipse.tractusx.autosetup.utility;
+package org.eclipse.tractusx.autosetup.model;
 
-import lombok.SneakyThrows;
-import lombok.extern.slf4j.Slf4j;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
 
-@Slf4j
-public class WaitingTimeUtility {
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppDetailsCacheStatistics {
 
-	private WaitingTimeUtility() {
-	}
-
-	@SneakyThrows
-	public static void waitingTime(String msg) {
-
-		try {
-			log.info(msg);
-			Thread.sleep(60000);
-		} catch (InterruptedException e) {
-
-			Thread.currentThread().interrupt();
-		}
-	}
+	private int size;
+	private int maxSize;
+	private long hits;
+	private long misses;
+	private long invalidations;
 
 }
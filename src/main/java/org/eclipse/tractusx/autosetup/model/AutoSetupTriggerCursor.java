@@ -0,0 +1,50 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+
+import org.eclipse.tractusx.autosetup.exception.ValidationException;
+
+// Position after the last returned trigger, triggers are listed newest first
+public record AutoSetupTriggerCursor(OffsetDateTime createdTimestamp, String triggerId) {
+
+	private static final String SEPARATOR = "|";
+
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((createdTimestamp + SEPARATOR + triggerId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static AutoSetupTriggerCursor decode(String cursor) {
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = value.indexOf(SEPARATOR);
+			return new AutoSetupTriggerCursor(OffsetDateTime.parse(value.substring(0, separator)),
+					value.substring(separator + 1));
+		} catch (RuntimeException e) {
+			throw new ValidationException("Invalid cursor " + cursor);
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.model;
+
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+import org.eclipse.tractusx.autosetup.constant.TriggerIncludeEnum;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoSetupTriggerFilter {
+
+	private String status;
+
+	private String organizationName;
+
+	private String serviceId;
+
+	@Schema(description = "Inclusive lower bound of the creation time, ISO-8601 with offset")
+	@DateTimeFormat(iso = ISO.DATE_TIME)
+	private OffsetDateTime createdFrom;
+
+	@Schema(description = "Exclusive upper bound of the creation time, ISO-8601 with offset")
+	@DateTimeFormat(iso = ISO.DATE_TIME)
+	private OffsetDateTime createdTo;
+
+	@Schema(description = "Heavy fields to load, by default request, result and step details are left out")
+	private Set<TriggerIncludeEnum> include;
+
+	public boolean isIncluded(TriggerIncludeEnum field) {
+		return include != null && include.contains(field);
+	}
+
+}
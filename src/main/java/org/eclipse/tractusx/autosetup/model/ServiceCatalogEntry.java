@@ -0,0 +1,45 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.model;
+
+import java.util.List;
+
+public record ServiceCatalogEntry(String serviceId, String canonicalServiceId, List<SelectedTools> selectedTools) {
+
+	public ServiceCatalogEntry {
+		selectedTools = selectedTools.stream().map(ServiceCatalogEntry::copy).toList();
+	}
+
+	// Every execution gets its own tools, the workflows change the label of them
+	@Override
+	public List<SelectedTools> selectedTools() {
+		return selectedTools.stream().map(ServiceCatalogEntry::copy).toList();
+	}
+
+	private static SelectedTools copy(SelectedTools selectedTool) {
+		return SelectedTools.builder()
+				.tool(selectedTool.getTool())
+				.type(selectedTool.getType())
+				.label(selectedTool.getLabel())
+				.build();
+	}
+
+}
@@ -0,0 +1,47 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+// Duration percentiles of the attempts of one step, failed and retried attempts are included
+@Data
+@Builder
+public class StepLatency {
+
+	private String step;
+
+	private long samples;
+
+	private long failed;
+
+	private long retried;
+
+	private long p50Ms;
+
+	private long p90Ms;
+
+	private long p99Ms;
+
+	private long maxMs;
+
+}
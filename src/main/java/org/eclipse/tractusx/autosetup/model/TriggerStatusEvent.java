@@ -0,0 +1,65 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.model;
+
+import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(Include.NON_NULL)
+public class TriggerStatusEvent {
+
+	private String executionId;
+
+	private TriggerStatusEnum status;
+
+	// last step the workflow reported and its status
+	private String step;
+
+	private String stepStatus;
+
+	private String modifiedTimestamp;
+
+	// ETag of the status endpoint and id of the event, the status version of the trigger
+	@JsonIgnore
+	private String version;
+
+	@JsonIgnore
+	public boolean isFinished() {
+		return status == TriggerStatusEnum.SUCCESS || status == TriggerStatusEnum.FAILED;
+	}
+
+	public static String version(long statusVersion) {
+		return Long.toString(statusVersion);
+	}
+
+}
@@ -22,8 +22,9 @@ package org.eclipse.tractusx.autosetup.portal.model;
 
 import java.util.List;
 
+import org.eclipse.tractusx.autosetup.utility.JsonUtil;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -50,8 +51,7 @@ public class ServiceInstanceResultResponse {
 
 	@SneakyThrows
     public String toJsonString() {
-        final ObjectMapper mapper = new ObjectMapper();
-        return mapper.writeValueAsString(this);
+        return JsonUtil.MAPPER.writeValueAsString(this);
     }
 
 }
@@ -20,15 +20,26 @@
 
 package org.eclipse.tractusx.autosetup.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.tractusx.autosetup.entity.AppDetails;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AppRepository extends JpaRepository<AppDetails, String> {
 
 	@Query(value = "SELECT * FROM app_tbl a WHERE a.app_name = ?1", nativeQuery = true)
 	Optional<AppDetails> findByAppName(String appName);
 
+	@Query(value = "SELECT a.app_name, a.revision FROM app_tbl a", nativeQuery = true)
+	List<Object[]> findAllRevisions();
+
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE app_tbl SET revision = COALESCE(revision, 0) + 1 WHERE app_name = ?1", nativeQuery = true)
+	int incrementRevision(String appName);
+
 }
@@ -0,0 +1,65 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.repository;
+
+import java.util.List;
+
+import org.eclipse.tractusx.autosetup.entity.AutoSetupJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface AutoSetupJobRepository extends JpaRepository<AutoSetupJob, String> {
+
+	// Rows locked by another replica's claim are skipped instead of waited for, an expired lease is only
+	// taken over while the job has attempts left
+	@Query(value = "SELECT job_id FROM auto_setup_job_tbl WHERE status = 'PENDING' "
+			+ "OR (status = 'RUNNING' AND lease_until < CURRENT_TIMESTAMP AND attempts < ?2) "
+			+ "ORDER BY created_at LIMIT ?1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<String> findClaimableJobIds(int limit, int maxAttempts);
+
+	@Query(value = "SELECT job_id FROM auto_setup_job_tbl WHERE status = 'RUNNING' AND lease_until < CURRENT_TIMESTAMP "
+			+ "AND attempts >= ?1 ORDER BY created_at", nativeQuery = true)
+	List<String> findExhaustedJobIds(int maxAttempts);
+
+	// Only one replica wins, the others find the job no longer RUNNING
+	@Modifying
+	@Query(value = "UPDATE auto_setup_job_tbl SET status = 'FAILED', lease_until = NULL, updated_at = CURRENT_TIMESTAMP "
+			+ "WHERE job_id = ?1 AND status = 'RUNNING' AND lease_until < CURRENT_TIMESTAMP AND attempts >= ?2", nativeQuery = true)
+	int failExhaustedJob(String jobId, int maxAttempts);
+
+	@Modifying
+	@Query(value = "UPDATE auto_setup_job_tbl SET status = 'RUNNING', lease_owner = ?2, attempts = attempts + 1, "
+			+ "lease_until = CURRENT_TIMESTAMP + (CAST(?3 AS INTEGER) * INTERVAL '1' SECOND), updated_at = CURRENT_TIMESTAMP "
+			+ "WHERE job_id = ?1", nativeQuery = true)
+	int leaseJob(String jobId, String leaseOwner, long leaseSeconds);
+
+	@Modifying
+	@Query(value = "UPDATE auto_setup_job_tbl SET lease_until = CURRENT_TIMESTAMP + (CAST(?3 AS INTEGER) * INTERVAL '1' SECOND), "
+			+ "updated_at = CURRENT_TIMESTAMP WHERE job_id = ?1 AND lease_owner = ?2 AND status = 'RUNNING'", nativeQuery = true)
+	int renewLease(String jobId, String leaseOwner, long leaseSeconds);
+
+	@Modifying
+	@Query(value = "UPDATE auto_setup_job_tbl SET status = ?3, lease_until = NULL, updated_at = CURRENT_TIMESTAMP "
+			+ "WHERE job_id = ?1 AND lease_owner = ?2 AND status = 'RUNNING'", nativeQuery = true)
+	int releaseJob(String jobId, String leaseOwner, String status);
+
+}
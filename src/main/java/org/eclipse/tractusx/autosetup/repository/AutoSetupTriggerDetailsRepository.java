@@ -0,0 +1,61 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.repository;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface AutoSetupTriggerDetailsRepository extends JpaRepository<AutoSetupTriggerDetails, String> {
+
+	// plain insert, saving the trigger would merge all its details and columns again
+	default int insertDetails(String triggerId, AutoSetupTriggerDetails details) {
+		return insertDetails(details.getId(), triggerId, details.getStep(), details.getStatus(), details.getAction(),
+				details.getRemark(), details.getCreatedDate(), details.getCheckpoint(), details.getStartedAt(),
+				details.getFinishedAt(), details.getDurationMs(), details.getAttempt());
+	}
+
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT INTO auto_setup_trigger_details_tbl "
+			+ "(id, trigger_id, step, status, action, remark, created_date, checkpoint, "
+			+ "started_at, finished_at, duration_ms, attempt) "
+			+ "VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7, ?8, ?9, ?10, ?11, ?12)", nativeQuery = true)
+	int insertDetails(String id, String triggerId, String step, String status, String action, String remark,
+			LocalDateTime createdDate, Boolean checkpoint, OffsetDateTime startedAt, OffsetDateTime finishedAt,
+			Long durationMs, Integer attempt);
+
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE auto_setup_trigger_details_tbl SET checkpoint = true WHERE id = ?1", nativeQuery = true)
+	int markCheckpoint(String id);
+
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE auto_setup_trigger_details_tbl SET checkpoint = NULL WHERE trigger_id = ?1", nativeQuery = true)
+	int clearCheckpoints(String triggerId);
+
+}
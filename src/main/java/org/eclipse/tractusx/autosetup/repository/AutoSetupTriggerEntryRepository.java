@@ -20,9 +20,17 @@
 
 package org.eclipse.tractusx.autosetup.repository;
 
+import java.util.List;
+
+import jakarta.persistence.QueryHint;
+
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AutoSetupTriggerEntryRepository extends JpaRepository<AutoSetupTriggerEntry, String> {
 
@@ -31,4 +39,79 @@ public interface AutoSetupTriggerEntryRepository extends JpaRepository<AutoSetup
 
 	AutoSetupTriggerEntry findTop1ByOrganizationNameAndServiceId(String organizationName, String serviceId);
 
+	// Targeted updates of an existing trigger, its details are written through AutoSetupTriggerDetailsRepository.
+	// EclipseLink inlines all values of an update computing a column unless binding is requested
+	@Transactional
+	@Modifying
+	@QueryHints(@QueryHint(name = "eclipselink.jdbc.bind-parameters", value = "true"))
+	@Query("UPDATE AutoSetupTriggerEntry a SET a.triggerType = :#{#trigger.triggerType}, a.status = :#{#trigger.status}, "
+			+ "a.remark = :#{#trigger.remark}, a.autosetupResult = :#{#trigger.autosetupResult}, "
+			+ "a.autosetupTenantName = :#{#trigger.autosetupTenantName}, a.modifiedTimestamp = :#{#trigger.modifiedTimestamp}, "
+			+ "a.legacyModifiedTimestamp = :#{#trigger.legacyModifiedTimestamp}, "
+			+ "a.pendingAction = :#{#trigger.pendingAction}, a.pendingRequest = :#{#trigger.pendingRequest}, "
+			+ "a.statusVersion = a.statusVersion + 1 "
+			+ "WHERE a.triggerId = :#{#trigger.triggerId}")
+	int updateState(@Param("trigger") AutoSetupTriggerEntry trigger);
+
+	@Transactional
+	@Modifying
+	@QueryHints(@QueryHint(name = "eclipselink.jdbc.bind-parameters", value = "true"))
+	@Query("UPDATE AutoSetupTriggerEntry a SET a.inputConfiguration = :#{#trigger.inputConfiguration}, "
+			+ "a.modifiedTimestamp = :#{#trigger.modifiedTimestamp}, "
+			+ "a.legacyModifiedTimestamp = :#{#trigger.legacyModifiedTimestamp}, a.statusVersion = a.statusVersion + 1 "
+			+ "WHERE a.triggerId = :#{#trigger.triggerId}")
+	int updateInputConfiguration(@Param("trigger") AutoSetupTriggerEntry trigger);
+
+	@Transactional
+	@Modifying
+	@QueryHints(@QueryHint(name = "eclipselink.jdbc.bind-parameters", value = "true"))
+	@Query("UPDATE AutoSetupTriggerEntry a SET a.organizationName = :#{#trigger.organizationName}, "
+			+ "a.autosetupRequest = :#{#trigger.autosetupRequest}, a.modifiedTimestamp = :#{#trigger.modifiedTimestamp}, "
+			+ "a.legacyModifiedTimestamp = :#{#trigger.legacyModifiedTimestamp}, a.statusVersion = a.statusVersion + 1 "
+			+ "WHERE a.triggerId = :#{#trigger.triggerId}")
+	int updateRequest(@Param("trigger") AutoSetupTriggerEntry trigger);
+
+	// the details of a trigger are in their own table, a new step raises the version of its trigger
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE auto_setup_trigger_tbl SET status_version = status_version + 1 WHERE trigger_id = ?1", nativeQuery = true)
+	int incrementStatusVersion(String triggerId);
+
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE auto_setup_trigger_tbl SET owner_node = ?2, heartbeat_at = CURRENT_TIMESTAMP "
+			+ "WHERE trigger_id = ?1", nativeQuery = true)
+	int takeOwnership(String triggerId, String ownerNode);
+
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE auto_setup_trigger_tbl SET heartbeat_at = CURRENT_TIMESTAMP "
+			+ "WHERE owner_node = ?1 AND status = 'INPROGRESS'", nativeQuery = true)
+	int heartbeat(String ownerNode);
+
+	// Rows written before owners were recorded have no heartbeat, their last change counts instead
+	@Query(value = "SELECT trigger_id FROM auto_setup_trigger_tbl WHERE status = 'INPROGRESS' "
+			+ "AND COALESCE(heartbeat_at, modified_at) < CURRENT_TIMESTAMP - (CAST(?1 AS INTEGER) * INTERVAL '1' SECOND) "
+			+ "ORDER BY created_at LIMIT ?2", nativeQuery = true)
+	List<String> findOrphanedTriggerIds(long staleSeconds, int limit);
+
+	// Only one instance wins the claim of an orphaned trigger
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE auto_setup_trigger_tbl SET owner_node = ?2, heartbeat_at = CURRENT_TIMESTAMP "
+			+ "WHERE trigger_id = ?1 AND status = 'INPROGRESS' "
+			+ "AND COALESCE(heartbeat_at, modified_at) < CURRENT_TIMESTAMP - (CAST(?3 AS INTEGER) * INTERVAL '1' SECOND)", nativeQuery = true)
+	int claimOrphanedTrigger(String triggerId, String ownerNode, long staleSeconds);
+
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE auto_setup_trigger_tbl SET owner_node = NULL, heartbeat_at = NULL "
+			+ "WHERE trigger_id = ?1 AND owner_node = ?2", nativeQuery = true)
+	int releaseOwnership(String triggerId, String ownerNode);
+
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE auto_setup_trigger_tbl SET critical_path = ?2 WHERE trigger_id = ?1", nativeQuery = true)
+	int updateCriticalPath(String triggerId, String criticalPath);
+
 }
@@ -0,0 +1,249 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.eclipse.tractusx.autosetup.constant.TriggerIncludeEnum;
+import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerCursor;
+import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerFilter;
+import org.eclipse.tractusx.autosetup.model.StepLatency;
+import org.eclipse.tractusx.autosetup.model.TriggerStatusEvent;
+import org.eclipse.tractusx.autosetup.model.TriggerTimeline;
+import org.eclipse.tractusx.autosetup.model.TriggerTimelineStep;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+// Read side of the trigger listing, plain JDBC so heavy columns are only selected when asked for
+// and exports can be written row by row without loading the table into the persistence context
+@Repository
+@RequiredArgsConstructor
+public class AutoSetupTriggerQueryRepository {
+
+	private static final String LIGHT_COLUMNS = "trigger_id, trigger_type, organization_name, subscription_id, service_id, status, remark, created_at, modified_at";
+
+	private static final String DETAILS_QUERY = "SELECT id, step, status, action, remark, created_date, checkpoint, started_at, finished_at, duration_ms, attempt, trigger_id FROM auto_setup_trigger_details_tbl WHERE trigger_id IN (%s) ORDER BY created_date, id";
+
+	private static final String TIMELINE_TRIGGER_QUERY = "SELECT trigger_id, trigger_type, status, created_at, critical_path FROM auto_setup_trigger_tbl WHERE trigger_id = ?";
+
+	private static final String TIMELINE_STEPS_QUERY = "SELECT step, status, attempt, started_at, finished_at, duration_ms FROM auto_setup_trigger_details_tbl WHERE trigger_id = ? ORDER BY created_date, id";
+
+	// PERCENTILE_CONT is understood by PostgreSQL and H2, rows written before step timings existed have no duration
+	private static final String STEP_LATENCY_QUERY = "SELECT step, COUNT(*) AS samples, "
+			+ "SUM(CASE WHEN status = 'FAILED' THEN 1 ELSE 0 END) AS failed, "
+			+ "SUM(CASE WHEN attempt > 1 THEN 1 ELSE 0 END) AS retried, "
+			+ "PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY duration_ms) AS p50, "
+			+ "PERCENTILE_CONT(0.9) WITHIN GROUP (ORDER BY duration_ms) AS p90, "
+			+ "PERCENTILE_CONT(0.99) WITHIN GROUP (ORDER BY duration_ms) AS p99, "
+			+ "MAX(duration_ms) AS max_ms "
+			+ "FROM auto_setup_trigger_details_tbl WHERE duration_ms IS NOT NULL AND started_at >= ? AND started_at < ?%s "
+			+ "GROUP BY step ORDER BY step";
+
+	private static final String STATUS_QUERY = "SELECT t.trigger_id, t.status, t.modified_at, t.status_version, "
+			+ "(SELECT d.step FROM auto_setup_trigger_details_tbl d WHERE d.trigger_id = t.trigger_id ORDER BY d.created_date DESC, d.id DESC LIMIT 1) AS last_step, "
+			+ "(SELECT d.status FROM auto_setup_trigger_details_tbl d WHERE d.trigger_id = t.trigger_id ORDER BY d.created_date DESC, d.id DESC LIMIT 1) AS last_step_status "
+			+ "FROM auto_setup_trigger_tbl t WHERE t.trigger_id IN (%s)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${trigger.export.fetch-size:500}")
+	private int exportFetchSize;
+
+	public List<AutoSetupTriggerEntry> findTriggers(AutoSetupTriggerFilter filter, AutoSetupTriggerCursor cursor,
+			int limit) {
+		List<Object> args = new ArrayList<>();
+		String sql = buildQuery(filter, cursor, args) + " LIMIT ?";
+		args.add(limit);
+		return jdbcTemplate.query(sql, (rs, rowNum) -> mapTrigger(rs, filter), args.toArray());
+	}
+
+	public void streamTriggers(AutoSetupTriggerFilter filter, Consumer<AutoSetupTriggerEntry> consumer) {
+		List<Object> args = new ArrayList<>();
+		String sql = buildQuery(filter, null, args);
+		jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+			// PostgreSQL only honours the fetch size inside a transaction, otherwise the whole result is buffered
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try (PreparedStatement statement = connection.prepareStatement(sql)) {
+				statement.setFetchSize(exportFetchSize);
+				for (int i = 0; i < args.size(); i++)
+					statement.setObject(i + 1, args.get(i));
+				try (ResultSet rs = statement.executeQuery()) {
+					while (rs.next())
+						consumer.accept(mapTrigger(rs, filter));
+				}
+				connection.commit();
+			} catch (SQLException | RuntimeException e) {
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+			return null;
+		});
+	}
+
+	public Map<String, List<AutoSetupTriggerDetails>> findDetails(Collection<String> triggerIds) {
+		if (triggerIds.isEmpty())
+			return Collections.emptyMap();
+		String sql = String.format(DETAILS_QUERY, String.join(",", Collections.nCopies(triggerIds.size(), "?")));
+		Map<String, List<AutoSetupTriggerDetails>> details = new LinkedHashMap<>();
+		jdbcTemplate.query(sql, rs -> {
+			Timestamp createdDate = rs.getTimestamp("created_date");
+			details.computeIfAbsent(rs.getString("trigger_id"), key -> new ArrayList<>())
+					.add(AutoSetupTriggerDetails.builder().id(rs.getString("id")).step(rs.getString("step"))
+							.status(rs.getString("status")).action(rs.getString("action"))
+							.remark(rs.getString("remark"))
+							.createdDate(createdDate == null ? null : createdDate.toLocalDateTime())
+							.checkpoint((Boolean) rs.getObject("checkpoint"))
+							.startedAt(rs.getObject("started_at", OffsetDateTime.class))
+							.finishedAt(rs.getObject("finished_at", OffsetDateTime.class))
+							.durationMs(rs.getObject("duration_ms", Long.class))
+							.attempt(rs.getObject("attempt", Integer.class)).build());
+		}, triggerIds.toArray());
+		return details;
+	}
+
+	public Optional<TriggerTimeline> findTimeline(String triggerId) {
+		List<TriggerTimeline> timeline = jdbcTemplate.query(TIMELINE_TRIGGER_QUERY,
+				(rs, rowNum) -> TriggerTimeline.builder().triggerId(rs.getString("trigger_id"))
+						.triggerType(rs.getString("trigger_type")).status(rs.getString("status"))
+						.createdTimestamp(rs.getObject("created_at", OffsetDateTime.class))
+						.criticalPath(rs.getString("critical_path")).build(),
+				triggerId);
+		if (timeline.isEmpty())
+			return Optional.empty();
+
+		TriggerTimeline trigger = timeline.get(0);
+		trigger.setSteps(jdbcTemplate.query(TIMELINE_STEPS_QUERY,
+				(rs, rowNum) -> TriggerTimelineStep.builder().step(rs.getString("step"))
+						.status(rs.getString("status")).attempt(rs.getObject("attempt", Integer.class))
+						.startedAt(rs.getObject("started_at", OffsetDateTime.class))
+						.finishedAt(rs.getObject("finished_at", OffsetDateTime.class))
+						.durationMs(rs.getObject("duration_ms", Long.class)).build(),
+				triggerId));
+		return Optional.of(trigger);
+	}
+
+	public List<StepLatency> findStepLatency(OffsetDateTime from, OffsetDateTime to, String action) {
+		List<Object> args = new ArrayList<>(List.of(from, to));
+		if (action != null)
+			args.add(action);
+		String sql = String.format(STEP_LATENCY_QUERY, action == null ? "" : " AND action = ?");
+		return jdbcTemplate.query(sql,
+				(rs, rowNum) -> StepLatency.builder().step(rs.getString("step")).samples(rs.getLong("samples"))
+						.failed(rs.getLong("failed")).retried(rs.getLong("retried"))
+						.p50Ms(Math.round(rs.getDouble("p50"))).p90Ms(Math.round(rs.getDouble("p90")))
+						.p99Ms(Math.round(rs.getDouble("p99"))).maxMs(rs.getLong("max_ms")).build(),
+				args.toArray());
+	}
+
+	// Status without request, result and details, used for ETags and change detection of watched triggers
+	public Map<String, TriggerStatusEvent> findStatus(Collection<String> triggerIds) {
+		if (triggerIds.isEmpty())
+			return Collections.emptyMap();
+		String sql = String.format(STATUS_QUERY, String.join(",", Collections.nCopies(triggerIds.size(), "?")));
+		Map<String, TriggerStatusEvent> status = new LinkedHashMap<>();
+		jdbcTemplate.query(sql, rs -> {
+			OffsetDateTime modified = rs.getObject("modified_at", OffsetDateTime.class);
+			status.put(rs.getString("trigger_id"),
+					TriggerStatusEvent.builder().executionId(rs.getString("trigger_id"))
+							.status(TriggerStatusEnum.valueOf(rs.getString("status")))
+							.step(rs.getString("last_step")).stepStatus(rs.getString("last_step_status"))
+							.modifiedTimestamp(modified == null ? null : modified.toString())
+							.version(TriggerStatusEvent.version(rs.getLong("status_version"))).build());
+		}, triggerIds.toArray());
+		return status;
+	}
+
+	private String buildQuery(AutoSetupTriggerFilter filter, AutoSetupTriggerCursor cursor, List<Object> args) {
+		StringBuilder sql = new StringBuilder("SELECT ").append(LIGHT_COLUMNS);
+		if (filter.isIncluded(TriggerIncludeEnum.REQUEST))
+			sql.append(", autosetup_request");
+		if (filter.isIncluded(TriggerIncludeEnum.RESULT))
+			sql.append(", autosetup_result");
+		sql.append(" FROM auto_setup_trigger_tbl");
+
+		List<String> conditions = new ArrayList<>();
+		if (filter.getStatus() != null) {
+			conditions.add("status = ?");
+			args.add(filter.getStatus());
+		}
+		if (filter.getOrganizationName() != null) {
+			conditions.add("organization_name = ?");
+			args.add(filter.getOrganizationName());
+		}
+		if (filter.getServiceId() != null) {
+			conditions.add("service_id = ?");
+			args.add(filter.getServiceId());
+		}
+		if (filter.getCreatedFrom() != null) {
+			conditions.add("created_at >= ?");
+			args.add(filter.getCreatedFrom());
+		}
+		if (filter.getCreatedTo() != null) {
+			conditions.add("created_at < ?");
+			args.add(filter.getCreatedTo());
+		}
+		if (cursor != null) {
+			conditions.add("(created_at < ? OR (created_at = ? AND trigger_id < ?))");
+			args.add(cursor.createdTimestamp());
+			args.add(cursor.createdTimestamp());
+			args.add(cursor.triggerId());
+		}
+		if (!conditions.isEmpty())
+			sql.append(" WHERE ").append(String.join(" AND ", conditions));
+		// newest first, trigger id breaks ties so the keyset position is unique
+		return sql.append(" ORDER BY created_at DESC, trigger_id DESC").toString();
+	}
+
+	private AutoSetupTriggerEntry mapTrigger(ResultSet rs, AutoSetupTriggerFilter filter) throws SQLException {
+		return AutoSetupTriggerEntry.builder().triggerId(rs.getString("trigger_id"))
+				.triggerType(rs.getString("trigger_type")).organizationName(rs.getString("organization_name"))
+				.subscriptionId(rs.getString("subscription_id")).serviceId(rs.getString("service_id"))
+				.status(rs.getString("status")).remark(rs.getString("remark"))
+				.createdTimestamp(rs.getObject("created_at", OffsetDateTime.class))
+				.modifiedTimestamp(rs.getObject("modified_at", OffsetDateTime.class))
+				.autosetupRequest(filter.isIncluded(TriggerIncludeEnum.REQUEST) ? rs.getString("autosetup_request") : null)
+				.autosetupResult(filter.isIncluded(TriggerIncludeEnum.RESULT) ? rs.getString("autosetup_result") : null)
+				.build();
+	}
+
+}
@@ -0,0 +1,78 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.eclipse.tractusx.autosetup.entity.EmailOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxEntry, String> {
+
+	// Rows locked by another replica's claim are skipped instead of waited for, an expired lease is only
+	// taken over while the email has attempts left
+	@Query(value = "SELECT email_id FROM auto_setup_email_outbox_tbl "
+			+ "WHERE (status = 'PENDING' AND next_attempt_at <= CURRENT_TIMESTAMP) "
+			+ "OR (status = 'SENDING' AND lease_until < CURRENT_TIMESTAMP AND attempts < ?2) "
+			+ "ORDER BY created_at LIMIT ?1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+	List<String> findClaimableEmailIds(int limit, int maxAttempts);
+
+	// Emails whose sender died on their last attempt
+	@Modifying
+	@Query(value = "UPDATE auto_setup_email_outbox_tbl SET status = 'FAILED', lease_until = NULL, "
+			+ "last_error = COALESCE(last_error, 'Lease expired on the last attempt') "
+			+ "WHERE status = 'SENDING' AND lease_until < CURRENT_TIMESTAMP AND attempts >= ?1", nativeQuery = true)
+	int failExhaustedEmails(int maxAttempts);
+
+	@Modifying
+	@Query(value = "UPDATE auto_setup_email_outbox_tbl SET status = 'SENDING', lease_owner = ?2, attempts = attempts + 1, "
+			+ "lease_until = CURRENT_TIMESTAMP + (CAST(?3 AS INTEGER) * INTERVAL '1' SECOND) "
+			+ "WHERE email_id = ?1", nativeQuery = true)
+	int leaseEmail(String emailId, String leaseOwner, long leaseSeconds);
+
+	@Modifying
+	@Query(value = "UPDATE auto_setup_email_outbox_tbl SET status = 'SENT', sent_at = CURRENT_TIMESTAMP, lease_until = NULL, "
+			+ "last_error = NULL WHERE email_id = ?1 AND lease_owner = ?2 AND status = 'SENDING'", nativeQuery = true)
+	int markSent(String emailId, String leaseOwner);
+
+	@Modifying
+	@Query(value = "UPDATE auto_setup_email_outbox_tbl SET status = 'PENDING', next_attempt_at = ?3, lease_until = NULL, "
+			+ "last_error = ?4 WHERE email_id = ?1 AND lease_owner = ?2 AND status = 'SENDING'", nativeQuery = true)
+	int reschedule(String emailId, String leaseOwner, OffsetDateTime nextAttemptAt, String lastError);
+
+	@Modifying
+	@Query(value = "UPDATE auto_setup_email_outbox_tbl SET status = 'FAILED', lease_until = NULL, last_error = ?3 "
+			+ "WHERE email_id = ?1 AND lease_owner = ?2 AND status = 'SENDING'", nativeQuery = true)
+	int markFailed(String emailId, String leaseOwner, String lastError);
+
+	// Deleted in batches so a large backlog does not hold its locks in one transaction
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM auto_setup_email_outbox_tbl WHERE email_id IN (SELECT email_id FROM auto_setup_email_outbox_tbl "
+			+ "WHERE status IN ('SENT', 'FAILED') AND COALESCE(sent_at, created_at) < CURRENT_TIMESTAMP - (CAST(?1 AS INTEGER) * INTERVAL '1' DAY) "
+			+ "LIMIT ?2)", nativeQuery = true)
+	int deleteFinishedEmails(int retentionDays, int limit);
+
+}
@@ -0,0 +1,150 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.tractusx.autosetup.entity.AppDetails;
+import org.eclipse.tractusx.autosetup.model.AppDetailsCacheStatistics;
+import org.eclipse.tractusx.autosetup.repository.AppRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class AppDetailsCache {
+
+	private final AppRepository appRepository;
+	private final boolean enabled;
+	private final int maxSize;
+	private final long revalidateIntervalMs;
+
+	private final Map<String, AppDetails> entries;
+	private final AtomicLong lastRevalidation = new AtomicLong(System.currentTimeMillis());
+	private final AtomicLong generation = new AtomicLong();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public AppDetailsCache(AppRepository appRepository,
+			@Value("${app-details.cache.enabled:true}") boolean enabled,
+			@Value("${app-details.cache.max-size:32}") int maxSize,
+			@Value("${app-details.cache.revalidate-interval-ms:10000}") long revalidateIntervalMs) {
+		this.appRepository = appRepository;
+		this.enabled = enabled;
+		this.maxSize = maxSize;
+		this.revalidateIntervalMs = revalidateIntervalMs;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, AppDetails> eldest) {
+				return size() > AppDetailsCache.this.maxSize;
+			}
+		};
+	}
+
+	// Cached app details are shared between workflows and must be treated as read only
+	public Optional<AppDetails> get(String appName) {
+
+		if (!enabled)
+			return appRepository.findById(appName);
+
+		revalidateIfDue();
+
+		AppDetails cached;
+		synchronized (entries) {
+			cached = entries.get(appName);
+		}
+		if (cached != null) {
+			hits.incrementAndGet();
+			return Optional.of(cached);
+		}
+
+		misses.incrementAndGet();
+		long loadedGeneration = generation.get();
+		Optional<AppDetails> loaded = appRepository.findById(appName);
+		loaded.ifPresent(appDetails -> {
+			synchronized (entries) {
+				// an invalidation while loading may mean the loaded row is already outdated
+				if (generation.get() == loadedGeneration)
+					entries.put(appName, appDetails);
+			}
+		});
+		return loaded;
+	}
+
+	public void invalidate(String appName) {
+		synchronized (entries) {
+			generation.incrementAndGet();
+			if (entries.remove(appName) != null)
+				invalidations.incrementAndGet();
+		}
+	}
+
+	public AppDetailsCacheStatistics getStatistics() {
+		int size;
+		synchronized (entries) {
+			size = entries.size();
+		}
+		return AppDetailsCacheStatistics.builder()
+				.size(size)
+				.maxSize(maxSize)
+				.hits(hits.get())
+				.misses(misses.get())
+				.invalidations(invalidations.get())
+				.build();
+	}
+
+	// Other replicas change app_tbl too, their writes are seen through the revision column
+	// which is scanned at most once per interval by a single caller
+	private void revalidateIfDue() {
+
+		long last = lastRevalidation.get();
+		long now = System.currentTimeMillis();
+		if (now - last < revalidateIntervalMs || !lastRevalidation.compareAndSet(last, now))
+			return;
+
+		try {
+			Map<String, Long> revisions = new HashMap<>();
+			for (Object[] row : appRepository.findAllRevisions()) {
+				revisions.put((String) row[0], row[1] == null ? null : ((Number) row[1]).longValue());
+			}
+
+			synchronized (entries) {
+				generation.incrementAndGet();
+				int before = entries.size();
+				entries.entrySet().removeIf(entry -> !revisions.containsKey(entry.getKey())
+						|| !Objects.equals(revisions.get(entry.getKey()), entry.getValue().getRevision()));
+				invalidations.addAndGet((long) before - entries.size());
+			}
+		} catch (Exception e) {
+			log.warn("App details cache revalidation failed " + e.getMessage());
+		}
+	}
+
+}
@@ -59,9 +59,17 @@ public class AppDetailsService {
 	@Autowired
 	private AppServiceCatalogMapper appServiceCatalogMapper;
 
+	@Autowired
+	private AppDetailsCache appDetailsCache;
+
+	@Autowired
+	private ServiceCatalogCache serviceCatalogCache;
+
 	public AppDetails createOrUpdateAppInfo(AppDetailsRequest appDetailsRequest) {
-		AppDetails appDetails = appDetailsMapper.from(appDetailsRequest);
-		return appRepository.save(appDetails);
+		AppDetails appDetails = appRepository.save(appDetailsMapper.from(appDetailsRequest));
+		appRepository.incrementRevision(appDetails.getAppName());
+		appDetailsCache.invalidate(appDetails.getAppName());
+		return appDetails;
 	}
 
 	public AppDetails getAppDetails(String appName) {
@@ -76,7 +84,9 @@ public class AppDetailsService {
 
 	public AppServiceCatalog createCatalogService(AppServiceCatalogPojo appServiceCatalogPojo) {
 		AppServiceCatalog appServiceCatalog = appServiceCatalogMapper.from(appServiceCatalogPojo);
-		return appServiceCatalogRepository.save(appServiceCatalog);
+		AppServiceCatalog savedAppServiceCatalog = appServiceCatalogRepository.save(appServiceCatalog);
+		serviceCatalogCache.reload();
+		return savedAppServiceCatalog;
 	}
 
 	public AppServiceCatalog getCatalogService(String appServiceCatalogId) {
@@ -95,7 +105,10 @@ public class AppDetailsService {
 				.from(appServiceCatalogAndCustomerMappingPojo);
 		appServiceCatalogAndCustomerMapping
 				.setServiceCatalog(getCatalogService(appServiceCatalogAndCustomerMapping.getCanonicalId()));
-		return appServiceCatalogMappingRepository.save(appServiceCatalogAndCustomerMapping);
+		AppServiceCatalogAndCustomerMapping savedMapping = appServiceCatalogMappingRepository
+				.save(appServiceCatalogAndCustomerMapping);
+		serviceCatalogCache.reload();
+		return savedMapping;
 	}
 
 	public AppServiceCatalogAndCustomerMapping getCatalogServiceMapping(String appServiceId) {
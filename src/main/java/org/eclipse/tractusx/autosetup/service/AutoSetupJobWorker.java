@@ -0,0 +1,129 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.tractusx.autosetup.constant.AppActions;
+import org.eclipse.tractusx.autosetup.constant.JobStatusEnum;
+import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupJob;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.exception.WorkflowCapacityException;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupJobManager;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupTriggerManager;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerEntryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "workflow.distribution.enabled", havingValue = "true")
+public class AutoSetupJobWorker {
+
+	private final AutoSetupJobManager autoSetupJobManager;
+	private final AutoSetupWorkflowExecutor autoSetupWorkflowExecutor;
+	private final AutoSetupOrchitestratorService autoSetupOrchitestratorService;
+	private final AutoSetupTriggerManager autoSetupTriggerManager;
+	private final AutoSetupTriggerEntryRepository autoSetupTriggerEntryRepository;
+
+	private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+	@Scheduled(initialDelayString = "${workflow.distribution.poll-interval-ms:5000}", fixedDelayString = "${workflow.distribution.poll-interval-ms:5000}")
+	public void pollJobs() {
+
+		for (AutoSetupJob job : autoSetupJobManager.failExhaustedJobs()) {
+			log.error("Job of " + job.getTriggerId() + " lost its lease on attempt " + job.getAttempts());
+			markTriggerFailed(job.getTriggerId(), "Execution stopped after " + job.getAttempts() + " attempts");
+		}
+
+		List<AutoSetupJob> jobs = autoSetupJobManager.claim(autoSetupWorkflowExecutor.getAvailableCapacity());
+
+		for (AutoSetupJob job : jobs) {
+			runningJobs.add(job.getJobId());
+			try {
+				autoSetupWorkflowExecutor.execute(job.getTriggerId(), () -> runJob(job));
+			} catch (WorkflowCapacityException e) {
+				runningJobs.remove(job.getJobId());
+				autoSetupJobManager.release(job.getJobId(), JobStatusEnum.PENDING);
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${workflow.distribution.heartbeat-interval-ms:30000}")
+	public void heartbeat() {
+		if (!runningJobs.isEmpty())
+			autoSetupJobManager.renewLeases(Set.copyOf(runningJobs));
+	}
+
+	private void runJob(AutoSetupJob job) {
+
+		log.info(autoSetupJobManager.getNodeId() + " running " + job.getAction() + " job of " + job.getTriggerId()
+				+ ", attempt " + job.getAttempts());
+		try {
+			autoSetupOrchitestratorService.executeJob(job.getTriggerId(), AppActions.valueOf(job.getAction()),
+					job.getPayload());
+
+			// the workflow records its failures on the trigger instead of throwing them
+			AutoSetupTriggerEntry trigger = autoSetupTriggerEntryRepository.findAllByTriggerId(job.getTriggerId());
+			String status = trigger == null ? null : trigger.getStatus();
+			if (TriggerStatusEnum.FAILED.name().equals(status)) {
+				log.error("Job of " + job.getTriggerId() + " failed " + trigger.getRemark());
+				autoSetupJobManager.release(job.getJobId(), JobStatusEnum.FAILED);
+			} else if (TriggerStatusEnum.INPROGRESS.name().equals(status)) {
+				retryOrFail(job, "Execution did not complete");
+			} else {
+				autoSetupJobManager.release(job.getJobId(), JobStatusEnum.DONE);
+			}
+		} catch (Exception e) {
+			retryOrFail(job, e.getMessage());
+		} finally {
+			runningJobs.remove(job.getJobId());
+		}
+	}
+
+	private void retryOrFail(AutoSetupJob job, String message) {
+		log.error("Job of " + job.getTriggerId() + " failed " + message);
+		if (job.getAttempts() < autoSetupJobManager.getMaxAttempts()) {
+			autoSetupJobManager.release(job.getJobId(), JobStatusEnum.PENDING);
+		} else {
+			autoSetupJobManager.release(job.getJobId(), JobStatusEnum.FAILED);
+			markTriggerFailed(job.getTriggerId(), message);
+		}
+	}
+
+	// A trigger that completed before its job was released keeps its status
+	private void markTriggerFailed(String triggerId, String message) {
+		AutoSetupTriggerEntry trigger = autoSetupTriggerEntryRepository.findAllByTriggerId(triggerId);
+		if (trigger != null && TriggerStatusEnum.INPROGRESS.name().equals(trigger.getStatus())) {
+			trigger.setStatus(TriggerStatusEnum.FAILED.name());
+			trigger.setRemark(message);
+			autoSetupTriggerManager.saveTriggerUpdate(trigger);
+		}
+	}
+}
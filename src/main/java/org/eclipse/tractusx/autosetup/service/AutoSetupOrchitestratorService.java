@@ -25,39 +25,38 @@ import static org.eclipse.tractusx.autosetup.constant.AppActions.DELETE;
 import static org.eclipse.tractusx.autosetup.constant.AppActions.UPDATE;
 import static org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum.INPROGRESS;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.tractusx.autosetup.constant.AppActions;
 import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
-import org.eclipse.tractusx.autosetup.entity.AppServiceCatalogAndCustomerMapping;
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
 import org.eclipse.tractusx.autosetup.exception.NoDataFoundException;
 import org.eclipse.tractusx.autosetup.exception.ServiceException;
 import org.eclipse.tractusx.autosetup.exception.ValidationException;
+import org.eclipse.tractusx.autosetup.exception.WorkflowCapacityException;
 import org.eclipse.tractusx.autosetup.kubeapps.proxy.KubeAppManageProxy;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupJobManager;
 import org.eclipse.tractusx.autosetup.manager.AutoSetupTriggerManager;
 import org.eclipse.tractusx.autosetup.manager.EmailManager;
 import org.eclipse.tractusx.autosetup.manager.InputConfigurationManager;
+import org.eclipse.tractusx.autosetup.manager.NotificationRenderer;
 import org.eclipse.tractusx.autosetup.mapper.AutoSetupRequestMapper;
 import org.eclipse.tractusx.autosetup.mapper.AutoSetupTriggerMapper;
 import org.eclipse.tractusx.autosetup.model.AutoSetupRequest;
 import org.eclipse.tractusx.autosetup.model.Customer;
 import org.eclipse.tractusx.autosetup.model.SelectedTools;
+import org.eclipse.tractusx.autosetup.model.ServiceCatalogEntry;
 import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerEntryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -72,7 +71,7 @@ public class AutoSetupOrchitestratorService {
 	private static final String CCEMAIL = "ccemail";
 	private static final String TEST_SERVICE_URL = "testServiceURL";
 	private static final String CONNECTOR_TEST_RESULT = "connectorTestResult";
-	private static final String EMAIL_SENT_SUCCESSFULLY = "Email sent successfully";
+	private static final String EMAIL_SENT_SUCCESSFULLY = "Email queued for sending";
 	private static final String TOEMAIL = "toemail";
 	private static final String ORGNAME = "orgname";
 	public static final String TARGET_NAMESPACE = "targetNamespace";
@@ -95,11 +94,20 @@ public class AutoSetupOrchitestratorService {
 	private AutoSetupTriggerEntryRepository autoSetupTriggerEntryRepository;
 
 	@Autowired
-	private AppDetailsService appDetailsService;
+	private ServiceCatalogCache serviceCatalogCache;
 
 	@Autowired
 	private EmailManager emailManager;
 
+	@Autowired
+	private AutoSetupWorkflowExecutor autoSetupWorkflowExecutor;
+
+	@Autowired
+	private AutoSetupJobManager autoSetupJobManager;
+
+	@Autowired
+	private WorkflowStepRunner workflowStepRunner;
+
 	@Value("${target.cluster}")
 	private String targetCluster;
 
@@ -122,8 +130,6 @@ public class AutoSetupOrchitestratorService {
 		return kubeAppManageProxy.getAllInstallPackages();
 	}
 
-	ObjectMapper mapper = new ObjectMapper();
-
 	public String createPackage(AutoSetupRequest autoSetupRequest) {
 
 		String uuID = UUID.randomUUID().toString();
@@ -136,18 +142,16 @@ public class AutoSetupOrchitestratorService {
 		AutoSetupTriggerEntry trigger = autoSetupTriggerManager.createTrigger(autoSetupRequest, CREATE, uuID,
 				targetNamespace);
 		try {
-			List<AppServiceCatalogAndCustomerMapping> appCatalogDetails = verifyIsServiceValid(autoSetupRequest);
-
-			Runnable runnable = () -> {
-
-				if (!checkNamespaceisExist(targetNamespace)) {
-					kubeAppManageProxy.createNamespace(targetCluster, targetNamespace);
-				}
-
-				proceessTrigger(autoSetupRequest, CREATE, trigger, inputConfiguration, appCatalogDetails);
-			};
-
-			new Thread(runnable).start();
+			List<ServiceCatalogEntry> appCatalogDetails = verifyIsServiceValid(autoSetupRequest);
+
+			// with distributed execution the job got queued together with the trigger
+			if (!autoSetupJobManager.isEnabled())
+				autoSetupWorkflowExecutor.execute(uuID, () -> executeCreateWorkflow(autoSetupRequest, trigger,
+						inputConfiguration, appCatalogDetails));
+		} catch (WorkflowCapacityException e) {
+			// the client never gets this trigger id, nothing has been installed for it yet
+			autoSetupTriggerManager.deleteTrigger(trigger);
+			throw e;
 		} catch (Exception e) {
 			log.error("Error in package creation process start: " + e.getMessage());
 			trigger.setStatus(TriggerStatusEnum.FAILED.name());
@@ -165,53 +169,91 @@ public class AutoSetupOrchitestratorService {
 		if (trigger != null) {
 
 			try {
-				List<AppServiceCatalogAndCustomerMapping> appCatalogDetails = verifyIsServiceValid(autoSetupRequest);
+				List<ServiceCatalogEntry> appCatalogDetails = verifyIsServiceValid(autoSetupRequest);
 
 				Map<String, String> inputConfiguration = inputConfigurationManager
 						.prepareInputConfiguration(autoSetupRequest, triggerId);
 
-				Runnable runnable = () -> {
+				if (autoSetupJobManager.isEnabled())
+					autoSetupJobManager.enqueue(triggerId, UPDATE, customerDetailsMapper.fromCustomer(autoSetupRequest));
+				else {
+					autoSetupWorkflowExecutor.execute(triggerId, () -> executeUpdateWorkflow(autoSetupRequest, trigger,
+							inputConfiguration, appCatalogDetails));
+					autoSetupTriggerManager.takeOwnership(triggerId);
+				}
+			} catch (WorkflowCapacityException e) {
+				// nothing changed yet for the existing packages, keep trigger as it is
+				throw e;
+			} catch (Exception e) {
+				log.error("Error in package update process start :" + e.getMessage());
+				trigger.setStatus(TriggerStatusEnum.FAILED.name());
+				trigger.setRemark(e.getMessage());
+				trigger.setAutosetupRequest(customerDetailsMapper.fromCustomer(autoSetupRequest));
+				autoSetupTriggerManager.saveTriggerRequestUpdate(trigger);
+				throw e;
+			}
 
-					trigger.setTriggerType(DELETE.name());
-					trigger.setStatus(INPROGRESS.name());
+		} else {
+			throw new NoDataFoundException("No Valid Auto setup found for " + triggerId + " to update");
+		}
 
-					autoSetupTriggerManager.saveTriggerUpdate(trigger);
+		return triggerId;
+	}
 
-					String targetNamespace = inputConfiguration.get(TARGET_NAMESPACE);
+	private void executeCreateWorkflow(AutoSetupRequest autoSetupRequest, AutoSetupTriggerEntry trigger,
+			Map<String, String> inputConfiguration, List<ServiceCatalogEntry> appCatalogDetails) {
 
-					String existingNamespace = trigger.getAutosetupTenantName();
+		String targetNamespace = inputConfiguration.get(TARGET_NAMESPACE);
 
-					if (checkNamespaceisExist(existingNamespace)) {
+		if (!checkNamespaceisExist(targetNamespace)) {
+			kubeAppManageProxy.createNamespace(targetCluster, targetNamespace);
+		}
 
-						updateSubmethod(trigger, inputConfiguration, targetNamespace, existingNamespace);
+		proceessTrigger(autoSetupRequest, CREATE, trigger, inputConfiguration, appCatalogDetails);
+	}
 
-					} else {
-						trigger.setAutosetupTenantName(targetNamespace);
-						kubeAppManageProxy.createNamespace(targetCluster, targetNamespace);
-					}
+	// The new request and the update intent are stored before anything is deleted, an interrupted update
+	// resumes with the deletion or, once type UPDATE marks it done, with the recreation
+	private void executeUpdateWorkflow(AutoSetupRequest autoSetupRequest, AutoSetupTriggerEntry trigger,
+			Map<String, String> inputConfiguration, List<ServiceCatalogEntry> appCatalogDetails) {
 
-					AutoSetupTriggerEntry updatedtrigger = autoSetupTriggerManager
-							.updateTriggerAutoSetupRequest(autoSetupRequest, trigger, UPDATE);
+		if (!UPDATE.name().equals(trigger.getPendingAction())) {
+			trigger.setTriggerType(DELETE.name());
+			trigger.setStatus(INPROGRESS.name());
+			trigger.setPendingAction(UPDATE.name());
+			trigger.setPendingRequest(customerDetailsMapper.fromCustomer(autoSetupRequest));
+			autoSetupTriggerManager.clearCheckpoints(trigger);
 
-					proceessTrigger(autoSetupRequest, CREATE, updatedtrigger, inputConfiguration, appCatalogDetails);
+			autoSetupTriggerManager.saveTriggerUpdate(trigger);
+		}
 
-				};
+		String targetNamespace = inputConfiguration.get(TARGET_NAMESPACE);
 
-				new Thread(runnable).start();
-			} catch (Exception e) {
-				log.error("Error in package update process start :" + e.getMessage());
-				trigger.setStatus(TriggerStatusEnum.FAILED.name());
-				trigger.setRemark(e.getMessage());
-				trigger.setAutosetupRequest(customerDetailsMapper.fromCustomer(autoSetupRequest));
+		if (DELETE.name().equals(trigger.getTriggerType())) {
+
+			String existingNamespace = trigger.getAutosetupTenantName();
+
+			if (checkNamespaceisExist(existingNamespace)) {
+				updateSubmethod(trigger, inputConfiguration, targetNamespace, existingNamespace);
+			} else {
+				trigger.setTriggerType(UPDATE.name());
 				autoSetupTriggerManager.saveTriggerUpdate(trigger);
-				throw e;
 			}
+		}
 
-		} else {
-			throw new NoDataFoundException("No Valid Auto setup found for " + triggerId + " to update");
+		if (!checkNamespaceisExist(targetNamespace)) {
+			kubeAppManageProxy.createNamespace(targetCluster, targetNamespace);
 		}
+		trigger.setAutosetupTenantName(targetNamespace);
 
-		return triggerId;
+		AutoSetupTriggerEntry updatedtrigger = autoSetupTriggerManager
+				.updateTriggerAutoSetupRequest(autoSetupRequest, trigger, UPDATE);
+
+		proceessTrigger(autoSetupRequest, CREATE, updatedtrigger, inputConfiguration, appCatalogDetails);
+	}
+
+	public boolean isDeferred(String triggerId) {
+		return autoSetupWorkflowExecutor.isDeferred(triggerId);
 	}
 
 	private void updateSubmethod(AutoSetupTriggerEntry trigger, Map<String, String> inputConfiguration,
@@ -221,11 +263,7 @@ public class AutoSetupOrchitestratorService {
 		processDeleteTrigger(trigger, inputConfiguration);
 
 		inputConfiguration.put(TARGET_NAMESPACE, targetNamespace);
-		trigger.setAutosetupTenantName(targetNamespace);
 
-		if (!existingNamespace.equals(targetNamespace) && !checkNamespaceisExist(targetNamespace)) {
-			kubeAppManageProxy.createNamespace(targetCluster, targetNamespace);
-		}
 		try {
 			log.info("Waiting after deleteing all package for recreate");
 			Thread.sleep(15000);
@@ -234,35 +272,19 @@ public class AutoSetupOrchitestratorService {
 		}
 	}
 
-	private List<AppServiceCatalogAndCustomerMapping> verifyIsServiceValid(AutoSetupRequest autoSetupRequest) {
+	private List<ServiceCatalogEntry> verifyIsServiceValid(AutoSetupRequest autoSetupRequest) {
 
 		// In future if want to support multiple service as installation we can make
 		// changes here
 		String serviceId = autoSetupRequest.getProperties().getServiceId();
-		List<String> ids = Arrays.asList(serviceId);
 
-		List<AppServiceCatalogAndCustomerMapping> findAllById = appDetailsService.findByServiceIds(ids);
+		List<ServiceCatalogEntry> findAllById = serviceCatalogCache.findByServiceId(serviceId);
 		if (findAllById.isEmpty())
 			throw new ValidationException("The service Id " + serviceId + " is not supported for auto-setup");
 
 		return findAllById;
 	}
 
-	private List<SelectedTools> getToolInfo(AppServiceCatalogAndCustomerMapping appCatalog) {
-
-		try {
-			String jsonStr = appCatalog.getServiceCatalog().getServiceTools();
-
-			if (jsonStr != null && !jsonStr.isEmpty()) {
-				return mapper.readValue(jsonStr, new TypeReference<List<SelectedTools>>() {
-				});
-			}
-		} catch (Exception e) {
-			log.error("Error in parsing selected tools list");
-		}
-		return List.of();
-	}
-
 	public String deletePackage(String triggerId) {
 
 		AutoSetupTriggerEntry trigger = autoSetupTriggerEntryRepository.findAllByTriggerId(triggerId);
@@ -271,14 +293,32 @@ public class AutoSetupOrchitestratorService {
 
 			Map<String, String> inputConfiguration = inputConfigurationManager.prepareInputFromDBObject(trigger);
 
+			String previousResult = trigger.getAutosetupResult();
+			String previousTriggerType = trigger.getTriggerType();
+			String previousStatus = trigger.getStatus();
+
 			trigger.setAutosetupResult("");
 			trigger.setTriggerType(DELETE.name());
 			trigger.setStatus(INPROGRESS.name());
+			autoSetupTriggerManager.clearCheckpoints(trigger);
 
 			AutoSetupTriggerEntry deleteTrigger = autoSetupTriggerManager.saveTriggerUpdate(trigger);
 
 			Runnable runnable = () -> processDeleteTrigger(deleteTrigger, inputConfiguration);
-			new Thread(runnable).start();
+			try {
+				if (autoSetupJobManager.isEnabled())
+					autoSetupJobManager.enqueue(triggerId, DELETE, null);
+				else {
+					autoSetupWorkflowExecutor.execute(triggerId, runnable);
+					autoSetupTriggerManager.takeOwnership(triggerId);
+				}
+			} catch (WorkflowCapacityException e) {
+				deleteTrigger.setAutosetupResult(previousResult);
+				deleteTrigger.setTriggerType(previousTriggerType);
+				deleteTrigger.setStatus(previousStatus);
+				autoSetupTriggerManager.saveTriggerUpdate(deleteTrigger);
+				throw e;
+			}
 		} else {
 			throw new NoDataFoundException("No Valid Auto setup found for " + triggerId + " to delete");
 		}
@@ -286,17 +326,90 @@ public class AutoSetupOrchitestratorService {
 		return triggerId;
 	}
 
+	public void resumeTrigger(AutoSetupTriggerEntry trigger) {
+		autoSetupWorkflowExecutor.execute(trigger.getTriggerId(), prepareResume(trigger));
+	}
+
+	// Runs a job claimed from the distributed job table on the calling thread
+	public void executeJob(String triggerId, AppActions action, String payload) {
+
+		AutoSetupTriggerEntry trigger = autoSetupTriggerEntryRepository.findAllByTriggerId(triggerId);
+
+		if (trigger == null)
+			throw new NoDataFoundException("No Valid Auto setup found for " + triggerId + " to execute job");
+
+		boolean inProgress = INPROGRESS.name().equals(trigger.getStatus());
+		boolean recreateStarted = inProgress && CREATE.name().equals(trigger.getTriggerType())
+				&& autoSetupTriggerManager.hasCheckpoint(trigger);
+
+		if (action == UPDATE && !recreateStarted) {
+			AutoSetupRequest autoSetupRequest = autoSetupRequestMapper.fromStr(payload);
+			List<ServiceCatalogEntry> appCatalogDetails = verifyIsServiceValid(autoSetupRequest);
+			Map<String, String> inputConfiguration = inputConfigurationManager
+					.prepareInputConfiguration(autoSetupRequest, triggerId);
+			executeUpdateWorkflow(autoSetupRequest, trigger, inputConfiguration, appCatalogDetails);
+		} else if (inProgress) {
+			prepareResume(trigger).run();
+		} else {
+			log.info("Skipping " + action + " job of " + triggerId + ", trigger is " + trigger.getStatus());
+		}
+	}
+
+	private Runnable prepareResume(AutoSetupTriggerEntry trigger) {
+
+		String triggerId = trigger.getTriggerId();
+
+		if (UPDATE.name().equals(trigger.getPendingAction())) {
+			log.info("Resuming update " + triggerId + " in its " + trigger.getTriggerType() + " phase");
+			AutoSetupRequest pendingRequest = autoSetupRequestMapper.fromStr(trigger.getPendingRequest());
+			List<ServiceCatalogEntry> appCatalogDetails = verifyIsServiceValid(pendingRequest);
+			Map<String, String> inputConfiguration = inputConfigurationManager
+					.prepareInputConfiguration(pendingRequest, triggerId);
+			return () -> executeUpdateWorkflow(pendingRequest, trigger, inputConfiguration, appCatalogDetails);
+		}
+
+		if (DELETE.name().equals(trigger.getTriggerType())) {
+			log.info("Resuming deletion " + triggerId);
+			Map<String, String> inputConfiguration = inputConfigurationManager.prepareInputFromDBObject(trigger);
+			return () -> processDeleteTrigger(trigger, inputConfiguration);
+		}
+
+		AutoSetupRequest autoSetupRequest = autoSetupRequestMapper.fromStr(trigger.getAutosetupRequest());
+		List<ServiceCatalogEntry> appCatalogDetails = verifyIsServiceValid(autoSetupRequest);
+
+		Map<String, String> inputConfiguration = restoreInputConfiguration(trigger, autoSetupRequest);
+
+		log.info("Resuming workflow " + triggerId + " from its last checkpoint");
+		return () -> executeCreateWorkflow(autoSetupRequest, trigger, inputConfiguration, appCatalogDetails);
+	}
+
+	private Map<String, String> restoreInputConfiguration(AutoSetupTriggerEntry trigger,
+			AutoSetupRequest autoSetupRequest) {
+
+		// without checkpoint the stored configuration may still be the one of a previous run
+		if (!autoSetupTriggerManager.hasCheckpoint(trigger) || trigger.getInputConfiguration() == null)
+			return inputConfigurationManager.prepareInputConfiguration(autoSetupRequest, trigger.getTriggerId());
+
+		Map<String, String> inputConfiguration = new ConcurrentHashMap<>();
+		autoSetupTriggerMapper.fromJsonStrToMap(trigger.getInputConfiguration())
+				.forEach(map -> map.forEach((key, value) -> {
+					if (key != null && value != null)
+						inputConfiguration.put(key, value);
+				}));
+		return inputConfiguration;
+	}
+
 	private void proceessTrigger(AutoSetupRequest autoSetupRequest, AppActions action, AutoSetupTriggerEntry trigger,
-			Map<String, String> inputConfiguration, List<AppServiceCatalogAndCustomerMapping> appCatalogListDetails) {
+			Map<String, String> inputConfiguration, List<ServiceCatalogEntry> appCatalogListDetails) {
 
 		try {
 
 			Customer customer = autoSetupRequest.getCustomer();
 			trigger.setTriggerType(action.name());
 
-			for (AppServiceCatalogAndCustomerMapping appCatalogDetails : appCatalogListDetails) {
+			for (ServiceCatalogEntry appCatalogDetails : appCatalogListDetails) {
 
-				List<SelectedTools> selectedTools = getToolInfo(appCatalogDetails);
+				List<SelectedTools> selectedTools = appCatalogDetails.selectedTools();
 
 				for (SelectedTools selectedTool : selectedTools) {
 
@@ -335,10 +448,7 @@ public class AutoSetupOrchitestratorService {
 			generateNotification(autoSetupRequest.getCustomer(),
 					"Error in autosetup execution - " + trigger.getTriggerId(), "", SUCCESS_HTML_TEMPLATE);
 		} finally {
-			LocalDateTime now = LocalDateTime.now();
-			trigger.setModifiedTimestamp(now.toString());
-			trigger.setInputConfiguration(autoSetupTriggerMapper.fromMaptoStr(List.of(inputConfiguration)));
-
+			autoSetupTriggerManager.saveInputConfiguration(trigger, inputConfiguration);
 			autoSetupTriggerManager.saveTriggerUpdate(trigger);
 		}
 	}
@@ -346,11 +456,8 @@ public class AutoSetupOrchitestratorService {
 	private void executeEDCTractus(AutoSetupRequest autoSetupRequest, AppActions action, AutoSetupTriggerEntry trigger,
 			Map<String, String> inputConfiguration, SelectedTools selectedTool) {
 
-		String label = selectedTool.getLabel();
-		selectedTool.setLabel("edc-" + label);
-
-		Map<String, String> edcOutput = edcConnectorWorkFlow.getWorkFlow(autoSetupRequest.getCustomer(), selectedTool,
-				action, inputConfiguration, trigger);
+		Map<String, String> edcOutput = edcConnectorWorkFlow.getWorkFlow(autoSetupRequest.getCustomer(),
+				withLabel(selectedTool, "edc-" + selectedTool.getLabel()), action, inputConfiguration, trigger);
 		inputConfiguration.putAll(edcOutput);
 
 		edcDeployemnt(autoSetupRequest, trigger, edcOutput);
@@ -373,14 +480,13 @@ public class AutoSetupOrchitestratorService {
 		boolean isTestConnectivityTestSuccess = connectivityTestStr != null
 				&& connectivityTestStr.contains("consumer and provider");
 
-		String generateEmailTable = generateEmailTable(extractResultMap);
 		// Send an email
 		Map<String, Object> emailContent = new HashMap<>();
 		emailContent.put(ORGNAME, customer.getOrganizationName());
 		emailContent.put(CCEMAIL, technicalEmail);
 		emailContent.put(TEST_SERVICE_URL, findValueInMap(edcOutput, TEST_SERVICE_URL));
 		emailContent.put(CONNECTOR_TEST_RESULT, CONNECTOR_TEST_RESULT);
-		emailContent.put(CONTENT, generateEmailTable);
+		emailContent.put(NotificationRenderer.RESULTS, extractResultMap);
 
 		if (isTestConnectivityTestSuccess) {
 			emailContent.put(TOEMAIL, customer.getEmail());
@@ -397,29 +503,32 @@ public class AutoSetupOrchitestratorService {
 			SelectedTools selectedTool) {
 
 		String label = selectedTool.getLabel();
-		selectedTool.setLabel("edc-" + label);
 
-		Map<String, String> edcOutput = edcConnectorWorkFlow.getWorkFlow(autoSetupRequest.getCustomer(), selectedTool,
-				action, inputConfiguration, trigger);
-		inputConfiguration.putAll(edcOutput);
+		// DT registry only needs the request data, so it is installed while the connector is set up
+		WorkflowGraph workflowGraph = new WorkflowGraph();
+		edcConnectorWorkFlow.addSteps(workflowGraph, customer, withLabel(selectedTool, "edc-" + label), action,
+				trigger);
+		if (managedDtRegistry)
+			dtAppWorkFlow.addSteps(workflowGraph, customer, withLabel(selectedTool, "dt-" + label), action, trigger);
+		sdeWorkFlow.addSteps(workflowGraph, customer, withLabel(selectedTool, "sde-" + label), action, trigger);
 
-		String json = autoSetupTriggerMapper.fromMaptoStr(extractEDCResultMap(inputConfiguration));
-		trigger.setAutosetupResult(json);
+		workflowStepRunner.run(workflowGraph, trigger, inputConfiguration);
 
-		sdeDeployment(autoSetupRequest, action, trigger, inputConfiguration, customer, selectedTool, label);
+		sdeDeployment(trigger, inputConfiguration, customer);
 
 	}
 
+	private SelectedTools withLabel(SelectedTools selectedTool, String label) {
+		return SelectedTools.builder().tool(selectedTool.getTool()).type(selectedTool.getType()).label(label).build();
+	}
+
 	private void dtDeployment(Customer customer, AppActions action, AutoSetupTriggerEntry trigger,
 			Map<String, String> inputConfiguration, SelectedTools selectedTool) {
 
-		String label = selectedTool.getLabel();
-		selectedTool.setLabel("dt-" + label);
-
-		dtAppWorkFlow.getWorkFlow(customer, selectedTool, action, inputConfiguration, trigger);
+		dtAppWorkFlow.getWorkFlow(customer, withLabel(selectedTool, "dt-" + selectedTool.getLabel()), action,
+				inputConfiguration, trigger);
 
 		List<Map<String, String>> extractDTResultMap = extractDTResultMap(inputConfiguration);
-		String generateEmailTable = generateEmailTable(extractDTResultMap);
 
 		String json = autoSetupTriggerMapper.fromMaptoStr(extractDTResultMap);
 		trigger.setAutosetupResult(json);
@@ -431,7 +540,7 @@ public class AutoSetupOrchitestratorService {
 		emailContent.put(ORGNAME, customer.getOrganizationName());
 		emailContent.put(TOEMAIL, customer.getEmail());
 		emailContent.put(CCEMAIL, technicalEmail);
-		emailContent.put(CONTENT, generateEmailTable);
+		emailContent.put(NotificationRenderer.RESULTS, extractDTResultMap);
 
 		emailManager.sendEmail(emailContent, "DT registry Application Activited Successfully",
 				"dt_success_template.html");
@@ -439,23 +548,10 @@ public class AutoSetupOrchitestratorService {
 
 	}
 
-	private void sdeDeployment(AutoSetupRequest autoSetupRequest, AppActions action, AutoSetupTriggerEntry trigger,
-			Map<String, String> inputConfiguration, Customer customer, SelectedTools selectedTool, String label) {
-
-		if (managedDtRegistry) {
-			selectedTool.setLabel("dt-" + label);
-			dtAppWorkFlow.getWorkFlow(customer, selectedTool, action, inputConfiguration, trigger);
-
-			String json = autoSetupTriggerMapper.fromMaptoStr(extractDependantAppResult(inputConfiguration));
-			trigger.setAutosetupResult(json);
-		}
-
-		selectedTool.setLabel("sde-" + label);
-		Map<String, String> map = sdeWorkFlow.getWorkFlow(autoSetupRequest.getCustomer(), selectedTool, action,
-				inputConfiguration, trigger);
+	private void sdeDeployment(AutoSetupTriggerEntry trigger, Map<String, String> inputConfiguration,
+			Customer customer) {
 
-		List<Map<String, String>> extractResultMap = extractResultMap(map);
-		String generateEmailTable = generateEmailTable(extractResultMap);
+		List<Map<String, String>> extractResultMap = extractResultMap(inputConfiguration);
 
 		String json = autoSetupTriggerMapper.fromMaptoStr(extractResultMap);
 		trigger.setAutosetupResult(json);
@@ -467,7 +563,7 @@ public class AutoSetupOrchitestratorService {
 		Map<String, Object> emailContent = new HashMap<>();
 		emailContent.put(ORGNAME, customer.getOrganizationName());
 		emailContent.put(CCEMAIL, technicalEmail);
-		emailContent.put(CONTENT, generateEmailTable);
+		emailContent.put(NotificationRenderer.RESULTS, extractResultMap);
 		
 		if (manualUpdate || !isTestConnectivityTestSuccess) {
 			emailContent.put(TOEMAIL, technicalEmail);
@@ -477,7 +573,7 @@ public class AutoSetupOrchitestratorService {
 			trigger.setStatus(TriggerStatusEnum.SUCCESS.name());
 			// Send an email
 			emailContent.put(TOEMAIL, customer.getEmail());
-			emailContent.put(TEST_SERVICE_URL, findValueInMap(map, TEST_SERVICE_URL));
+			emailContent.put(TEST_SERVICE_URL, findValueInMap(inputConfiguration, TEST_SERVICE_URL));
 			emailContent.put(CONNECTOR_TEST_RESULT, CONNECTOR_TEST_RESULT);
 
 			emailManager.sendEmail(emailContent, "SDE Application Activited Successfully", "success_activate.html");
@@ -504,11 +600,11 @@ public class AutoSetupOrchitestratorService {
 		if (trigger != null && trigger.getAutosetupRequest() != null) {
 			AutoSetupRequest autoSetupRequest = autoSetupRequestMapper.fromStr(trigger.getAutosetupRequest());
 
-			List<AppServiceCatalogAndCustomerMapping> appCatalogListDetails = verifyIsServiceValid(autoSetupRequest);
+			List<ServiceCatalogEntry> appCatalogListDetails = verifyIsServiceValid(autoSetupRequest);
 
 			// In future if want to support multiple service as installation we can do
 			// easily
-			for (AppServiceCatalogAndCustomerMapping appCatalogDetails : appCatalogListDetails) {
+			for (ServiceCatalogEntry appCatalogDetails : appCatalogListDetails) {
 
 				if (appCatalogDetails != null) {
 					executeInstallTool(trigger, inputConfiguration, appCatalogDetails);
@@ -521,9 +617,9 @@ public class AutoSetupOrchitestratorService {
 	}
 
 	private void executeInstallTool(AutoSetupTriggerEntry trigger, Map<String, String> inputConfiguration,
-			AppServiceCatalogAndCustomerMapping appCatalogDetails) {
+			ServiceCatalogEntry appCatalogDetails) {
 
-		List<SelectedTools> selectedTools = getToolInfo(appCatalogDetails);
+		List<SelectedTools> selectedTools = appCatalogDetails.selectedTools();
 
 		List<Map<String, String>> autosetupResult = autoSetupTriggerMapper
 				.fromJsonStrToMap(trigger.getAutosetupResult());
@@ -539,30 +635,27 @@ public class AutoSetupOrchitestratorService {
 
 				label = selectedTool.getLabel();
 
-				selectedTool.setLabel("edc-" + label);
-				edcConnectorWorkFlow.deletePackageWorkFlow(selectedTool, inputConfiguration, trigger);
+				edcConnectorWorkFlow.deletePackageWorkFlow(withLabel(selectedTool, "edc-" + label), inputConfiguration,
+						trigger);
 
-				selectedTool.setLabel("dt-" + label);
-				dtAppWorkFlow.deletePackageWorkFlow(selectedTool, inputConfiguration, trigger);
+				dtAppWorkFlow.deletePackageWorkFlow(withLabel(selectedTool, "dt-" + label), inputConfiguration, trigger);
 
-				selectedTool.setLabel("sde-" + label);
-				sdeWorkFlow.deletePackageWorkFlow(selectedTool, inputConfiguration, trigger);
+				sdeWorkFlow.deletePackageWorkFlow(withLabel(selectedTool, "sde-" + label), inputConfiguration, trigger);
 
 				break;
 
 			case EDC_TRACTUS:
 
 				label = selectedTool.getLabel();
-				selectedTool.setLabel("edc-" + label);
-				edcConnectorWorkFlow.deletePackageWorkFlow(selectedTool, inputConfiguration, trigger);
+				edcConnectorWorkFlow.deletePackageWorkFlow(withLabel(selectedTool, "edc-" + label), inputConfiguration,
+						trigger);
 
 				break;
 
 			case DT_REGISTRY:
 
 				label = selectedTool.getLabel();
-				selectedTool.setLabel("dt-" + label);
-				dtAppWorkFlow.deletePackageWorkFlow(selectedTool, inputConfiguration, trigger);
+				dtAppWorkFlow.deletePackageWorkFlow(withLabel(selectedTool, "dt-" + label), inputConfiguration, trigger);
 
 				break;
 			default:
@@ -570,7 +663,11 @@ public class AutoSetupOrchitestratorService {
 			}
 		}
 
-		trigger.setStatus(TriggerStatusEnum.SUCCESS.name());
+		// deletion as part of an update only completes its first phase, the trigger stays in progress
+		if (UPDATE.name().equals(trigger.getPendingAction()))
+			trigger.setTriggerType(UPDATE.name());
+		else
+			trigger.setStatus(TriggerStatusEnum.SUCCESS.name());
 
 		autoSetupTriggerManager.saveTriggerUpdate(trigger);
 
@@ -646,20 +743,6 @@ public class AutoSetupOrchitestratorService {
 		return processResult;
 	}
 
-	public String generateEmailTable(List<Map<String, String>> content) {
-		StringBuilder sb = new StringBuilder();
-		sb.append("<table>");
-		content.forEach(element -> {
-			sb.append("<tr><td colspan=\"2\"><b>" + element.get("name") + "</b></td></tr>");
-			element.entrySet().forEach(entry -> {
-				if (!"name".equals(entry.getKey()))
-					sb.append("<tr><td>" + entry.getKey() + "</td><td>" + entry.getValue() + "</td></tr>");
-			});
-		});
-		sb.append("</table>");
-		return sb.toString();
-	}
-
 	public boolean checkNamespaceisExist(String targetNamespace) {
 
 		String namespacesResult = kubeAppManageProxy.checkNamespace(targetCluster, targetNamespace);
@@ -0,0 +1,143 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.exception.WorkflowCapacityException;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupJobManager;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupTriggerManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Resumes INPROGRESS triggers whose owning instance is gone. Every instance refreshes the heartbeat of
+// the triggers it owns on its own thread, which keeps running while the workflow executor drains on
+// shutdown, so a replacement pod leaves the triggers of a draining pod alone.
+@Slf4j
+@Component
+public class AutoSetupRecoveryService {
+
+	private final AutoSetupTriggerManager autoSetupTriggerManager;
+	private final AutoSetupOrchitestratorService autoSetupOrchitestratorService;
+	private final AutoSetupWorkflowExecutor autoSetupWorkflowExecutor;
+	private final AutoSetupJobManager autoSetupJobManager;
+
+	private final boolean recoveryEnabled;
+
+	private final long staleSeconds;
+
+	private final ScheduledExecutorService scheduler;
+
+	public AutoSetupRecoveryService(AutoSetupTriggerManager autoSetupTriggerManager,
+			AutoSetupOrchitestratorService autoSetupOrchitestratorService,
+			AutoSetupWorkflowExecutor autoSetupWorkflowExecutor, AutoSetupJobManager autoSetupJobManager,
+			@Value("${workflow.recovery.enabled:true}") boolean recoveryEnabled,
+			@Value("${workflow.recovery.heartbeat-interval-ms:30000}") long heartbeatIntervalMs,
+			@Value("${workflow.recovery.scan-interval-ms:60000}") long scanIntervalMs,
+			@Value("${workflow.recovery.stale-seconds:90}") long staleSeconds) {
+		this.autoSetupTriggerManager = autoSetupTriggerManager;
+		this.autoSetupOrchitestratorService = autoSetupOrchitestratorService;
+		this.autoSetupWorkflowExecutor = autoSetupWorkflowExecutor;
+		this.autoSetupJobManager = autoSetupJobManager;
+		this.recoveryEnabled = recoveryEnabled;
+		this.staleSeconds = staleSeconds;
+		if (staleSeconds * 1000 <= heartbeatIntervalMs)
+			throw new IllegalStateException("workflow.recovery.stale-seconds must exceed the heartbeat interval");
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("trigger-heartbeat-");
+		threadFactory.setDaemon(true);
+		this.scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+		// with distributed execution expired job leases take care of interrupted executions
+		if (isActive()) {
+			scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs,
+					TimeUnit.MILLISECONDS);
+			scheduler.scheduleWithFixedDelay(this::recoverInterruptedWorkflows, scanIntervalMs, scanIntervalMs,
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// destroyed after the workflow executor has drained, heartbeats cover the whole drain
+		scheduler.shutdownNow();
+	}
+
+	void heartbeat() {
+		try {
+			autoSetupTriggerManager.heartbeat();
+		} catch (RuntimeException e) {
+			log.error("Trigger heartbeat failed: " + e.getMessage());
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void recoverInterruptedWorkflows() {
+
+		if (!isActive())
+			return;
+
+		try {
+			// claim only what can be started now, the rest stays orphaned for the next scan or instance
+			int capacity = autoSetupWorkflowExecutor.getAvailableCapacity();
+			if (capacity == 0)
+				return;
+
+			List<AutoSetupTriggerEntry> interrupted = autoSetupTriggerManager.claimOrphanedTriggers(staleSeconds,
+					capacity);
+			if (!interrupted.isEmpty())
+				log.info("Found " + interrupted.size() + " interrupted autosetup executions to resume");
+
+			for (AutoSetupTriggerEntry trigger : interrupted)
+				resume(trigger);
+		} catch (RuntimeException e) {
+			log.error("Recovery of interrupted executions failed: " + e.getMessage());
+		}
+	}
+
+	private void resume(AutoSetupTriggerEntry trigger) {
+		try {
+			autoSetupOrchitestratorService.resumeTrigger(trigger);
+		} catch (WorkflowCapacityException e) {
+			// stays INPROGRESS and orphaned, picked up again by the next scan of any instance
+			log.warn("Unable to resume " + trigger.getTriggerId() + " now, " + e.getMessage());
+			autoSetupTriggerManager.releaseOwnership(trigger.getTriggerId());
+		} catch (Exception e) {
+			log.error("Unable to resume " + trigger.getTriggerId() + ", " + e.getMessage());
+			trigger.setStatus(TriggerStatusEnum.FAILED.name());
+			trigger.setRemark("Interrupted and not resumable: " + e.getMessage());
+			autoSetupTriggerManager.saveTriggerUpdate(trigger);
+		}
+	}
+
+	private boolean isActive() {
+		return recoveryEnabled && !autoSetupJobManager.isEnabled();
+	}
+}
@@ -0,0 +1,240 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.tractusx.autosetup.constant.WorkflowExecutorProperty;
+import org.eclipse.tractusx.autosetup.constant.WorkflowOverflowPolicy;
+import org.eclipse.tractusx.autosetup.exception.WorkflowCapacityException;
+import org.eclipse.tractusx.autosetup.model.WorkflowExecutorStatistics;
+import org.eclipse.tractusx.autosetup.utility.AutoSetupTracing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.tracing.Tracer;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class AutoSetupWorkflowExecutor implements SmartLifecycle {
+
+	public static final String WORKFLOW_THREAD_FACTORY = "workflowThreadFactory";
+
+	private final WorkflowExecutorProperty workflowExecutorProperty;
+	private final AutoSetupTracing autoSetupTracing;
+	private final ThreadPoolExecutor executor;
+
+	private final Deque<WorkflowTask> deferredWorkflows = new ConcurrentLinkedDeque<>();
+	private final Set<String> deferredTriggerIds = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+
+	private volatile boolean running;
+
+	public AutoSetupWorkflowExecutor(WorkflowExecutorProperty workflowExecutorProperty) {
+		this(workflowExecutorProperty, Optional.empty());
+	}
+
+	public AutoSetupWorkflowExecutor(WorkflowExecutorProperty workflowExecutorProperty,
+			Optional<ThreadFactory> workflowThreadFactory) {
+		this(workflowExecutorProperty, workflowThreadFactory, new AutoSetupTracing(Tracer.NOOP));
+	}
+
+	@Autowired
+	public AutoSetupWorkflowExecutor(WorkflowExecutorProperty workflowExecutorProperty,
+			@Qualifier(WORKFLOW_THREAD_FACTORY) Optional<ThreadFactory> workflowThreadFactory,
+			AutoSetupTracing autoSetupTracing) {
+		this.workflowExecutorProperty = workflowExecutorProperty;
+		this.autoSetupTracing = autoSetupTracing;
+
+		if (workflowExecutorProperty.isVirtualThreads() && workflowThreadFactory.isEmpty())
+			log.warn("Virtual threads requested for workflows but this build has no Java 21 support, "
+					+ "falling back to platform threads");
+
+		int concurrency = Math.max(1, workflowExecutorProperty.getConcurrency());
+		this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, workflowExecutorProperty.getQueueCapacity())),
+				workflowThreadFactory.orElseGet(this::platformThreadFactory)) {
+
+			@Override
+			protected void afterExecute(Runnable runnable, Throwable throwable) {
+				super.afterExecute(runnable, throwable);
+				workflowFinished(throwable);
+			}
+		};
+	}
+
+	public void execute(String triggerId, Runnable workflow) {
+
+		if (!running)
+			throw new WorkflowCapacityException("Workflow executor is shutting down, " + triggerId + " not accepted",
+					workflowExecutorProperty.getRetryAfterSeconds());
+
+		WorkflowTask task = new WorkflowTask(triggerId, autoSetupTracing.traceWorkflow(triggerId, workflow));
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			deferOrReject(task);
+		}
+	}
+
+	public int getAvailableCapacity() {
+		if (!running)
+			return 0;
+		return Math.max(0, executor.getMaximumPoolSize() - executor.getActiveCount() - executor.getQueue().size());
+	}
+
+	public boolean isDeferred(String triggerId) {
+		return deferredTriggerIds.contains(triggerId);
+	}
+
+	public WorkflowExecutorStatistics getStatistics() {
+		return WorkflowExecutorStatistics.builder()
+				.concurrency(executor.getMaximumPoolSize())
+				.active(executor.getActiveCount())
+				.queued(executor.getQueue().size())
+				.deferred(deferredTriggerIds.size())
+				.completed(completed.get())
+				.failed(failed.get())
+				.rejected(rejected.get())
+				.build();
+	}
+
+	private void deferOrReject(WorkflowTask task) {
+
+		if (workflowExecutorProperty.getOverflowPolicy() == WorkflowOverflowPolicy.DEFER
+				&& deferredTriggerIds.size() < workflowExecutorProperty.getDeferredCapacity()) {
+			deferredTriggerIds.add(task.triggerId());
+			deferredWorkflows.addLast(task);
+			log.info("Workflow executor saturated, deferred " + task.triggerId());
+			// a worker may have freed up between the rejection and the deferral
+			promoteDeferredWorkflow();
+			return;
+		}
+
+		rejected.incrementAndGet();
+		throw new WorkflowCapacityException(
+				"Workflow executor saturated, " + task.triggerId() + " rejected, retry later",
+				workflowExecutorProperty.getRetryAfterSeconds());
+	}
+
+	private void workflowFinished(Throwable throwable) {
+
+		if (throwable == null)
+			completed.incrementAndGet();
+		else {
+			failed.incrementAndGet();
+			log.error("Workflow terminated with error " + throwable.getMessage());
+		}
+
+		promoteDeferredWorkflow();
+	}
+
+	private void promoteDeferredWorkflow() {
+
+		WorkflowTask task = deferredWorkflows.pollFirst();
+		if (task == null)
+			return;
+
+		try {
+			executor.execute(task);
+			deferredTriggerIds.remove(task.triggerId());
+		} catch (RejectedExecutionException e) {
+			deferredWorkflows.addFirst(task);
+		}
+	}
+
+	private ThreadFactory platformThreadFactory() {
+		AtomicInteger counter = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "autosetup-workflow-" + counter.incrementAndGet());
+			thread.setDaemon(false);
+			return thread;
+		};
+	}
+
+	@Override
+	public void start() {
+		running = true;
+	}
+
+	@Override
+	public void stop() {
+
+		running = false;
+
+		List<String> dropped = deferredWorkflows.stream().map(WorkflowTask::triggerId).toList();
+		deferredWorkflows.clear();
+		deferredTriggerIds.clear();
+		if (!dropped.isEmpty())
+			log.warn("Deferred workflows not started before shutdown " + dropped);
+
+		executor.shutdown();
+		try {
+			log.info("Waiting for " + executor.getActiveCount() + " running and " + executor.getQueue().size()
+					+ " queued workflows to finish");
+			if (!executor.awaitTermination(workflowExecutorProperty.getDrainTimeoutSeconds(), TimeUnit.SECONDS)) {
+				List<Runnable> pending = executor.shutdownNow();
+				log.warn("Workflow executor drain timeout reached, " + pending.size()
+						+ " queued workflows not started");
+			}
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public int getPhase() {
+		// Stop after the web server so no new workflow gets accepted while draining
+		return SmartLifecycle.DEFAULT_PHASE - 4096;
+	}
+
+	private record WorkflowTask(String triggerId, Runnable workflow) implements Runnable {
+
+		@Override
+		public void run() {
+			workflow.run();
+		}
+	}
+}
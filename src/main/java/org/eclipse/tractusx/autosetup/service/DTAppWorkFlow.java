@@ -25,6 +25,7 @@ import static org.eclipse.tractusx.autosetup.constant.AppNameConstant.DT_REGISTR
 import java.util.Map;
 
 import org.eclipse.tractusx.autosetup.constant.AppActions;
+import org.eclipse.tractusx.autosetup.constant.WorkflowStep;
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
 import org.eclipse.tractusx.autosetup.manager.AppDeleteManager;
 import org.eclipse.tractusx.autosetup.manager.DTRegistryManager;
@@ -41,6 +42,7 @@ public class DTAppWorkFlow {
 
 	private final DTRegistryManager dtregistryManager;
 	private final AppDeleteManager appDeleteManager;
+	private final WorkflowStepRunner workflowStepRunner;
 
 	@Value("${manual.update:false}")
 	private boolean manualUpdate;
@@ -48,12 +50,20 @@ public class DTAppWorkFlow {
 	public Map<String, String> getWorkFlow(Customer customerDetails, SelectedTools tool, AppActions workflowAction,
 			Map<String, String> inputConfiguration, AutoSetupTriggerEntry triger) {
 
-		inputConfiguration.putAll(
-				dtregistryManager.managePackage(customerDetails, workflowAction, tool, inputConfiguration, triger));
+		WorkflowGraph workflowGraph = new WorkflowGraph();
+		addSteps(workflowGraph, customerDetails, tool, workflowAction, triger);
+		workflowStepRunner.run(workflowGraph, triger, inputConfiguration);
 
 		return inputConfiguration;
 	}
 
+	public void addSteps(WorkflowGraph workflowGraph, Customer customerDetails, SelectedTools tool,
+			AppActions workflowAction, AutoSetupTriggerEntry triger) {
+
+		workflowGraph.step(WorkflowStep.DT,
+				inputData -> dtregistryManager.managePackage(customerDetails, workflowAction, tool, inputData, triger));
+	}
+
 	public void deletePackageWorkFlow(SelectedTools tool, Map<String, String> inputConfiguration,
 			AutoSetupTriggerEntry triger) {
 		appDeleteManager.deletePackage(DT_REGISTRY, tool, inputConfiguration, triger);
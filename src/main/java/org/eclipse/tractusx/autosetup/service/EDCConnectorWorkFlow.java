@@ -21,6 +21,12 @@
 package org.eclipse.tractusx.autosetup.service;
 
 import static org.eclipse.tractusx.autosetup.constant.AppNameConstant.EDC_CONNECTOR;
+import static org.eclipse.tractusx.autosetup.constant.WorkflowStep.CERTIFICATE;
+import static org.eclipse.tractusx.autosetup.constant.WorkflowStep.CONNECTOR_REGISTRATION;
+import static org.eclipse.tractusx.autosetup.constant.WorkflowStep.CONNECTOR_TEST;
+import static org.eclipse.tractusx.autosetup.constant.WorkflowStep.EDC_PACKAGE;
+import static org.eclipse.tractusx.autosetup.constant.WorkflowStep.PORTAL;
+import static org.eclipse.tractusx.autosetup.constant.WorkflowStep.VAULT;
 
 import java.util.Map;
 
@@ -57,6 +63,8 @@ public class EDCConnectorWorkFlow {
 
 	private final PortalIntegrationManager portalIntegrationManager;
 
+	private final WorkflowStepRunner workflowStepRunner;
+
 	@Value("${manual.update:false}")
 	private boolean manualUpdate;
 	
@@ -66,29 +74,35 @@ public class EDCConnectorWorkFlow {
 	public Map<String, String> getWorkFlow(Customer customerDetails, SelectedTools tool, AppActions workflowAction,
 			Map<String, String> inputConfiguration, AutoSetupTriggerEntry triger) {
 
+		WorkflowGraph workflowGraph = new WorkflowGraph();
+		addSteps(workflowGraph, customerDetails, tool, workflowAction, triger);
+		workflowStepRunner.run(workflowGraph, triger, inputConfiguration);
+
+		return inputConfiguration;
+	}
+
+	public void addSteps(WorkflowGraph workflowGraph, Customer customerDetails, SelectedTools tool,
+			AppActions workflowAction, AutoSetupTriggerEntry triger) {
+
 		if (!manualUpdate)
-			portalIntegrationManager.postServiceInstanceResultAndGetTenantSpecs(customerDetails, tool,
-					inputConfiguration, triger);
-
-		inputConfiguration
-				.putAll(certificateManager.createCertificate(customerDetails, tool, inputConfiguration, triger));
-		inputConfiguration.putAll(vaultManager.uploadKeyandValues(customerDetails, tool, inputConfiguration, triger));
-		inputConfiguration.putAll(tractusConnectorManager.managePackage(customerDetails, workflowAction, tool,
-				inputConfiguration, triger));
-		
-		if (!manualConnectorRegistration)
-			inputConfiguration.putAll(
-					connectorRegistrationManager.registerConnector(customerDetails, tool, inputConfiguration, triger));
+			workflowGraph.step(PORTAL, inputData -> portalIntegrationManager
+					.postServiceInstanceResultAndGetTenantSpecs(customerDetails, tool, inputData, triger));
 
-		try {
-			if (!manualUpdate)
-				inputConfiguration.putAll(testConnectorServiceManager
-						.verifyConnectorTestingThroughTestService(customerDetails, inputConfiguration, triger));
-		} catch (ServiceException ex) {
-			log.warn(ex.getMessage());
-		}
+		workflowGraph.step(CERTIFICATE,
+				inputData -> certificateManager.createCertificate(customerDetails, tool, inputData, triger));
+		workflowGraph.step(VAULT,
+				inputData -> vaultManager.uploadKeyandValues(customerDetails, tool, inputData, triger));
+		workflowGraph.step(EDC_PACKAGE, inputData -> tractusConnectorManager.managePackage(customerDetails,
+				workflowAction, tool, inputData, triger));
 
-		return inputConfiguration;
+		if (!manualConnectorRegistration)
+			workflowGraph.step(CONNECTOR_REGISTRATION,
+					inputData -> connectorRegistrationManager.registerConnector(customerDetails, tool, inputData,
+							triger));
+
+		if (!manualUpdate)
+			workflowGraph.optionalStep(CONNECTOR_TEST, inputData -> testConnectorServiceManager
+					.verifyConnectorTestingThroughTestService(customerDetails, tool, inputData, triger));
 	}
 
 	public void deletePackageWorkFlow(SelectedTools tool, Map<String, String> inputConfiguration,
@@ -25,6 +25,7 @@ import static org.eclipse.tractusx.autosetup.constant.AppNameConstant.SDE;
 import java.util.Map;
 
 import org.eclipse.tractusx.autosetup.constant.AppActions;
+import org.eclipse.tractusx.autosetup.constant.WorkflowStep;
 import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
 import org.eclipse.tractusx.autosetup.manager.AppDeleteManager;
 import org.eclipse.tractusx.autosetup.manager.SDEManager;
@@ -42,15 +43,25 @@ public class SDEAppWorkFlow {
 
 	private final AppDeleteManager appDeleteManager;
 
+	private final WorkflowStepRunner workflowStepRunner;
+
 	public Map<String, String> getWorkFlow(Customer customerDetails, SelectedTools tool, AppActions workflowAction,
 			Map<String, String> inputConfiguration, AutoSetupTriggerEntry triger) {
 
-		inputConfiguration
-				.putAll(sdeManager.managePackage(customerDetails, workflowAction, tool, inputConfiguration, triger));
+		WorkflowGraph workflowGraph = new WorkflowGraph();
+		addSteps(workflowGraph, customerDetails, tool, workflowAction, triger);
+		workflowStepRunner.run(workflowGraph, triger, inputConfiguration);
 
 		return inputConfiguration;
 	}
 
+	public void addSteps(WorkflowGraph workflowGraph, Customer customerDetails, SelectedTools tool,
+			AppActions workflowAction, AutoSetupTriggerEntry triger) {
+
+		workflowGraph.step(WorkflowStep.SDE,
+				inputData -> sdeManager.managePackage(customerDetails, workflowAction, tool, inputData, triger));
+	}
+
 	public void deletePackageWorkFlow(SelectedTools tool, Map<String, String> inputConfiguration,
 			AutoSetupTriggerEntry triger) {
 
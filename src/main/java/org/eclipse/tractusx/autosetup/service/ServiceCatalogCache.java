@@ -0,0 +1,165 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.tractusx.autosetup.entity.AppServiceCatalog;
+import org.eclipse.tractusx.autosetup.entity.AppServiceCatalogAndCustomerMapping;
+import org.eclipse.tractusx.autosetup.model.SelectedTools;
+import org.eclipse.tractusx.autosetup.model.ServiceCatalogCacheStatistics;
+import org.eclipse.tractusx.autosetup.model.ServiceCatalogEntry;
+import org.eclipse.tractusx.autosetup.repository.AppServiceCatalogAndCustomerMappingRepository;
+import org.eclipse.tractusx.autosetup.utility.JsonUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class ServiceCatalogCache {
+
+	private final AppServiceCatalogAndCustomerMappingRepository appServiceCatalogMappingRepository;
+	private final boolean enabled;
+	private final long refreshIntervalMs;
+
+	private final Object reloadLock = new Object();
+	private volatile Snapshot snapshot;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong reloads = new AtomicLong();
+
+	private record Snapshot(Map<String, List<ServiceCatalogEntry>> entries, long loadedAt) {
+	}
+
+	public ServiceCatalogCache(AppServiceCatalogAndCustomerMappingRepository appServiceCatalogMappingRepository,
+			@Value("${service-catalog.cache.enabled:true}") boolean enabled,
+			@Value("${service-catalog.cache.refresh-interval-ms:60000}") long refreshIntervalMs) {
+		this.appServiceCatalogMappingRepository = appServiceCatalogMappingRepository;
+		this.enabled = enabled;
+		this.refreshIntervalMs = refreshIntervalMs;
+	}
+
+	public List<ServiceCatalogEntry> findByServiceId(String serviceId) {
+
+		if (!enabled)
+			return toEntries(appServiceCatalogMappingRepository.findAllByServiceIdIn(List.of(serviceId)));
+
+		List<ServiceCatalogEntry> entries = currentSnapshot().entries().get(serviceId);
+		if (entries != null) {
+			hits.incrementAndGet();
+			return entries;
+		}
+
+		// the service may have been registered through another replica since the last reload
+		misses.incrementAndGet();
+		List<ServiceCatalogEntry> loaded = toEntries(
+				appServiceCatalogMappingRepository.findAllByServiceIdIn(List.of(serviceId)));
+		if (!loaded.isEmpty())
+			reload();
+		return loaded;
+	}
+
+	public void reload() {
+		synchronized (reloadLock) {
+			Map<String, List<ServiceCatalogEntry>> entries = new HashMap<>();
+			for (ServiceCatalogEntry entry : toEntries(appServiceCatalogMappingRepository.findAll())) {
+				entries.computeIfAbsent(entry.serviceId(), key -> new ArrayList<>()).add(entry);
+			}
+			entries.replaceAll((serviceId, serviceEntries) -> List.copyOf(serviceEntries));
+			snapshot = new Snapshot(Map.copyOf(entries), System.currentTimeMillis());
+			reloads.incrementAndGet();
+		}
+	}
+
+	public ServiceCatalogCacheStatistics getStatistics() {
+		Snapshot current = snapshot;
+		return ServiceCatalogCacheStatistics.builder()
+				.serviceIds(current == null ? 0 : current.entries().size())
+				.hits(hits.get())
+				.misses(misses.get())
+				.reloads(reloads.get())
+				.loadedAt(current == null ? null : Instant.ofEpochMilli(current.loadedAt()).toString())
+				.build();
+	}
+
+	// Writes of other replicas are picked up by a full reload at most once per interval
+	private Snapshot currentSnapshot() {
+
+		Snapshot current = snapshot;
+		if (current != null && System.currentTimeMillis() - current.loadedAt() < refreshIntervalMs)
+			return current;
+
+		synchronized (reloadLock) {
+			if (snapshot == current) {
+				try {
+					reload();
+				} catch (RuntimeException e) {
+					if (current == null)
+						throw e;
+					log.warn("Service catalog reload failed, keeping previous catalog " + e.getMessage());
+					snapshot = new Snapshot(current.entries(), System.currentTimeMillis());
+				}
+			}
+			return snapshot;
+		}
+	}
+
+	private List<ServiceCatalogEntry> toEntries(List<AppServiceCatalogAndCustomerMapping> mappings) {
+
+		// several customers usually share one catalog service, its tools are parsed once
+		Map<String, List<SelectedTools>> toolsByCatalog = new HashMap<>();
+		List<ServiceCatalogEntry> entries = new ArrayList<>();
+		for (AppServiceCatalogAndCustomerMapping mapping : mappings) {
+			AppServiceCatalog catalog = mapping.getServiceCatalog();
+			if (catalog == null) {
+				entries.add(new ServiceCatalogEntry(mapping.getServiceId(), null, List.of()));
+				continue;
+			}
+			List<SelectedTools> selectedTools = toolsByCatalog.computeIfAbsent(catalog.getCanonicalServiceId(),
+					key -> parseTools(catalog));
+			entries.add(new ServiceCatalogEntry(mapping.getServiceId(), catalog.getCanonicalServiceId(), selectedTools));
+		}
+		return entries;
+	}
+
+	private List<SelectedTools> parseTools(AppServiceCatalog catalog) {
+
+		try {
+			String jsonStr = catalog.getServiceTools();
+
+			if (jsonStr != null && !jsonStr.isEmpty()) {
+				return JsonUtil.SELECTED_TOOLS_READER.readValue(jsonStr);
+			}
+		} catch (Exception e) {
+			log.error("Error in parsing selected tools list of " + catalog.getCanonicalServiceId());
+		}
+		return List.of();
+	}
+
+}
@@ -0,0 +1,72 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.tractusx.autosetup.constant.WorkflowStep;
+
+public class WorkflowGraph {
+
+	private final Map<WorkflowStep, Function<Map<String, String>, Map<String, String>>> steps = new EnumMap<>(
+			WorkflowStep.class);
+
+	private final Set<WorkflowStep> optionalSteps = EnumSet.noneOf(WorkflowStep.class);
+
+	public WorkflowGraph step(WorkflowStep step, Function<Map<String, String>, Map<String, String>> action) {
+		steps.put(step, action);
+		return this;
+	}
+
+	// A ServiceException of an optional step is only logged, dependent steps still run
+	public WorkflowGraph optionalStep(WorkflowStep step, Function<Map<String, String>, Map<String, String>> action) {
+		optionalSteps.add(step);
+		return step(step, action);
+	}
+
+	// Steps in WorkflowStep order, which is a valid execution order
+	public Set<WorkflowStep> getSteps() {
+		return steps.keySet();
+	}
+
+	public Function<Map<String, String>, Map<String, String>> getAction(WorkflowStep step) {
+		return steps.get(step);
+	}
+
+	public boolean isOptional(WorkflowStep step) {
+		return optionalSteps.contains(step);
+	}
+
+	public Set<WorkflowStep> getDependencies(WorkflowStep step) {
+		Set<WorkflowStep> dependencies = EnumSet.noneOf(WorkflowStep.class);
+		for (WorkflowStep candidate : steps.keySet()) {
+			if (candidate.ordinal() < step.ordinal()
+					&& candidate.getOutputs().stream().anyMatch(step.getInputs()::contains))
+				dependencies.add(candidate);
+		}
+		return dependencies;
+	}
+
+}
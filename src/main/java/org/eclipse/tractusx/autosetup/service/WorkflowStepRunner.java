@@ -0,0 +1,257 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import static org.eclipse.tractusx.autosetup.service.AutoSetupWorkflowExecutor.WORKFLOW_THREAD_FACTORY;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.tractusx.autosetup.constant.WorkflowExecutorProperty;
+import org.eclipse.tractusx.autosetup.constant.WorkflowStep;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.exception.ServiceException;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupTriggerManager;
+import org.eclipse.tractusx.autosetup.utility.AutoSetupMetrics;
+import org.eclipse.tractusx.autosetup.utility.AutoSetupTracing;
+import org.eclipse.tractusx.autosetup.utility.TriggerLocks;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class WorkflowStepRunner {
+
+	private final AutoSetupTriggerManager autoSetupTriggerManager;
+	private final AutoSetupMetrics autoSetupMetrics;
+	private final AutoSetupTracing autoSetupTracing;
+	private final ExecutorService stepExecutor;
+
+	public WorkflowStepRunner(AutoSetupTriggerManager autoSetupTriggerManager, AutoSetupMetrics autoSetupMetrics,
+			AutoSetupTracing autoSetupTracing) {
+		this.autoSetupTriggerManager = autoSetupTriggerManager;
+		this.autoSetupMetrics = autoSetupMetrics;
+		this.autoSetupTracing = autoSetupTracing;
+		this.stepExecutor = null;
+	}
+
+	@Autowired
+	public WorkflowStepRunner(AutoSetupTriggerManager autoSetupTriggerManager, AutoSetupMetrics autoSetupMetrics,
+			AutoSetupTracing autoSetupTracing, WorkflowExecutorProperty workflowExecutorProperty,
+			@Qualifier(WORKFLOW_THREAD_FACTORY) Optional<ThreadFactory> workflowThreadFactory) {
+		this.autoSetupTriggerManager = autoSetupTriggerManager;
+		this.autoSetupMetrics = autoSetupMetrics;
+		this.autoSetupTracing = autoSetupTracing;
+		this.stepExecutor = workflowExecutorProperty.isParallelSteps()
+				? Executors.newCachedThreadPool(
+						workflowThreadFactory.orElseGet(() -> new CustomizableThreadFactory("autosetup-step-")))
+				: null;
+	}
+
+	public void execute(WorkflowStep step, AutoSetupTriggerEntry trigger, Map<String, String> inputConfiguration,
+			Supplier<Map<String, String>> stepAction) {
+		runStep(step, trigger, inputConfiguration, stepInput -> stepAction.get());
+	}
+
+	public void run(WorkflowGraph graph, AutoSetupTriggerEntry trigger, Map<String, String> inputConfiguration) {
+
+		long start = System.nanoTime();
+		Map<WorkflowStep, StepTiming> timings = new ConcurrentHashMap<>();
+		boolean success = false;
+
+		try {
+			if (stepExecutor == null || graph.getSteps().size() < 2) {
+				for (WorkflowStep step : graph.getSteps())
+					runGraphStep(graph, step, trigger, inputConfiguration, timings, start);
+			} else {
+				runConcurrently(graph, trigger, inputConfiguration, timings, start);
+			}
+			success = true;
+		} finally {
+			autoSetupMetrics.recordWorkflow(success, System.nanoTime() - start);
+		}
+
+		reportCriticalPath(graph, trigger, timings);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (stepExecutor != null)
+			stepExecutor.shutdown();
+	}
+
+	// Every step starts once the steps producing its inputs are done, after a failure no further step is started
+	private void runConcurrently(WorkflowGraph graph, AutoSetupTriggerEntry trigger,
+			Map<String, String> inputConfiguration, Map<WorkflowStep, StepTiming> timings, long start) {
+
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Map<WorkflowStep, CompletableFuture<Void>> futures = new EnumMap<>(WorkflowStep.class);
+
+		for (WorkflowStep step : graph.getSteps()) {
+			CompletableFuture<?>[] upstream = graph.getDependencies(step).stream().map(futures::get)
+					.toArray(CompletableFuture[]::new);
+
+			futures.put(step, CompletableFuture.allOf(upstream).thenRunAsync(autoSetupTracing.propagate(() -> {
+				if (failure.get() == null)
+					runGraphStep(graph, step, trigger, inputConfiguration, timings, start);
+			}), stepExecutor).whenComplete((result, error) -> {
+				if (error != null)
+					failure.compareAndSet(null, error instanceof CompletionException ? error.getCause() : error);
+			}));
+		}
+
+		try {
+			CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			log.debug(trigger.getTriggerId() + " workflow step failed " + e.getMessage());
+		}
+
+		Throwable error = failure.get();
+		if (error instanceof RuntimeException runtimeException)
+			throw runtimeException;
+		if (error instanceof Error e)
+			throw e;
+		if (error != null)
+			throw new ServiceException(error.getMessage());
+	}
+
+	private void runGraphStep(WorkflowGraph graph, WorkflowStep step, AutoSetupTriggerEntry trigger,
+			Map<String, String> inputConfiguration, Map<WorkflowStep, StepTiming> timings, long start) {
+
+		long stepStart = System.nanoTime();
+		try {
+			runStep(step, trigger, inputConfiguration, graph.getAction(step));
+		} catch (ServiceException ex) {
+			if (!graph.isOptional(step))
+				throw ex;
+			log.warn(ex.getMessage());
+		} finally {
+			timings.put(step, new StepTiming(stepStart - start, System.nanoTime() - start));
+		}
+	}
+
+	// The step works on its own copy of the configuration, only the keys it changed or removed are merged back,
+	// also when it fails: a failed optional step still reports its result
+	private void runStep(WorkflowStep step, AutoSetupTriggerEntry trigger, Map<String, String> inputConfiguration,
+			Function<Map<String, String>, Map<String, String>> stepAction) {
+
+		if (autoSetupTriggerManager.isStepCompleted(trigger, step)) {
+			log.info(trigger.getTriggerId() + " resumed, skipping already completed step " + step);
+			return;
+		}
+
+		// the trigger's lock also guards its input configuration while steps run concurrently
+		ReentrantLock lock = TriggerLocks.of(trigger);
+		Map<String, String> snapshot;
+		lock.lock();
+		try {
+			snapshot = new HashMap<>(inputConfiguration);
+		} finally {
+			lock.unlock();
+		}
+		Map<String, String> stepInput = new HashMap<>(snapshot);
+
+		long stepStart = System.nanoTime();
+		boolean success = false;
+		Map<String, String> output = null;
+		try {
+			output = autoSetupTracing.traceStep(step, () -> stepAction.apply(stepInput));
+			success = true;
+		} finally {
+			autoSetupMetrics.recordStep(step, success, System.nanoTime() - stepStart);
+
+			lock.lock();
+			try {
+				merge(snapshot, stepInput, output, inputConfiguration);
+				if (success)
+					autoSetupTriggerManager.saveCheckpoint(trigger, step, inputConfiguration);
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private static void merge(Map<String, String> snapshot, Map<String, String> stepInput, Map<String, String> output,
+			Map<String, String> inputConfiguration) {
+		snapshot.keySet().stream().filter(key -> !stepInput.containsKey(key)).forEach(inputConfiguration::remove);
+		stepInput.forEach((key, value) -> {
+			if (!Objects.equals(snapshot.get(key), value))
+				inputConfiguration.put(key, value);
+		});
+		if (output != null && output != stepInput && output != inputConfiguration)
+			inputConfiguration.putAll(output);
+	}
+
+	private void reportCriticalPath(WorkflowGraph graph, AutoSetupTriggerEntry trigger,
+			Map<WorkflowStep, StepTiming> timings) {
+
+		if (timings.size() < 2)
+			return;
+
+		Comparator<WorkflowStep> byEnd = Comparator.comparingLong(step -> timings.get(step).end());
+		LinkedList<WorkflowStep> path = new LinkedList<>();
+		WorkflowStep current = timings.keySet().stream().max(byEnd).orElseThrow();
+		long total = timings.get(current).end();
+
+		while (current != null) {
+			path.addFirst(current);
+			current = graph.getDependencies(current).stream().filter(timings::containsKey).max(byEnd).orElse(null);
+		}
+
+		String criticalPath = path.stream().map(step -> step + " " + seconds(timings.get(step).duration()))
+				.collect(Collectors.joining(" -> ")) + ", total " + seconds(total);
+		log.info(trigger.getTriggerId() + " critical path " + criticalPath);
+
+		autoSetupTriggerManager.saveCriticalPath(trigger, criticalPath);
+	}
+
+	private static String seconds(long nanos) {
+		return String.format("%.1fs", nanos / 1_000_000_000d);
+	}
+
+	private record StepTiming(long start, long end) {
+
+		long duration() {
+			return end - start;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.autosetup.constant.WorkflowStep;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+// Meters of the autosetup workflows, downstream calls are measured by the Feign micrometer capability
+// as http.client.requests
+@Component
+@RequiredArgsConstructor
+public class AutoSetupMetrics {
+
+	public static final String WORKFLOW = "autosetup.workflow";
+	public static final String WORKFLOW_STEP = "autosetup.workflow.step";
+	public static final String RETRY_ATTEMPTS = "autosetup.retry.attempts";
+	public static final String RETRY_EXHAUSTED = "autosetup.retry.exhausted";
+
+	private final MeterRegistry meterRegistry;
+
+	public void recordWorkflow(boolean success, long nanos) {
+		Timer.builder(WORKFLOW).description("Duration of the workflow step graph of an execution")
+				.tag("outcome", outcome(success)).register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordStep(WorkflowStep step, boolean success, long nanos) {
+		Timer.builder(WORKFLOW_STEP).description("Duration of a workflow step including its retries")
+				.tag("step", step.getDetailStep()).tag("outcome", outcome(success)).register(meterRegistry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void countRetryAttempt(String operation, Throwable error) {
+		Counter.builder(RETRY_ATTEMPTS).description("Failed attempts of retryable operations")
+				.tag("operation", operation).tag("exception", error.getClass().getSimpleName())
+				.register(meterRegistry).increment();
+	}
+
+	public void countRetryExhausted(String operation) {
+		Counter.builder(RETRY_EXHAUSTED).description("Retryable operations that failed after their last attempt")
+				.tag("operation", operation).register(meterRegistry).increment();
+	}
+
+	private static String outcome(boolean success) {
+		return success ? "success" : "failure";
+	}
+
+}
@@ -0,0 +1,96 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import java.util.function.Supplier;
+
+import org.eclipse.tractusx.autosetup.constant.WorkflowStep;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.tracing.Link;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+
+// Spans of the autosetup workflows, every execution gets its own trace linked to the request that submitted it.
+// Downstream calls become children of the running step through the Feign observation capability.
+@Component
+@RequiredArgsConstructor
+public class AutoSetupTracing {
+
+	public static final String WORKFLOW_SPAN = "autosetup.workflow";
+	public static final String TRIGGER_ID = "autosetup.trigger.id";
+	public static final String STEP = "autosetup.step";
+
+	private final Tracer tracer;
+
+	public Runnable traceWorkflow(String triggerId, Runnable workflow) {
+
+		Span origin = tracer.currentSpan();
+
+		return () -> {
+			Span.Builder builder = tracer.spanBuilder().setNoParent().name(WORKFLOW_SPAN).tag(TRIGGER_ID, triggerId);
+			if (origin != null)
+				builder.addLink(new Link(origin));
+			inSpan(builder.start(), () -> {
+				workflow.run();
+				return null;
+			});
+		};
+	}
+
+	public <T> T traceStep(WorkflowStep step, Supplier<T> action) {
+		Span span = tracer.nextSpan().name(step.getDetailStep()).tag(STEP, step.getDetailStep()).start();
+		return inSpan(span, action);
+	}
+
+	// For downstream calls that are not made through Feign, like SMTP
+	public <T> T traceClient(String name, String remoteService, Supplier<T> action) {
+		Span span = tracer.spanBuilder().name(name).kind(Span.Kind.CLIENT).remoteServiceName(remoteService).start();
+		return inSpan(span, action);
+	}
+
+	// Hands the current span over to a task running on another thread
+	public Runnable propagate(Runnable task) {
+
+		Span parent = tracer.currentSpan();
+		if (parent == null)
+			return task;
+
+		return () -> {
+			try (Tracer.SpanInScope scope = tracer.withSpan(parent)) {
+				task.run();
+			}
+		};
+	}
+
+	private <T> T inSpan(Span span, Supplier<T> action) {
+		try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+			return action.get();
+		} catch (RuntimeException | Error e) {
+			span.error(e);
+			throw e;
+		} finally {
+			span.end();
+		}
+	}
+
+}
@@ -29,6 +29,7 @@ import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
 import org.bouncycastle.operator.OperatorCreationException;
 import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.eclipse.tractusx.autosetup.constant.CertificateKeyAlgorithm;
 
 import javax.security.auth.x500.X500Principal;
 import java.io.ByteArrayInputStream;
@@ -39,6 +40,7 @@ import java.security.*;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.security.spec.ECGenParameterSpec;
 import java.util.Date;
 import java.util.HexFormat;
 import java.util.Optional;
@@ -88,10 +90,23 @@ public class Certutil {
 
 	    public record CertKeyPair(X509Certificate certificate, KeyPair keyPair){}
 	    public static CertKeyPair generateSelfSignedCertificateSecret(String name, Integer days, Integer bits) throws GeneralSecurityException, OperatorCreationException, CertIOException {
-	        var subject = new X500Principal(name);
+	        return generateSelfSignedCertificate(name, days, generateKeyPair(CertificateKeyAlgorithm.RSA, bits));
+	    }
+
+	    public static KeyPair generateKeyPair(CertificateKeyAlgorithm algorithm, Integer bits) throws GeneralSecurityException {
+	        if (algorithm == CertificateKeyAlgorithm.EC) {
+	            var keyPairGenerator = KeyPairGenerator.getInstance("EC");
+	            keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"), new SecureRandom());
+	            return keyPairGenerator.generateKeyPair();
+	        }
 	        var keyPairGenerator = KeyPairGenerator.getInstance("RSA");
 	        keyPairGenerator.initialize(Optional.ofNullable(bits).orElse(2048), new SecureRandom());
-	        var keyPair = keyPairGenerator.generateKeyPair();
+	        return keyPairGenerator.generateKeyPair();
+	    }
+
+	    public static CertKeyPair generateSelfSignedCertificate(String name, Integer days, KeyPair keyPair) throws GeneralSecurityException, OperatorCreationException, CertIOException {
+	        var subject = new X500Principal(name);
+	        var isEc = "EC".equals(keyPair.getPublic().getAlgorithm());
 	        var notBefore = System.currentTimeMillis();
 	        var notAfter = notBefore + (1000L * 3600L * 24 * Optional.ofNullable(days).orElse(365));
 	        var certBuilder = new JcaX509v3CertificateBuilder(
@@ -103,13 +118,13 @@ public class Certutil {
 	                keyPair.getPublic()
 	        );
 	        certBuilder.addExtension(Extension.basicConstraints, true, new BasicConstraints(false));
-	        certBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(KeyUsage.digitalSignature + KeyUsage.keyEncipherment));
+	        certBuilder.addExtension(Extension.keyUsage, true, new KeyUsage(isEc ? KeyUsage.digitalSignature : KeyUsage.digitalSignature + KeyUsage.keyEncipherment));
 	        var spki = SubjectPublicKeyInfo.getInstance(keyPair.getPublic().getEncoded());
 	        var ski = new BcX509ExtensionUtils().createSubjectKeyIdentifier(spki);
 	        certBuilder.addExtension(Extension.subjectKeyIdentifier, false, ski);
 	        var aki = new BcX509ExtensionUtils().createAuthorityKeyIdentifier(spki);
 	        certBuilder.addExtension(Extension.authorityKeyIdentifier, false, aki);
-	        var signer = new JcaContentSignerBuilder(("SHA256withRSA")).build(keyPair.getPrivate());
+	        var signer = new JcaContentSignerBuilder(isEc ? "SHA256withECDSA" : "SHA256withRSA").build(keyPair.getPrivate());
 	        var certHolder = certBuilder.build(signer);
 	        return new CertKeyPair(new JcaX509CertificateConverter().setProvider("BC").getCertificate(certHolder), keyPair);
 	    }
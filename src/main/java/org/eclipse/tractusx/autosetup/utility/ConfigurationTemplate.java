@@ -0,0 +1,120 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+// A ${name} or ${name:-default} template split once into literal segments and variable slots,
+// $${ escapes a literal ${ and unresolved variables are kept as written like StringSubstitutor does
+public final class ConfigurationTemplate {
+
+	private static final String PREFIX = "${";
+	private static final String SUFFIX = "}";
+	private static final String DEFAULT_DELIMITER = ":-";
+
+	private final String[] literals;
+	private final String[] names;
+	private final String[] defaults;
+	private final String[] placeholders;
+	private final int literalLength;
+
+	private ConfigurationTemplate(List<String> literals, List<String> names, List<String> defaults,
+			List<String> placeholders) {
+		this.literals = literals.toArray(String[]::new);
+		this.names = names.toArray(String[]::new);
+		this.defaults = defaults.toArray(String[]::new);
+		this.placeholders = placeholders.toArray(String[]::new);
+		this.literalLength = literals.stream().mapToInt(String::length).sum();
+	}
+
+	public static ConfigurationTemplate compile(String template) {
+
+		List<String> literals = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		List<String> defaults = new ArrayList<>();
+		List<String> placeholders = new ArrayList<>();
+
+		String source = template == null ? "" : template;
+		StringBuilder literal = new StringBuilder();
+		int position = 0;
+
+		while (position < source.length()) {
+			int start = source.indexOf('$', position);
+			if (start < 0) {
+				literal.append(source, position, source.length());
+				break;
+			}
+			literal.append(source, position, start);
+
+			if (source.startsWith("$" + PREFIX, start)) {
+				literal.append(PREFIX);
+				position = start + 1 + PREFIX.length();
+				continue;
+			}
+
+			int end = source.startsWith(PREFIX, start) ? source.indexOf(SUFFIX, start + PREFIX.length()) : -1;
+			if (end < 0) {
+				literal.append('$');
+				position = start + 1;
+				continue;
+			}
+
+			String variable = source.substring(start + PREFIX.length(), end);
+			int delimiter = variable.indexOf(DEFAULT_DELIMITER);
+			literals.add(literal.toString());
+			literal.setLength(0);
+			names.add(delimiter < 0 ? variable : variable.substring(0, delimiter));
+			defaults.add(delimiter < 0 ? null : variable.substring(delimiter + DEFAULT_DELIMITER.length()));
+			placeholders.add(source.substring(start, end + SUFFIX.length()));
+			position = end + SUFFIX.length();
+		}
+		literals.add(literal.toString());
+
+		return new ConfigurationTemplate(literals, names, defaults, placeholders);
+	}
+
+	// Values are inserted as they are, placeholders inside a value are not resolved again
+	public String render(Function<String, String> values, Set<String> unresolved) {
+
+		StringBuilder rendered = new StringBuilder(literalLength + names.length * 32);
+		for (int i = 0; i < names.length; i++) {
+			rendered.append(literals[i]);
+			String value = values.apply(names[i]);
+			if (value == null)
+				value = defaults[i];
+			if (value == null) {
+				unresolved.add(names[i]);
+				value = placeholders[i];
+			}
+			rendered.append(value);
+		}
+		rendered.append(literals[names.length]);
+		return rendered.toString();
+	}
+
+	public int getVariableCount() {
+		return names.length;
+	}
+
+}
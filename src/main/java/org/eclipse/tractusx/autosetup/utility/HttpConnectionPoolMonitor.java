@@ -0,0 +1,73 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.eclipse.tractusx.autosetup.model.HttpConnectionPoolStatistics;
+import org.eclipse.tractusx.autosetup.model.HttpRoutePoolStatistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class HttpConnectionPoolMonitor {
+
+	private final ObjectProvider<HttpClientConnectionManager> connectionManagerProvider;
+
+	public HttpConnectionPoolStatistics getStatistics() {
+
+		if (!(connectionManagerProvider
+				.getIfAvailable() instanceof PoolingHttpClientConnectionManager connectionManager))
+			return HttpConnectionPoolStatistics.builder().routes(List.of()).build();
+
+		PoolStats total = connectionManager.getTotalStats();
+
+		// Each downstream host is its own route with its own per-route limit
+		List<HttpRoutePoolStatistics> routes = connectionManager.getRoutes().stream()
+				.sorted(Comparator.comparing(HttpRoute::toString)).map(route -> {
+					PoolStats stats = connectionManager.getStats(route);
+					return HttpRoutePoolStatistics.builder()
+							.route(route.getTargetHost().toURI())
+							.max(stats.getMax())
+							.leased(stats.getLeased())
+							.available(stats.getAvailable())
+							.pending(stats.getPending())
+							.build();
+				}).toList();
+
+		return HttpConnectionPoolStatistics.builder()
+				.maxTotal(total.getMax())
+				.leased(total.getLeased())
+				.available(total.getAvailable())
+				.pending(total.getPending())
+				.routes(routes)
+				.build();
+	}
+
+}
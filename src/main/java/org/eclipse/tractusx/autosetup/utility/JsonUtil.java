@@ -0,0 +1,60 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.tractusx.autosetup.model.AutoSetupRequest;
+import org.eclipse.tractusx.autosetup.model.SelectedTools;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+// One mapper for the whole application, ObjectMapper, ObjectReader and ObjectWriter are thread safe once configured
+// and the typed readers and writers keep their resolved (de)serializers between calls
+public class JsonUtil {
+
+	public static final ObjectMapper MAPPER = new ObjectMapper();
+
+	public static final ObjectReader STRING_MAP_LIST_READER = MAPPER
+			.readerFor(new TypeReference<List<Map<String, String>>>() {
+			});
+	public static final ObjectWriter STRING_MAP_LIST_WRITER = MAPPER
+			.writerFor(new TypeReference<List<Map<String, String>>>() {
+			});
+
+	public static final ObjectReader OBJECT_MAP_READER = MAPPER.readerFor(new TypeReference<Map<String, Object>>() {
+	});
+
+	public static final ObjectReader SELECTED_TOOLS_READER = MAPPER
+			.readerFor(new TypeReference<List<SelectedTools>>() {
+			});
+
+	public static final ObjectReader AUTO_SETUP_REQUEST_READER = MAPPER.readerFor(AutoSetupRequest.class);
+	public static final ObjectWriter AUTO_SETUP_REQUEST_WRITER = MAPPER.writerFor(AutoSetupRequest.class);
+
+	private JsonUtil() {
+	}
+
+}
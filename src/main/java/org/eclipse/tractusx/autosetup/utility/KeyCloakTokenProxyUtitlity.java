@@ -21,35 +21,178 @@
 package org.eclipse.tractusx.autosetup.utility;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.eclipse.tractusx.autosetup.model.KeycloakTokenResponse;
+import org.eclipse.tractusx.autosetup.model.TokenCacheStatistics;
 import org.eclipse.tractusx.autosetup.portal.proxy.PortalIntegrationProxy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class KeyCloakTokenProxyUtitlity {
 	
 	private final PortalIntegrationProxy portalIntegrationProxy;
-	
+
+	@Value("${keycloak.token-cache.enabled:true}")
+	private boolean cacheEnabled;
+
+	@Value("${keycloak.token-cache.refresh-ratio:0.8}")
+	private double refreshRatio;
+
+	@Value("${keycloak.token-cache.expiry-skew-seconds:10}")
+	private long expirySkewSeconds;
+
+	private final Map<TokenKey, CachedToken> tokens = new ConcurrentHashMap<>();
+	private final Map<TokenKey, CompletableFuture<CachedToken>> inflight = new ConcurrentHashMap<>();
+	private final ExecutorService refreshExecutor = Executors
+			.newSingleThreadExecutor(refreshThreadFactory());
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong refreshes = new AtomicLong();
+
 	@SneakyThrows
 	public String getKeycloakToken(String clientId, String clientSecret, URI tokenURI) {
 
+		if (!cacheEnabled) {
+			misses.incrementAndGet();
+			return requestToken(clientId, clientSecret, tokenURI).accessToken();
+		}
+
+		TokenKey key = new TokenKey(tokenURI, clientId, secretHash(clientSecret));
+		long now = System.currentTimeMillis();
+		CachedToken cached = tokens.get(key);
+
+		if (cached != null && now < cached.expiresAt()) {
+			hits.incrementAndGet();
+			if (now >= cached.refreshAt())
+				fetch(key, clientSecret, true);
+			return cached.accessToken();
+		}
+
+		misses.incrementAndGet();
+		try {
+			return fetch(key, clientSecret, false).join().accessToken();
+		} catch (CompletionException e) {
+			throw e.getCause();
+		}
+	}
+
+	public TokenCacheStatistics getStatistics() {
+		return TokenCacheStatistics.builder()
+				.size(tokens.size())
+				.hits(hits.get())
+				.misses(misses.get())
+				.refreshes(refreshes.get())
+				.build();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		refreshExecutor.shutdownNow();
+	}
+
+	// Concurrent callers of the same client share one token request
+	private CompletableFuture<CachedToken> fetch(TokenKey key, String clientSecret, boolean background) {
+
+		CompletableFuture<CachedToken> request = new CompletableFuture<>();
+		CompletableFuture<CachedToken> running = inflight.putIfAbsent(key, request);
+		if (running != null)
+			return running;
+
+		Runnable task = () -> {
+			try {
+				CachedToken token = requestToken(key.clientId(), clientSecret, key.tokenURI());
+				if (token.cacheable())
+					tokens.put(key, token);
+				else
+					tokens.remove(key);
+				// a token issued under a rotated secret is not served any more
+				tokens.keySet().removeIf(other -> other.isSameClient(key) && !other.equals(key));
+				request.complete(token);
+			} catch (Exception e) {
+				if (background)
+					log.warn("Background refresh of keycloak token for " + key.clientId() + " failed " + e.getMessage());
+				request.completeExceptionally(e);
+			} finally {
+				inflight.remove(key, request);
+			}
+		};
+
+		if (background) {
+			refreshes.incrementAndGet();
+			refreshExecutor.execute(task);
+		} else {
+			task.run();
+		}
+		return request;
+	}
+
+	private CachedToken requestToken(String clientId, String clientSecret, URI tokenURI) {
+
 		MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
 		body.add("grant_type", "client_credentials");
 		body.add("client_id", clientId);
 		body.add("client_secret", clientSecret);
-		var resultBody = portalIntegrationProxy.readAuthToken(tokenURI, body);
+		long issuedAt = System.currentTimeMillis();
+		KeycloakTokenResponse resultBody = portalIntegrationProxy.readAuthToken(tokenURI, body);
+
+		if (resultBody == null)
+			return new CachedToken(null, 0, 0);
+
+		if (resultBody.getAccessToken() == null || resultBody.getExpiresIn() == null)
+			return new CachedToken(resultBody.getAccessToken(), 0, 0);
+
+		long lifetime = resultBody.getExpiresIn() * 1000L;
+		return new CachedToken(resultBody.getAccessToken(), issuedAt + (long) (lifetime * refreshRatio),
+				issuedAt + lifetime - expirySkewSeconds * 1000L);
+	}
 
-		if (resultBody != null) {
-			return resultBody.getAccessToken();
+	private static CustomizableThreadFactory refreshThreadFactory() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("keycloak-token-refresh-");
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	@SneakyThrows
+	private static String secretHash(String clientSecret) {
+		byte[] secret = clientSecret == null ? new byte[0] : clientSecret.getBytes(StandardCharsets.UTF_8);
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(secret));
+	}
+
+	// The secret is part of the key as hash only, a changed secret gets its own token and token request
+	private record TokenKey(URI tokenURI, String clientId, String secretHash) {
+
+		boolean isSameClient(TokenKey other) {
+			return tokenURI.equals(other.tokenURI()) && clientId.equals(other.clientId());
 		}
-		return null;
+	}
 
+	private record CachedToken(String accessToken, long refreshAt, long expiresAt) {
+
+		boolean cacheable() {
+			return accessToken != null && expiresAt > System.currentTimeMillis();
+		}
 	}
 
 }
@@ -0,0 +1,136 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.tractusx.autosetup.constant.CertificateKeyAlgorithm;
+import org.eclipse.tractusx.autosetup.model.KeyPairPoolStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class KeyPairPool {
+
+	private final CertificateKeyAlgorithm algorithm;
+	private final Integer bits;
+	private final int capacity;
+	private final int refillBatch;
+	private final long takeTimeoutMs;
+
+	private final BlockingQueue<KeyPair> keyPairs;
+	private final Semaphore synchronousPermits;
+	private final ScheduledExecutorService refillExecutor;
+
+	private final AtomicLong pooled = new AtomicLong();
+	private final AtomicLong synchronous = new AtomicLong();
+
+	public KeyPairPool(@Value("${certificate.key.algorithm:RSA}") CertificateKeyAlgorithm algorithm,
+			@Value("${certificate.key.rsa-bits:2048}") Integer bits,
+			@Value("${certificate.key-pool.size:4}") int capacity,
+			@Value("${certificate.key-pool.refill-batch:1}") int refillBatch,
+			@Value("${certificate.key-pool.refill-interval-ms:1000}") long refillIntervalMs,
+			@Value("${certificate.key-pool.take-timeout-ms:500}") long takeTimeoutMs,
+			@Value("${certificate.key-pool.max-synchronous:2}") int maxSynchronous) {
+
+		this.algorithm = algorithm;
+		this.bits = bits;
+		this.capacity = capacity;
+		this.refillBatch = refillBatch;
+		this.takeTimeoutMs = takeTimeoutMs;
+		this.keyPairs = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+		this.synchronousPermits = new Semaphore(Math.max(maxSynchronous, 1));
+
+		if (capacity > 0) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("key-pair-pool-");
+			threadFactory.setDaemon(true);
+			threadFactory.setThreadPriority(Thread.MIN_PRIORITY);
+			refillExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			refillExecutor.scheduleWithFixedDelay(this::refill, 0, refillIntervalMs, TimeUnit.MILLISECONDS);
+		} else {
+			refillExecutor = null;
+		}
+	}
+
+	// Pooled key pairs are handed out once, an empty pool waits briefly for the refill
+	// and then generates on the caller thread with a bounded number of concurrent generations
+	public KeyPair take() throws GeneralSecurityException, InterruptedException {
+
+		KeyPair keyPair = capacity > 0 ? keyPairs.poll(takeTimeoutMs, TimeUnit.MILLISECONDS) : null;
+		if (keyPair != null) {
+			pooled.incrementAndGet();
+			return keyPair;
+		}
+
+		synchronousPermits.acquire();
+		try {
+			keyPair = keyPairs.poll();
+			if (keyPair != null) {
+				pooled.incrementAndGet();
+				return keyPair;
+			}
+			synchronous.incrementAndGet();
+			return Certutil.generateKeyPair(algorithm, bits);
+		} finally {
+			synchronousPermits.release();
+		}
+	}
+
+	public KeyPairPoolStatistics getStatistics() {
+		return KeyPairPoolStatistics.builder()
+				.algorithm(algorithm.name())
+				.capacity(capacity)
+				.available(keyPairs.size())
+				.pooled(pooled.get())
+				.synchronous(synchronous.get())
+				.build();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (refillExecutor != null)
+			refillExecutor.shutdownNow();
+	}
+
+	void refill() {
+		try {
+			for (int i = 0; i < refillBatch && keyPairs.size() < capacity; i++) {
+				keyPairs.offer(Certutil.generateKeyPair(algorithm, bits));
+			}
+		} catch (Exception e) {
+			log.error("Key pair pool refill failed " + e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,96 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Waits for a remote resource with exponential backoff and jitter. Its callers are workflow steps which cannot
+// continue before the resource is ready, so the probes run on the workflow thread itself, which sleeps between
+// them. In virtual thread mode a sleeping step does not hold a carrier thread.
+@Slf4j
+@Component
+public class ReadinessPoller {
+
+	// First probe runs immediately, then with exponential backoff and jitter until ready or the deadline passed,
+	// the last non null probe result is returned in both cases. An interrupted wait, e.g. on shutdown, returns
+	// the last probe result as well.
+	public <T> T await(String name, Supplier<T> probe, Predicate<T> ready, Backoff backoff) {
+
+		long deadline = System.nanoTime() + backoff.deadline().toNanos();
+		T value = null;
+		for (int attempt = 1;; attempt++) {
+			Probe<T> outcome = runProbe(name, probe, ready, attempt, value);
+			value = outcome.value();
+			long delay = nextDelay(name, backoff, attempt, deadline, outcome.ready());
+			if (delay < 0)
+				return value;
+			try {
+				TimeUnit.NANOSECONDS.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.warn(name + " readiness wait interrupted after " + attempt + " probe(s)");
+				return value;
+			}
+		}
+	}
+
+	private static <T> Probe<T> runProbe(String name, Supplier<T> probe, Predicate<T> ready, int attempt,
+			T previous) {
+		try {
+			T current = probe.get();
+			return new Probe<>(current != null ? current : previous, ready.test(current));
+		} catch (Exception e) {
+			log.warn(name + " readiness probe " + attempt + " failed " + e.getMessage());
+			return new Probe<>(previous, false);
+		}
+	}
+
+	// Delay before the next probe in nanoseconds, negative once polling is over
+	private static long nextDelay(String name, Backoff backoff, int attempt, long deadline, boolean isReady) {
+
+		long remaining = deadline - System.nanoTime();
+		if (isReady) {
+			log.info(name + " ready after " + attempt + " probe(s)");
+			return -1;
+		} else if (remaining <= 0) {
+			log.warn(name + " not ready after " + attempt + " probe(s), deadline reached");
+			return -1;
+		}
+		long delay = backoff.initialDelay().toNanos() << Math.min(attempt - 1, 20);
+		delay = Math.min(Math.max(delay, 0), backoff.maxDelay().toNanos());
+		return Math.min(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1), remaining);
+	}
+
+	public record Backoff(Duration initialDelay, Duration maxDelay, Duration deadline) {
+	}
+
+	private record Probe<T>(T value, boolean ready) {
+	}
+
+}
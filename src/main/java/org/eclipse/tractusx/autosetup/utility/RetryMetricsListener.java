@@ -0,0 +1,64 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// Picked up by @EnableRetry for every @Retryable method without own listeners
+@Component
+@RequiredArgsConstructor
+public class RetryMetricsListener implements RetryListener {
+
+	private final AutoSetupMetrics autoSetupMetrics;
+
+	@Override
+	public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+			Throwable throwable) {
+		autoSetupMetrics.countRetryAttempt(operation(context), throwable);
+	}
+
+	@Override
+	public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+			Throwable throwable) {
+		if (throwable != null)
+			autoSetupMetrics.countRetryExhausted(operation(context));
+	}
+
+	// the context name is the generic method signature, only class and method name are kept
+	static String operation(RetryContext context) {
+		Object name = context.getAttribute(RetryContext.NAME);
+		if (name == null)
+			return "unknown";
+		String signature = name.toString();
+		int parameters = signature.indexOf('(');
+		String method = parameters < 0 ? signature : signature.substring(0, parameters);
+		method = method.substring(method.lastIndexOf(' ') + 1);
+		int methodDot = method.lastIndexOf('.');
+		int classDot = methodDot < 0 ? -1 : method.lastIndexOf('.', methodDot - 1);
+		return method.substring(classDot + 1);
+	}
+
+}
@@ -0,0 +1,48 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+
+// Guards a trigger entry and its input configuration, both shared by the concurrently running steps of its
+// workflow. A lock instead of the trigger's monitor, a virtual thread blocked on a database write inside a
+// synchronized block would pin its carrier thread. Triggers are striped over a fixed set of locks.
+public final class TriggerLocks {
+
+	private static final int STRIPES = 64;
+
+	private static final ReentrantLock[] LOCKS = new ReentrantLock[STRIPES];
+
+	static {
+		for (int i = 0; i < STRIPES; i++)
+			LOCKS[i] = new ReentrantLock();
+	}
+
+	private TriggerLocks() {
+	}
+
+	public static ReentrantLock of(AutoSetupTriggerEntry trigger) {
+		return LOCKS[Math.floorMod(Objects.hashCode(trigger.getTriggerId()), STRIPES)];
+	}
+}
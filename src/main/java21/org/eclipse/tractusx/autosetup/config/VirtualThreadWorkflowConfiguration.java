@@ -0,0 +1,43 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.config;
+
+import static org.eclipse.tractusx.autosetup.service.AutoSetupWorkflowExecutor.WORKFLOW_THREAD_FACTORY;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "workflow.executor.virtual-threads", havingValue = "true")
+public class VirtualThreadWorkflowConfiguration {
+
+	@Bean(WORKFLOW_THREAD_FACTORY)
+	public ThreadFactory workflowThreadFactory() {
+		log.info("Autosetup workflows will run on virtual threads");
+		return Thread.ofVirtual().name("autosetup-workflow-", 1).factory();
+	}
+}
@@ -0,0 +1,36 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+CREATE TABLE IF NOT EXISTS auto_setup_job_tbl (
+	job_id varchar(255) NOT NULL,
+	trigger_id varchar(255) NOT NULL,
+	job_action varchar(50) NOT NULL,
+	payload text NULL,
+	status varchar(50) NOT NULL,
+	lease_owner varchar(255) NULL,
+	lease_until timestamp with time zone NULL,
+	attempts integer NOT NULL DEFAULT 0,
+	created_at timestamp with time zone NOT NULL,
+	updated_at timestamp with time zone NULL,
+	CONSTRAINT auto_setup_job_tbl_pkey PRIMARY KEY (job_id)
+);
+
+CREATE INDEX IF NOT EXISTS auto_setup_job_tbl_claim_idx ON auto_setup_job_tbl (status, created_at);
+CREATE INDEX IF NOT EXISTS auto_setup_job_tbl_trigger_idx ON auto_setup_job_tbl (trigger_id);
@@ -0,0 +1,70 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+-- The trigger tables used to be created by EclipseLink only, create them here so a new
+-- database gets the indexes as well, EclipseLink still adds columns of later entity changes
+CREATE TABLE IF NOT EXISTS auto_setup_trigger_tbl (
+	trigger_id varchar(255) NOT NULL,
+	trigger_type varchar(255) NULL,
+	organization_name varchar(255) NULL,
+	subscription_id varchar(255) NULL,
+	service_id varchar(255) NULL,
+	autosetup_tenant_name varchar(255) NULL,
+	autosetup_request text NULL,
+	autosetup_result text NULL,
+	created_timestamp varchar(255) NULL,
+	modified_timestamp varchar(255) NULL,
+	status varchar(255) NULL,
+	remark text NULL,
+	input_configuration text NULL,
+	CONSTRAINT auto_setup_trigger_tbl_pkey PRIMARY KEY (trigger_id)
+);
+
+CREATE TABLE IF NOT EXISTS auto_setup_trigger_details_tbl (
+	id varchar(255) NOT NULL,
+	step varchar(255) NULL,
+	status varchar(255) NULL,
+	action varchar(255) NULL,
+	remark text NULL,
+	created_date timestamp NULL,
+	checkpoint boolean NULL,
+	trigger_id varchar(255) NULL,
+	CONSTRAINT auto_setup_trigger_details_tbl_pkey PRIMARY KEY (id)
+);
+
+ALTER TABLE auto_setup_trigger_tbl ADD COLUMN IF NOT EXISTS created_at timestamp with time zone NULL;
+ALTER TABLE auto_setup_trigger_tbl ADD COLUMN IF NOT EXISTS modified_at timestamp with time zone NULL;
+
+-- The old varchar columns hold LocalDateTime strings of the application time zone and are
+-- kept for replicas not yet upgraded, the session time zone is expected to match
+UPDATE auto_setup_trigger_tbl SET modified_at = CAST(modified_timestamp AS timestamp)
+	WHERE modified_at IS NULL AND modified_timestamp IS NOT NULL;
+UPDATE auto_setup_trigger_tbl SET created_at = COALESCE(CAST(created_timestamp AS timestamp), modified_at, CURRENT_TIMESTAMP)
+	WHERE created_at IS NULL;
+
+-- Replicas not yet upgraded insert triggers without created_at, the default fills it for them
+ALTER TABLE auto_setup_trigger_tbl ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE auto_setup_trigger_tbl ALTER COLUMN created_at SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS auto_setup_trigger_tbl_org_service_idx ON auto_setup_trigger_tbl (organization_name, service_id);
+CREATE INDEX IF NOT EXISTS auto_setup_trigger_tbl_status_idx ON auto_setup_trigger_tbl (status);
+CREATE INDEX IF NOT EXISTS auto_setup_trigger_tbl_subscription_idx ON auto_setup_trigger_tbl (subscription_id);
+CREATE INDEX IF NOT EXISTS auto_setup_trigger_tbl_created_idx ON auto_setup_trigger_tbl (created_at);
+CREATE INDEX IF NOT EXISTS auto_setup_trigger_details_tbl_trigger_idx ON auto_setup_trigger_details_tbl (trigger_id);
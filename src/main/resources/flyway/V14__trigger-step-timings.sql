@@ -0,0 +1,28 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+-- Every attempt of a workflow step records when it started and finished, retries of a step
+-- get one row per attempt with its attempt number
+ALTER TABLE auto_setup_trigger_details_tbl ADD COLUMN IF NOT EXISTS started_at timestamp with time zone NULL;
+ALTER TABLE auto_setup_trigger_details_tbl ADD COLUMN IF NOT EXISTS finished_at timestamp with time zone NULL;
+ALTER TABLE auto_setup_trigger_details_tbl ADD COLUMN IF NOT EXISTS duration_ms bigint NULL;
+ALTER TABLE auto_setup_trigger_details_tbl ADD COLUMN IF NOT EXISTS attempt integer NULL;
+
+CREATE INDEX IF NOT EXISTS auto_setup_trigger_details_tbl_started_idx ON auto_setup_trigger_details_tbl (started_at, step);
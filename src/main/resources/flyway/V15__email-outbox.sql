@@ -0,0 +1,41 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+-- Notification emails are written here by the workflows with their template and model, rendered and
+-- sent by the outbox sender of any replica
+CREATE TABLE IF NOT EXISTS auto_setup_email_outbox_tbl (
+	email_id varchar(255) NOT NULL,
+	subject varchar(1000) NULL,
+	to_address text NOT NULL,
+	cc_address text NULL,
+	template_name varchar(255) NOT NULL,
+	template_model text NULL,
+	status varchar(50) NOT NULL,
+	attempts integer NOT NULL DEFAULT 0,
+	next_attempt_at timestamp with time zone NOT NULL,
+	lease_owner varchar(255) NULL,
+	lease_until timestamp with time zone NULL,
+	last_error text NULL,
+	created_at timestamp with time zone NOT NULL,
+	sent_at timestamp with time zone NULL,
+	CONSTRAINT auto_setup_email_outbox_tbl_pkey PRIMARY KEY (email_id)
+);
+
+CREATE INDEX IF NOT EXISTS auto_setup_email_outbox_tbl_claim_idx ON auto_setup_email_outbox_tbl (status, next_attempt_at);
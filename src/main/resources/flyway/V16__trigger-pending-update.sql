@@ -0,0 +1,24 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+-- An update stores its new request and intent before the old packages are deleted, an interrupted
+-- update is resumed as update instead of finishing as a plain deletion
+ALTER TABLE auto_setup_trigger_tbl ADD COLUMN IF NOT EXISTS pending_action varchar(50) NULL;
+ALTER TABLE auto_setup_trigger_tbl ADD COLUMN IF NOT EXISTS pending_request text NULL;
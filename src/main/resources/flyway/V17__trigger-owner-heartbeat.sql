@@ -0,0 +1,25 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+-- The instance running a trigger keeps its heartbeat fresh, recovery only resumes INPROGRESS triggers
+-- whose owner stopped sending heartbeats
+ALTER TABLE auto_setup_trigger_tbl ADD COLUMN IF NOT EXISTS owner_node varchar(255) NULL;
+ALTER TABLE auto_setup_trigger_tbl ADD COLUMN IF NOT EXISTS heartbeat_at timestamp with time zone NULL;
+CREATE INDEX IF NOT EXISTS auto_setup_trigger_owner_idx ON auto_setup_trigger_tbl (owner_node, status);
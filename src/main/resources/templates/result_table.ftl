@@ -0,0 +1,30 @@
+<#--
+/********************************************************************************
+* Copyright (c) 2024 T-Systems International GmbH
+* Copyright (c) 2024 Contributors to the Eclipse Foundation
+*
+* See the NOTICE file(s) distributed with this work for additional
+* information regarding copyright ownership.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Apache License, Version 2.0 which is available at
+* https://www.apache.org/licenses/LICENSE-2.0.
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+* WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+* License for the specific language governing permissions and limitations
+* under the License.
+*
+* SPDX-License-Identifier: Apache-2.0
+********************************************************************************/
+-->
+<#-- One bold name row per tool followed by its key and value rows -->
+<#-- Keys are skipped by a hash lookup, string comparison with != goes through a Collator for every row -->
+<#assign hiddenKeys = {"name": true}>
+<#macro resultTable rows>
+<table><#list rows as row>
+<tr><td colspan="2"><b>${(row.name!"")?html}</b></td></tr><#list row as key, value><#if !hiddenKeys[key]??>
+<tr><td>${key?html}</td><td>${(value!"")?html}</td></tr></#if></#list></#list>
+</table>
+</#macro>
@@ -0,0 +1,88 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.apiproxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class EDCRequestTemplateTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void rendersTemplatesLikeSubstitutingTheJsonText() throws Exception {
+        Map<String, String> inputData = new HashMap<>();
+        inputData.put("assetId", "asset-1");
+        inputData.put("policyId", "policy-1");
+        inputData.put("contractPolicyId", "contract-1");
+        inputData.put("tenantId", "BPNL000000000001");
+        inputData.put("controlPlaneEndpoint", "https://tenant-edc.example.com");
+        inputData.put("createdDate", "17/10/2026 10:00:00");
+        inputData.put("updateDate", "17/10/2026 10:00:00");
+        inputData.put("dtregistryUrl", "https://tenant-dt.example.com/api/v3.0");
+        inputData.put("idpIssuerUri", "https://idp.example.com/token");
+        inputData.put("keycloakAuthenticationClientId", "sa-dt");
+
+        for (String template : new String[] { "asset-request-filter.json", "asset.json", "policy.json",
+                "contract-defination.json" }) {
+            String resource = "/edc-request-template/" + template;
+
+            ObjectNode rendered = EDCRequestTemplate.load(resource).render(inputData);
+
+            assertEquals(substituteText(resource, inputData), rendered, template);
+        }
+    }
+
+    @Test
+    void escapesValuesAndKeepsTemplateUntouched() {
+        EDCRequestTemplate template = EDCRequestTemplate.load("/edc-request-template/asset.json");
+
+        ObjectNode first = template.render(Map.of("assetId", "a\"b", "tenantId", "BPNL1"));
+        ObjectNode second = template.render(Map.of("assetId", "c"));
+
+        assertEquals(8, template.getSlotCount());
+        assertEquals("a\"b", first.at("/edc:asset/@id").textValue());
+        assertEquals("BPNL1:${controlPlaneEndpoint}", first.at("/edc:asset/edc:properties/edc:publisher").textValue());
+        assertEquals("c", second.at("/edc:asset/@id").textValue());
+        assertEquals("${tenantId}:${controlPlaneEndpoint}",
+                second.at("/edc:asset/edc:properties/edc:publisher").textValue());
+    }
+
+    // the implementation before templates were parsed once
+    private JsonNode substituteText(String resource, Map<String, String> inputData) throws Exception {
+        try (InputStream in = getClass().getResourceAsStream(resource)) {
+            String json = objectMapper.readTree(new String(in.readAllBytes(), StandardCharsets.UTF_8)).toString();
+            return objectMapper.readTree(new StringSubstitutor(inputData).replace(json));
+        }
+    }
+
+}
@@ -21,20 +21,33 @@
 package org.eclipse.tractusx.autosetup.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
 
 import org.eclipse.tractusx.autosetup.manager.AutoSetupTriggerManager;
+import org.eclipse.tractusx.autosetup.manager.TriggerStatusNotifier;
 import org.eclipse.tractusx.autosetup.model.AutoSetupRequest;
 import org.eclipse.tractusx.autosetup.model.AutoSetupResponse;
+import org.eclipse.tractusx.autosetup.model.TriggerStatusEvent;
 import org.eclipse.tractusx.autosetup.service.AutoSetupOrchitestratorService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -44,6 +57,9 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
 
 @SpringBootTest
 @AutoConfigureMockMvc(addFilters = false)
@@ -57,6 +73,9 @@ class AutoSetupHandlerControllerTest {
     @MockBean
     private AutoSetupTriggerManager autoSetupTriggerManager;
 
+    @MockBean
+    private TriggerStatusNotifier triggerStatusNotifier;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -192,4 +211,119 @@ class AutoSetupHandlerControllerTest {
 
         assertEquals(HttpStatus.OK.value(), apiResponse.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    void waitForCheckDetailsAnswersOnChange() throws Exception {
+        String executionId = "1ca680dc-8947-4afa-9621-2a72a31f9bb9";
+        Mockito.when(autoSetupTriggerManager.getTriggerStatus(executionId))
+                .thenReturn(status(executionId, TriggerStatusEnum.INPROGRESS, "v1"));
+        AtomicReference<Thread> detailsThread = new AtomicReference<>();
+        Mockito.when(autoSetupTriggerManager.getCheckDetails(executionId)).thenAnswer(invocation -> {
+            detailsThread.set(Thread.currentThread());
+            return new AutoSetupResponse();
+        });
+        ArgumentCaptor<Consumer<TriggerStatusEvent>> listener = listenerCaptor();
+        Runnable unsubscribe = Mockito.mock(Runnable.class);
+        Mockito.when(triggerStatusNotifier.subscribe(Mockito.eq(executionId), Mockito.eq("v1"), listener.capture()))
+                .thenReturn(unsubscribe);
+
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.get("/autosetup/" + executionId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v1\"")).andReturn();
+        assertTrue(started.getRequest().isAsyncStarted());
+        listener.getValue().accept(status(executionId, TriggerStatusEnum.SUCCESS, "v2"));
+        MockHttpServletResponse apiResponse = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+
+        assertEquals(HttpStatus.OK.value(), apiResponse.getStatus());
+        assertEquals("\"v2\"", apiResponse.getHeader(HttpHeaders.ETAG));
+        // the notifier thread, here the test thread, does not read the details
+        assertNotEquals(Thread.currentThread(), detailsThread.get());
+        Mockito.verify(unsubscribe).run();
+    }
+
+    @Test
+    void waitForCheckDetailsAnswersNotModifiedAfterTimeout() throws Exception {
+        String executionId = "1ca680dc-8947-4afa-9621-2a72a31f9bb9";
+        Mockito.when(autoSetupTriggerManager.getTriggerStatus(executionId))
+                .thenReturn(status(executionId, TriggerStatusEnum.INPROGRESS, "v1"));
+        Mockito.when(triggerStatusNotifier.subscribe(Mockito.eq(executionId), Mockito.eq("v1"), Mockito.any()))
+                .thenReturn(() -> {
+                });
+
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.get("/autosetup/" + executionId)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"v1\"")).andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) started.getRequest().getAsyncContext();
+        for (AsyncListener asyncListener : asyncContext.getListeners())
+            asyncListener.onTimeout(new AsyncEvent(asyncContext));
+        MockHttpServletResponse apiResponse = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), apiResponse.getStatus());
+        assertEquals("\"v1\"", apiResponse.getHeader(HttpHeaders.ETAG));
+        Mockito.verify(autoSetupTriggerManager, Mockito.never()).getCheckDetails(executionId);
+    }
+
+    @Test
+    void waitForCheckDetailsAnswersDirectlyOnStaleETag() throws Exception {
+        String executionId = "1ca680dc-8947-4afa-9621-2a72a31f9bb9";
+        Mockito.when(autoSetupTriggerManager.getTriggerStatus(executionId))
+                .thenReturn(status(executionId, TriggerStatusEnum.INPROGRESS, "v2"));
+        Mockito.when(autoSetupTriggerManager.getCheckDetails(executionId)).thenReturn(new AutoSetupResponse());
+
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.get("/autosetup/" + executionId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v1\"")).andReturn();
+        MockHttpServletResponse apiResponse = mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+
+        assertEquals(HttpStatus.OK.value(), apiResponse.getStatus());
+        assertEquals("\"v2\"", apiResponse.getHeader(HttpHeaders.ETAG));
+        Mockito.verifyNoInteractions(triggerStatusNotifier);
+    }
+
+    @Test
+    void streamCheckDetailsEndsWithFinishedExecution() throws Exception {
+        String executionId = "1ca680dc-8947-4afa-9621-2a72a31f9bb9";
+        Mockito.when(autoSetupTriggerManager.getTriggerStatus(executionId))
+                .thenReturn(status(executionId, TriggerStatusEnum.INPROGRESS, "v1"));
+        ArgumentCaptor<Consumer<TriggerStatusEvent>> listener = listenerCaptor();
+        Mockito.when(triggerStatusNotifier.subscribe(Mockito.eq(executionId), Mockito.eq("v1"), listener.capture()))
+                .thenReturn(() -> {
+                });
+
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.get("/autosetup/" + executionId + "/events")
+                .accept(MediaType.TEXT_EVENT_STREAM)).andReturn();
+        TriggerStatusEvent step = status(executionId, TriggerStatusEnum.INPROGRESS, "v2");
+        step.setStep("EDC");
+        step.setStepStatus("SUCCESS");
+        listener.getValue().accept(step);
+        listener.getValue().accept(status(executionId, TriggerStatusEnum.SUCCESS, "v3"));
+        mockMvc.perform(asyncDispatch(started)).andReturn();
+
+        String events = started.getResponse().getContentAsString();
+        assertTrue(events.contains("id:v1"));
+        assertTrue(events.indexOf("id:v1") < events.indexOf("id:v2"));
+        assertTrue(events.contains("\"step\":\"EDC\""));
+        assertTrue(events.contains("id:v3"));
+        assertTrue(events.contains("\"status\":\"SUCCESS\""));
+    }
+
+    @Test
+    void streamOfFinishedExecutionSendsItsStatusWithoutSubscribing() throws Exception {
+        String executionId = "1ca680dc-8947-4afa-9621-2a72a31f9bb9";
+        Mockito.when(autoSetupTriggerManager.getTriggerStatus(executionId))
+                .thenReturn(status(executionId, TriggerStatusEnum.SUCCESS, "v3"));
+
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.get("/autosetup/" + executionId + "/events")
+                .accept(MediaType.TEXT_EVENT_STREAM)).andReturn();
+        mockMvc.perform(asyncDispatch(started)).andReturn();
+
+        assertTrue(started.getResponse().getContentAsString().contains("id:v3"));
+        Mockito.verifyNoInteractions(triggerStatusNotifier);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Consumer<TriggerStatusEvent>> listenerCaptor() {
+        return ArgumentCaptor.forClass(Consumer.class);
+    }
+
+    private TriggerStatusEvent status(String executionId, TriggerStatusEnum status, String version) {
+        return TriggerStatusEvent.builder().executionId(executionId).status(status).version(version).build();
+    }
+}
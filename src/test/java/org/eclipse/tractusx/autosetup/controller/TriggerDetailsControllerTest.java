@@ -0,0 +1,225 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerDetailsRepository;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class TriggerDetailsControllerTest {
+
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 5, 1, 8, 0, 0, 0, ZoneOffset.UTC);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AutoSetupTriggerEntryRepository autoSetupTriggerEntryRepository;
+
+    @Autowired
+    private AutoSetupTriggerDetailsRepository autoSetupTriggerDetailsRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String organizationName;
+
+    @BeforeEach
+    void setUp() {
+        // every test works on its own organization, the in memory database is shared between test classes
+        organizationName = "Tenant-" + UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            String triggerId = UUID.randomUUID().toString();
+            autoSetupTriggerEntryRepository.save(AutoSetupTriggerEntry.builder().triggerId(triggerId)
+                    .triggerType("CREATE").organizationName(organizationName).serviceId("service-" + (i % 2))
+                    .status(i == 0 ? TriggerStatusEnum.FAILED.name() : TriggerStatusEnum.SUCCESS.name())
+                    .autosetupRequest("{\"customer\":{\"organizationName\":\"" + organizationName + "\"}}")
+                    .autosetupResult("[{\"name\":\"EDC\"}]")
+                    .createdTimestamp(START.plusMinutes(i)).modifiedTimestamp(START.plusMinutes(i))
+                    .autosetupTriggerDetails(List.of(AutoSetupTriggerDetails.builder()
+                            .id(UUID.randomUUID().toString()).step("PORTAL")
+                            .status(TriggerStatusEnum.SUCCESS.name()).build()))
+                    .build());
+        }
+    }
+
+    @Test
+    void pagesAreReturnedNewestFirstWithoutHeavyColumns() throws Exception {
+        List<String> created = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page = getJson("/internal/trigger?organizationName=" + organizationName + "&limit=2"
+                    + (cursor == null ? "" : "&cursor=" + cursor));
+            for (JsonNode trigger : page.get("triggers")) {
+                created.add(trigger.get("createdTimestamp").asText());
+                assertFalse(trigger.has("request"));
+                assertFalse(trigger.has("processResult"));
+                assertFalse(trigger.has("autosetupTriggerDetails"));
+            }
+            cursor = page.has("nextCursor") ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(5, created.size());
+        for (int i = 0; i < 5; i++)
+            assertEquals(START.plusMinutes(4L - i), OffsetDateTime.parse(created.get(i)));
+    }
+
+    @Test
+    void filtersAndIncludesAreApplied() throws Exception {
+        JsonNode page = getJson("/internal/trigger?organizationName=" + organizationName
+                + "&status=SUCCESS&serviceId=service-1&createdFrom=" + START.plusMinutes(1)
+                + "&include=REQUEST,RESULT,DETAILS");
+
+        JsonNode triggers = page.get("triggers");
+        assertEquals(2, triggers.size());
+        assertNull(page.get("nextCursor"));
+        for (JsonNode trigger : triggers) {
+            assertEquals("SUCCESS", trigger.get("status").asText());
+            assertEquals(organizationName, trigger.get("request").get("customer").get("organizationName").asText());
+            assertEquals("EDC", trigger.get("processResult").get(0).get("name").asText());
+            assertEquals("PORTAL", trigger.get("autosetupTriggerDetails").get(0).get("step").asText());
+        }
+    }
+
+    @Test
+    void exportStreamsOneTriggerPerLine() throws Exception {
+        MvcResult started = mockMvc.perform(get("/internal/trigger/export?organizationName=" + organizationName
+                + "&include=DETAILS").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted()).andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+
+        assertTrue(result.getResponse().getContentType().startsWith(MediaType.APPLICATION_NDJSON_VALUE));
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(5, lines.length);
+        for (String line : lines) {
+            JsonNode trigger = objectMapper.readTree(line);
+            assertEquals(organizationName, trigger.get("organizationName").asText());
+            assertEquals(1, trigger.get("autosetupTriggerDetails").size());
+            assertFalse(trigger.has("request"));
+        }
+    }
+
+    @Test
+    void invalidCursorAndLimitAreRejected() throws Exception {
+        mockMvc.perform(get("/internal/trigger?cursor=not-a-cursor")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/internal/trigger?limit=0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/internal/trigger?limit=501")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void stepLatencyPercentilesAreAggregatedPerStep() throws Exception {
+        // a window of its own keeps the details of other tests out of the aggregation
+        OffsetDateTime window = OffsetDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)
+                .plusHours(Math.abs(organizationName.hashCode() % 10000));
+        String triggerId = UUID.randomUUID().toString();
+        autoSetupTriggerEntryRepository.save(AutoSetupTriggerEntry.builder().triggerId(triggerId)
+                .triggerType("CREATE").organizationName(organizationName).status(TriggerStatusEnum.SUCCESS.name())
+                .createdTimestamp(window).build());
+        for (int i = 1; i <= 10; i++) {
+            OffsetDateTime started = window.plusMinutes(i);
+            autoSetupTriggerDetailsRepository.insertDetails(UUID.randomUUID().toString(), triggerId, "VAULT",
+                    i == 10 ? "FAILED" : "SUCCESS", "CREATE", null, started.toLocalDateTime(), null, started,
+                    started.plusNanos(i * 100_000_000L), i * 100L, i > 8 ? 2 : 1);
+        }
+        autoSetupTriggerEntryRepository.updateCriticalPath(triggerId, "VAULT 1.0s, total 1.0s");
+
+        JsonNode latency = getJson("/internal/trigger/step-latency?from=" + window + "&to=" + window.plusHours(1));
+
+        assertEquals(1, latency.size());
+        JsonNode vault = latency.get(0);
+        assertEquals("VAULT", vault.get("step").asText());
+        assertEquals(10, vault.get("samples").asLong());
+        assertEquals(1, vault.get("failed").asLong());
+        assertEquals(2, vault.get("retried").asLong());
+        assertEquals(550, vault.get("p50Ms").asLong());
+        assertEquals(910, vault.get("p90Ms").asLong());
+        assertEquals(1000, vault.get("maxMs").asLong());
+
+        assertEquals(0, getJson("/internal/trigger/step-latency?from=" + window + "&to=" + window.plusHours(1)
+                + "&action=DELETE").size());
+        mockMvc.perform(get("/internal/trigger/step-latency?from=" + window + "&to=" + window))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void timelineShowsTheCriticalPathApartFromTheSteps() throws Exception {
+        String triggerId = UUID.randomUUID().toString();
+        autoSetupTriggerEntryRepository.save(AutoSetupTriggerEntry.builder().triggerId(triggerId)
+                .triggerType("CREATE").organizationName(organizationName).status(TriggerStatusEnum.SUCCESS.name())
+                .createdTimestamp(START).build());
+        autoSetupTriggerDetailsRepository.insertDetails(UUID.randomUUID().toString(), triggerId, "VAULT", "SUCCESS",
+                "CREATE", null, START.toLocalDateTime(), null, START, START.plusSeconds(1), 1000L, 1);
+        autoSetupTriggerEntryRepository.updateCriticalPath(triggerId, "VAULT 1.0s, total 1.0s");
+
+        JsonNode timeline = getJson("/internal/trigger/" + triggerId + "/timeline");
+
+        assertEquals("VAULT 1.0s, total 1.0s", timeline.get("criticalPath").asText());
+        assertEquals(1, timeline.get("steps").size());
+        assertEquals("VAULT", timeline.get("steps").get(0).get("step").asText());
+    }
+
+    @Test
+    void timelineOfUnknownTriggerIsNotFound() throws Exception {
+        mockMvc.perform(get("/internal/trigger/" + UUID.randomUUID() + "/timeline"))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode getJson(String url) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get(url).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString());
+    }
+
+}
@@ -0,0 +1,111 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.factory.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.eclipse.tractusx.autosetup.entity.AppDetails;
+import org.junit.jupiter.api.Test;
+
+class AppConfigurationBuilderTest {
+
+    private final AppConfigurationBuilder appConfigurationBuilder = new AppConfigurationBuilder();
+
+    @Test
+    void rendersFlywayTemplatesLikeStringSubstitutor() throws Exception {
+        Map<String, AppDetails> apps = FlywayAppTemplates.load();
+        assertEquals(Set.of("SDE", "DT_REGISTRY", "EDC_CONNECTOR"), apps.keySet());
+
+        for (AppDetails appDetails : apps.values()) {
+            Map<String, String> input = FlywayAppTemplates.sampleInput(appDetails);
+            input.remove("dnsName");
+            input.remove("bpnNumber");
+
+            AppConfigurationBuilder.RenderedConfiguration rendered = appConfigurationBuilder.render(appDetails, input);
+
+            assertEquals(substitute(appDetails, input), rendered.configuration(), appDetails.getAppName());
+            assertTrue(rendered.unresolvedPlaceholders().contains("dnsName"), appDetails.getAppName());
+        }
+    }
+
+    @Test
+    void reportsUnresolvedPlaceholdersAndHonoursDefaultsAndEscapes() {
+        AppDetails appDetails = AppDetails.builder().appName("TEST").revision(0L)
+                .expectedInputData("{\"host\":\"${dnsName}\",\"key\":\"${apiKey}\",\"size\":\"${size:-1Gi}\",\"raw\":\"$${dnsName}\",\"price\":\"$5\"}")
+                .requiredYamlConfiguration("${yamlValues}\n# ${tenant}")
+                .build();
+
+        AppConfigurationBuilder.RenderedConfiguration rendered = appConfigurationBuilder.render(appDetails,
+                Map.of("dnsName", "tenant.example.com"));
+
+        assertEquals("{\"host\":\"tenant.example.com\",\"key\":\"${apiKey}\",\"size\":\"1Gi\",\"raw\":\"${dnsName}\",\"price\":\"$5\"}\n# ${tenant}",
+                rendered.configuration());
+        assertEquals(new LinkedHashSet<>(List.of("apiKey", "tenant")), rendered.unresolvedPlaceholders());
+    }
+
+    @Test
+    void insertsValuesWithoutResolvingPlaceholdersInside() {
+        AppDetails appDetails = AppDetails.builder().appName("TEST").revision(0L)
+                .expectedInputData("{\"name\":\"${organizationName}\"}")
+                .requiredYamlConfiguration("${yamlValues}")
+                .build();
+
+        String configuration = appConfigurationBuilder.buildConfiguration(appDetails,
+                Map.of("organizationName", "${vaulttoken}", "vaulttoken", "secret"));
+
+        assertEquals("{\"name\":\"${vaulttoken}\"}", configuration);
+    }
+
+    @Test
+    void recompilesWhenAppRevisionChanges() {
+        AppDetails appDetails = AppDetails.builder().appName("TEST").revision(0L)
+                .expectedInputData("v1 ${dnsName}").requiredYamlConfiguration("${yamlValues}").build();
+        Map<String, String> input = Map.of("dnsName", "host");
+
+        assertEquals("v1 host", appConfigurationBuilder.buildConfiguration(appDetails, input));
+
+        AppDetails updated = AppDetails.builder().appName("TEST").revision(1L)
+                .expectedInputData("v2 ${dnsName}").requiredYamlConfiguration("${yamlValues}").build();
+
+        assertEquals("v2 host", appConfigurationBuilder.buildConfiguration(updated, input));
+        assertFalse(appConfigurationBuilder.render(updated, input).configuration().startsWith("v1"));
+    }
+
+    // the implementation before templates were compiled
+    private String substitute(AppDetails appDetails, Map<String, String> inputProperties) {
+        Map<String, Object> dyanamicYamlValues = new HashMap<>();
+        String sb = new StringSubstitutor(inputProperties).replace(appDetails.getExpectedInputData());
+        dyanamicYamlValues.put("yamlValues", sb);
+        dyanamicYamlValues.put("dnsName", inputProperties.get("dnsName"));
+        dyanamicYamlValues.putAll(inputProperties);
+        return new StringSubstitutor(dyanamicYamlValues).replace(appDetails.getRequiredYamlConfiguration());
+    }
+
+}
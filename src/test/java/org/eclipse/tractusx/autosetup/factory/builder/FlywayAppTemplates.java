@@ -0,0 +1,76 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.factory.builder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.tractusx.autosetup.entity.AppDetails;
+
+// App templates as installed by the V10 flyway script, with sample values for every placeholder
+public final class FlywayAppTemplates {
+
+    private static final Pattern UPDATE = Pattern.compile(
+            "update app_tbl set expected_input_data=\\s*'([^']*+(?:''[^']*+)*+)'.*?where app_name='([^']+)'", Pattern.DOTALL);
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)\\}");
+
+    private FlywayAppTemplates() {
+    }
+
+    public static Map<String, AppDetails> load() throws IOException {
+        String script;
+        try (InputStream in = FlywayAppTemplates.class.getResourceAsStream("/flyway/V10__update_app_version.sql")) {
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        Map<String, AppDetails> apps = new LinkedHashMap<>();
+        Matcher matcher = UPDATE.matcher(script);
+        while (matcher.find()) {
+            String expectedInputData = matcher.group(1).replace("''", "'").replace("\\{", "{").replace("\\}", "}");
+            apps.put(matcher.group(2), AppDetails.builder()
+                    .appName(matcher.group(2))
+                    .expectedInputData(expectedInputData)
+                    .requiredYamlConfiguration("${yamlValues}")
+                    .revision(0L)
+                    .build());
+        }
+        return apps;
+    }
+
+    public static Map<String, String> sampleInput(AppDetails appDetails) {
+        Map<String, String> input = new LinkedHashMap<>();
+        Matcher matcher = PLACEHOLDER.matcher(appDetails.getExpectedInputData());
+        TreeSet<String> names = new TreeSet<>();
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        names.forEach(name -> input.put(name, "value-of-" + name));
+        input.put("targetCluster", "default");
+        input.put("targetNamespace", "kubeapps");
+        return input;
+    }
+
+}
@@ -0,0 +1,162 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.autosetup.constant.AppActions;
+import org.eclipse.tractusx.autosetup.constant.JobStatusEnum;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupJob;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_METHOD)
+@ActiveProfiles("test")
+class AutoSetupJobManagerTest {
+
+    @Autowired
+    private AutoSetupJobManager autoSetupJobManager;
+
+    @Autowired
+    private AutoSetupJobRepository autoSetupJobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        autoSetupJobRepository.deleteAll();
+        ReflectionTestUtils.setField(autoSetupJobManager, "leaseSeconds", 120L);
+    }
+
+    @Test
+    void lockedJobsAreSkippedByOtherReplicas() throws Exception {
+        autoSetupJobManager.enqueue("trigger-1", AppActions.CREATE, null);
+        autoSetupJobManager.enqueue("trigger-2", AppActions.CREATE, null);
+
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        actAs("replica-a");
+        CompletableFuture<List<AutoSetupJob>> replicaA = CompletableFuture
+                .supplyAsync(() -> new TransactionTemplate(transactionManager).execute(status -> {
+                    List<AutoSetupJob> jobs = autoSetupJobManager.claim(2);
+                    claimed.countDown();
+                    await(commit);
+                    return jobs;
+                }));
+        assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+        autoSetupJobManager.enqueue("trigger-3", AppActions.DELETE, null);
+
+        // replica a still holds its row locks, replica b must not wait for them
+        actAs("replica-b");
+        List<AutoSetupJob> replicaB = autoSetupJobManager.claim(5);
+        commit.countDown();
+
+        assertThat(replicaB).extracting(AutoSetupJob::getTriggerId).containsExactly("trigger-3");
+        assertThat(replicaA.get(10, TimeUnit.SECONDS)).extracting(AutoSetupJob::getTriggerId)
+                .containsExactly("trigger-1", "trigger-2");
+        assertThat(autoSetupJobManager.claim(5)).isEmpty();
+        assertThat(autoSetupJobRepository.findAll()).allSatisfy(job -> {
+            assertThat(job.getStatus()).isEqualTo(JobStatusEnum.RUNNING.name());
+            assertThat(job.getAttempts()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverAndOldOwnerCannotComplete() {
+        AutoSetupJob job = autoSetupJobManager.enqueue("trigger-4", AppActions.CREATE, null);
+
+        actAs("replica-a");
+        ReflectionTestUtils.setField(autoSetupJobManager, "leaseSeconds", -1L);
+        assertThat(autoSetupJobManager.claim(1)).hasSize(1);
+
+        ReflectionTestUtils.setField(autoSetupJobManager, "leaseSeconds", 120L);
+        actAs("replica-b");
+        List<AutoSetupJob> takenOver = autoSetupJobManager.claim(1);
+        assertThat(takenOver).singleElement().satisfies(claimed -> {
+            assertThat(claimed.getLeaseOwner()).isEqualTo("replica-b");
+            assertThat(claimed.getAttempts()).isEqualTo(2);
+        });
+
+        actAs("replica-a");
+        assertThat(autoSetupJobManager.renewLeases(Set.of(job.getJobId()))).isZero();
+        assertThat(autoSetupJobManager.release(job.getJobId(), JobStatusEnum.DONE)).isFalse();
+
+        actAs("replica-b");
+        assertThat(autoSetupJobManager.renewLeases(Set.of(job.getJobId()))).isEqualTo(1);
+        assertThat(autoSetupJobManager.release(job.getJobId(), JobStatusEnum.DONE)).isTrue();
+        assertThat(autoSetupJobRepository.findById(job.getJobId())).get()
+                .extracting(AutoSetupJob::getStatus).isEqualTo(JobStatusEnum.DONE.name());
+    }
+
+    @Test
+    void expiredLeaseOfLastAttemptIsFailedInsteadOfTakenOver() {
+        ReflectionTestUtils.setField(autoSetupJobManager, "maxAttempts", 2);
+        try {
+            AutoSetupJob job = autoSetupJobManager.enqueue("trigger-5", AppActions.CREATE, null);
+            ReflectionTestUtils.setField(autoSetupJobManager, "leaseSeconds", -1L);
+
+            actAs("replica-a");
+            assertThat(autoSetupJobManager.claim(1)).hasSize(1);
+            assertThat(autoSetupJobManager.failExhaustedJobs()).isEmpty();
+            actAs("replica-b");
+            assertThat(autoSetupJobManager.claim(1)).singleElement()
+                    .extracting(AutoSetupJob::getAttempts).isEqualTo(2);
+
+            actAs("replica-c");
+            assertThat(autoSetupJobManager.claim(1)).isEmpty();
+            assertThat(autoSetupJobManager.failExhaustedJobs()).singleElement()
+                    .extracting(AutoSetupJob::getTriggerId).isEqualTo("trigger-5");
+            assertThat(autoSetupJobManager.failExhaustedJobs()).isEmpty();
+            assertThat(autoSetupJobRepository.findById(job.getJobId())).get()
+                    .extracting(AutoSetupJob::getStatus).isEqualTo(JobStatusEnum.FAILED.name());
+        } finally {
+            ReflectionTestUtils.setField(autoSetupJobManager, "maxAttempts", 3);
+        }
+    }
+
+    private void actAs(String nodeId) {
+        ReflectionTestUtils.setField(autoSetupJobManager, "nodeId", nodeId);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
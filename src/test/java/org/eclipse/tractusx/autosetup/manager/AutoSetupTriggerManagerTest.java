@@ -0,0 +1,331 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.eclipse.tractusx.autosetup.constant.AppActions;
+import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
+import org.eclipse.tractusx.autosetup.constant.WorkflowStep;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.exception.ServiceException;
+import org.eclipse.tractusx.autosetup.model.AutoSetupRequest;
+import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerFilter;
+import org.eclipse.tractusx.autosetup.model.AutoSetupTriggerResponse;
+import org.eclipse.tractusx.autosetup.model.Customer;
+import org.eclipse.tractusx.autosetup.model.CustomerProperties;
+import org.eclipse.tractusx.autosetup.model.TriggerStatusEvent;
+import org.eclipse.tractusx.autosetup.model.TriggerTimeline;
+import org.eclipse.tractusx.autosetup.model.TriggerTimelineStep;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerEntryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AutoSetupTriggerManagerTest {
+
+    @Autowired
+    private AutoSetupTriggerManager autoSetupTriggerManager;
+
+    @Autowired
+    private AutoSetupTriggerEntryRepository autoSetupTriggerEntryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TestConfiguration
+    static class CountingDataSourceConfiguration {
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? CountingDataSource.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Test
+    void workflowWritesAreSingleRowInsertsAndTargetedUpdates() {
+        AutoSetupTriggerEntry trigger = autoSetupTriggerManager.createTrigger(request(), AppActions.CREATE,
+                UUID.randomUUID().toString(), "ns");
+        Map<String, String> inputConfiguration = inputConfiguration();
+        WorkflowStep[] steps = WorkflowStep.values();
+
+        CountingDataSource.reset();
+        for (WorkflowStep step : steps) {
+            autoSetupTriggerManager.saveTriggerDetails(AutoSetupTriggerDetails.builder()
+                    .id(UUID.randomUUID().toString()).step(step.getDetailStep())
+                    .status(TriggerStatusEnum.SUCCESS.name()).build(), trigger);
+            inputConfiguration.put(step.name() + "-output", UUID.randomUUID().toString());
+            autoSetupTriggerManager.saveCheckpoint(trigger, step, inputConfiguration);
+        }
+        trigger.setAutosetupResult("[{\"name\":\"EDC\",\"controlPlaneEndpoint\":\"https://tenant-edc.example.com\"}]");
+        trigger.setStatus(TriggerStatusEnum.SUCCESS.name());
+        autoSetupTriggerManager.saveInputConfiguration(trigger, inputConfiguration);
+        autoSetupTriggerManager.saveTriggerUpdate(trigger);
+
+        // one insert per step, input configuration, status version and checkpoint per step, no reads of the trigger aggregate
+        assertEquals(steps.length, CountingDataSource.count("INSERT"));
+        assertEquals(3L * steps.length + 2, CountingDataSource.count("UPDATE"));
+        assertEquals(0, CountingDataSource.count("SELECT"));
+
+        AutoSetupTriggerEntry stored = autoSetupTriggerEntryRepository.findAllByTriggerId(trigger.getTriggerId());
+        assertEquals(TriggerStatusEnum.SUCCESS.name(), stored.getStatus());
+        assertEquals(trigger.getAutosetupResult(), stored.getAutosetupResult());
+        assertTrue(stored.getInputConfiguration().contains("SDE-output"));
+        assertEquals(steps.length, stored.getAutosetupTriggerDetails().size());
+        assertTrue(stored.getAutosetupTriggerDetails().stream()
+                .allMatch(detail -> Boolean.TRUE.equals(detail.getCheckpoint())
+                        && AppActions.CREATE.name().equals(detail.getAction())));
+    }
+
+    @Test
+    void clearedCheckpointsAreStored() {
+        AutoSetupTriggerEntry trigger = autoSetupTriggerManager.createTrigger(request(), AppActions.CREATE,
+                UUID.randomUUID().toString(), "ns");
+        autoSetupTriggerManager.saveCheckpoint(trigger, WorkflowStep.PORTAL, inputConfiguration());
+
+        autoSetupTriggerManager.clearCheckpoints(trigger);
+
+        AutoSetupTriggerEntry stored = autoSetupTriggerEntryRepository.findAllByTriggerId(trigger.getTriggerId());
+        assertFalse(autoSetupTriggerManager.hasCheckpoint(stored));
+        assertEquals(1, stored.getAutosetupTriggerDetails().size());
+    }
+
+    @Test
+    void pendingUpdateIsStoredUntilTheNewRequestIsApplied() {
+        AutoSetupTriggerEntry trigger = autoSetupTriggerManager.createTrigger(request(), AppActions.CREATE,
+                UUID.randomUUID().toString(), "ns");
+        AutoSetupRequest update = request();
+        update.getCustomer().setOrganizationName("Renamed Tenant");
+        trigger.setTriggerType(AppActions.DELETE.name());
+        trigger.setPendingAction(AppActions.UPDATE.name());
+        trigger.setPendingRequest("{\"customer\":{\"organizationName\":\"Renamed Tenant\"}}");
+        autoSetupTriggerManager.saveTriggerUpdate(trigger);
+
+        AutoSetupTriggerEntry stored = autoSetupTriggerEntryRepository.findAllByTriggerId(trigger.getTriggerId());
+        assertEquals(AppActions.UPDATE.name(), stored.getPendingAction());
+        assertEquals(trigger.getPendingRequest(), stored.getPendingRequest());
+        assertEquals("Tenant", stored.getOrganizationName());
+
+        autoSetupTriggerManager.updateTriggerAutoSetupRequest(update, stored, AppActions.UPDATE);
+
+        AutoSetupTriggerEntry applied = autoSetupTriggerEntryRepository.findAllByTriggerId(trigger.getTriggerId());
+        assertNull(applied.getPendingAction());
+        assertNull(applied.getPendingRequest());
+        assertEquals("Renamed Tenant", applied.getOrganizationName());
+        assertEquals(AppActions.UPDATE.name(), applied.getTriggerType());
+    }
+
+    @Test
+    void legacyTimestampColumnsAreStillWritten() {
+        AutoSetupTriggerEntry trigger = autoSetupTriggerManager.createTrigger(request(), AppActions.CREATE,
+                UUID.randomUUID().toString(), "ns");
+        trigger.setStatus(TriggerStatusEnum.SUCCESS.name());
+        autoSetupTriggerManager.saveTriggerUpdate(trigger);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT created_timestamp, modified_timestamp FROM auto_setup_trigger_tbl WHERE trigger_id = ?",
+                trigger.getTriggerId());
+        assertEquals(trigger.getCreatedTimestamp().toLocalDateTime(),
+                LocalDateTime.parse((String) row.get("CREATED_TIMESTAMP")));
+        assertEquals(trigger.getModifiedTimestamp().toLocalDateTime(),
+                LocalDateTime.parse((String) row.get("MODIFIED_TIMESTAMP")));
+    }
+
+    @Test
+    void triggersInsertedByEarlierVersionsAreListed() {
+        // earlier versions only know the varchar timestamps
+        String triggerId = UUID.randomUUID().toString();
+        String organizationName = "Tenant-" + triggerId;
+        jdbcTemplate.update("INSERT INTO auto_setup_trigger_tbl (trigger_id, trigger_type, organization_name, status, "
+                + "created_timestamp, modified_timestamp) VALUES (?, 'CREATE', ?, 'SUCCESS', ?, ?)", triggerId,
+                organizationName, LocalDateTime.now().toString(), LocalDateTime.now().toString());
+
+        List<AutoSetupTriggerResponse> triggers = autoSetupTriggerManager
+                .getTriggers(AutoSetupTriggerFilter.builder().organizationName(organizationName).build(), null, 10)
+                .getTriggers();
+
+        assertEquals(1, triggers.size());
+        assertEquals(triggerId, triggers.get(0).getTriggerId());
+        assertTrue(triggers.get(0).getCreatedTimestamp() != null);
+    }
+
+    @Test
+    void onlyTriggersWithoutRecentHeartbeatAreClaimedOnce() {
+        AutoSetupTriggerEntry trigger = autoSetupTriggerManager.createTrigger(request(), AppActions.CREATE,
+                UUID.randomUUID().toString(), "ns");
+        String triggerId = trigger.getTriggerId();
+        assertFalse(claimed(triggerId));
+
+        // still owned by this instance, its heartbeat keeps the trigger
+        ageHeartbeat(triggerId);
+        autoSetupTriggerManager.heartbeat();
+        assertFalse(claimed(triggerId));
+
+        // owner of a previous instance stopped heartbeating
+        autoSetupTriggerEntryRepository.takeOwnership(triggerId, "previous-pod");
+        ageHeartbeat(triggerId);
+        assertTrue(claimed(triggerId));
+        assertFalse(claimed(triggerId));
+
+        autoSetupTriggerManager.releaseOwnership(triggerId);
+        assertNull(autoSetupTriggerEntryRepository.findAllByTriggerId(triggerId).getOwnerNode());
+    }
+
+    private boolean claimed(String triggerId) {
+        return autoSetupTriggerManager.claimOrphanedTriggers(60, 1000).stream()
+                .anyMatch(trigger -> triggerId.equals(trigger.getTriggerId()));
+    }
+
+    private void ageHeartbeat(String triggerId) {
+        jdbcTemplate.update("UPDATE auto_setup_trigger_tbl SET heartbeat_at = ?, modified_at = ? WHERE trigger_id = ?",
+                OffsetDateTime.now().minusMinutes(5), OffsetDateTime.now().minusMinutes(5), triggerId);
+    }
+
+    @Test
+    void storedStatusMatchesPublishedVersion() {
+        AutoSetupTriggerEntry trigger = autoSetupTriggerManager.createTrigger(request(), AppActions.CREATE,
+                UUID.randomUUID().toString(), "ns");
+        autoSetupTriggerManager.saveTriggerDetails(AutoSetupTriggerDetails.builder().id(UUID.randomUUID().toString())
+                .step(WorkflowStep.PORTAL.getDetailStep()).status(TriggerStatusEnum.SUCCESS.name()).build(), trigger);
+        autoSetupTriggerManager.saveTriggerUpdate(trigger);
+
+        TriggerStatusEvent status = autoSetupTriggerManager.getTriggerStatus(trigger.getTriggerId());
+
+        assertEquals(TriggerStatusEnum.INPROGRESS, status.getStatus());
+        assertEquals(WorkflowStep.PORTAL.getDetailStep(), status.getStep());
+        assertEquals(TriggerStatusEvent.version(2), status.getVersion());
+        assertEquals(TriggerStatusEvent.version(trigger.getStatusVersion()), status.getVersion());
+    }
+
+    @Test
+    void everyUpdateChangesTheStatusVersion() {
+        AutoSetupTriggerEntry trigger = autoSetupTriggerManager.createTrigger(request(), AppActions.CREATE,
+                UUID.randomUUID().toString(), "ns");
+        autoSetupTriggerManager.saveTriggerDetails(AutoSetupTriggerDetails.builder().id(UUID.randomUUID().toString())
+                .step(WorkflowStep.PORTAL.getDetailStep()).status(TriggerStatusEnum.SUCCESS.name()).build(), trigger);
+        String step = autoSetupTriggerManager.getTriggerStatus(trigger.getTriggerId()).getVersion();
+
+        // checkpoint of the existing detail row
+        autoSetupTriggerManager.saveCheckpoint(trigger, WorkflowStep.PORTAL, Map.of("key", "value"));
+        String checkpoint = autoSetupTriggerManager.getTriggerStatus(trigger.getTriggerId()).getVersion();
+
+        // status change within the same modified timestamp
+        trigger.setStatus(TriggerStatusEnum.SUCCESS.name());
+        autoSetupTriggerEntryRepository.updateState(trigger);
+        String finished = autoSetupTriggerManager.getTriggerStatus(trigger.getTriggerId()).getVersion();
+
+        assertEquals(3, Set.of(step, checkpoint, finished).size());
+    }
+
+    @Test
+    void everyAttemptOfAStepIsStoredWithItsTiming() {
+        AutoSetupTriggerEntry trigger = autoSetupTriggerManager.createTrigger(request(), AppActions.CREATE,
+                UUID.randomUUID().toString(), "ns");
+        RetryTemplate retryTemplate = RetryTemplate.builder().maxAttempts(3).noBackoff().build();
+
+        retryTemplate.execute(context -> {
+            AutoSetupTriggerDetails details = AutoSetupTriggerDetails.startStep("VAULT");
+            try {
+                Thread.sleep(20);
+                if (context.getRetryCount() < 2)
+                    throw new ServiceException("vault sealed");
+                details.setStatus(TriggerStatusEnum.SUCCESS.name());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ServiceException e) {
+                details.setStatus(TriggerStatusEnum.FAILED.name());
+                throw e;
+            } finally {
+                autoSetupTriggerManager.saveTriggerDetails(details, trigger);
+            }
+            return null;
+        });
+
+        TriggerTimeline timeline = autoSetupTriggerManager.getTriggerTimeline(trigger.getTriggerId());
+
+        List<TriggerTimelineStep> steps = timeline.getSteps();
+        assertEquals(3, steps.size());
+        for (int i = 0; i < 3; i++) {
+            TriggerTimelineStep step = steps.get(i);
+            assertEquals("VAULT", step.getStep());
+            assertEquals(i + 1, step.getAttempt());
+            assertEquals(i < 2 ? "FAILED" : "SUCCESS", step.getStatus());
+            assertTrue(step.getDurationMs() >= 20, "duration " + step.getDurationMs());
+            assertEquals(step.getDurationMs(),
+                    Duration.between(step.getStartedAt(), step.getFinishedAt()).toMillis(), 1);
+            assertTrue(step.getOffsetMs() >= 0);
+        }
+        assertTrue(steps.get(1).getOffsetMs() >= steps.get(0).getOffsetMs() + steps.get(0).getDurationMs() - 1);
+        assertTrue(timeline.getDurationMs() >= 60);
+    }
+
+    private AutoSetupRequest request() {
+        AutoSetupRequest request = new AutoSetupRequest();
+        Customer customer = new Customer();
+        customer.setOrganizationName("Tenant");
+        customer.setEmail("admin@tenant.example.com");
+        request.setCustomer(customer);
+        CustomerProperties properties = new CustomerProperties();
+        properties.setBpnNumber("BPNL000000000001");
+        properties.setServiceId("service-1");
+        properties.setSubscriptionId("subscription-1");
+        request.setProperties(properties);
+        return request;
+    }
+
+    private Map<String, String> inputConfiguration() {
+        Map<String, String> inputConfiguration = new HashMap<>();
+        for (int i = 0; i < 60; i++)
+            inputConfiguration.put("key" + i, "value-of-key-" + i + "-" + UUID.randomUUID());
+        inputConfiguration.put("selfsigncertificate", "A".repeat(1800));
+        inputConfiguration.put("selfsigncertificateprivatekey", "B".repeat(2400));
+        return inputConfiguration;
+    }
+
+}
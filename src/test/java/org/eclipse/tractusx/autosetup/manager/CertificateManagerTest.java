@@ -27,14 +27,17 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.commons.codec.Resources;
+import org.eclipse.tractusx.autosetup.constant.CertificateKeyAlgorithm;
 import org.eclipse.tractusx.autosetup.constant.ToolType;
 import org.eclipse.tractusx.autosetup.model.Customer;
 import org.eclipse.tractusx.autosetup.model.SelectedTools;
 import org.eclipse.tractusx.autosetup.utility.Certutil;
+import org.eclipse.tractusx.autosetup.utility.KeyPairPool;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -47,6 +50,9 @@ class CertificateManagerTest {
     @Mock
     private AutoSetupTriggerManager autoSetupTriggerManager;
 
+    @Spy
+    private KeyPairPool keyPairPool = new KeyPairPool(CertificateKeyAlgorithm.RSA, 2048, 0, 1, 1000, 0, 1);
+
     @Test
     void createCertificate() {
         Customer customer = Customer.builder()
@@ -0,0 +1,95 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+// Counts executed statements per verb and the characters bound as parameters of writes
+class CountingDataSource {
+
+    static final Map<String, AtomicLong> STATEMENTS = new ConcurrentHashMap<>();
+    static final AtomicLong BOUND_CHARACTERS = new AtomicLong();
+
+    static void reset() {
+        STATEMENTS.clear();
+        BOUND_CHARACTERS.set(0);
+    }
+
+    static long count(String verb) {
+        AtomicLong count = STATEMENTS.get(verb);
+        return count == null ? 0 : count.get();
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof PreparedStatement statement && args != null && args[0] instanceof String sql)
+                return wrap(statement, sql.stripLeading().split("\\s", 2)[0].toUpperCase());
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrap(PreparedStatement statement, String verb) {
+        return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+            if (method.getName().startsWith("execute"))
+                STATEMENTS.computeIfAbsent(verb, key -> new AtomicLong()).incrementAndGet();
+            else if (!"SELECT".equals(verb) && method.getName().startsWith("set") && args != null && args.length > 1
+                    && args[1] instanceof String value)
+                BOUND_CHARACTERS.addAndGet(value.length());
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> handler.invoke(target, method, args));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private interface Handler {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+}
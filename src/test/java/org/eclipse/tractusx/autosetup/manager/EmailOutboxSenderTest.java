@@ -0,0 +1,207 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+
+import org.eclipse.tractusx.autosetup.constant.EmailStatusEnum;
+import org.eclipse.tractusx.autosetup.entity.EmailOutboxEntry;
+import org.eclipse.tractusx.autosetup.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+@SpringBootTest(properties = { "mail.smtp.host=localhost", "mail.smtp.port=3025", "mail.smtp.auth=false",
+        "mail.smtp.starttls.enable=false", "mail.outbox.poll-interval-ms=100", "mail.outbox.backoff-ms=200",
+        "mail.outbox.max-backoff-ms=200" })
+@ActiveProfiles("test")
+class EmailOutboxSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private EmailManager emailManager;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxRepository.deleteAll();
+        ReflectionTestUtils.setField(emailManager, "maxAttempts", 5);
+    }
+
+    @Test
+    void concurrentlyQueuedEmailsAreAllDelivered() {
+        List<CompletableFuture<String>> queued = IntStream.range(0, 20)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> queue("subject-" + i)))
+                .toList();
+        CompletableFuture.allOf(queued.toArray(CompletableFuture[]::new)).join();
+
+        Set<String> expected = IntStream.range(0, 20).mapToObj(i -> "subject-" + i).collect(Collectors.toSet());
+        Set<String> received = await(this::receivedSubjects, subjects -> subjects.containsAll(expected));
+        assertThat(received).isEqualTo(expected);
+        List<EmailOutboxEntry> emails = await(emailOutboxRepository::findAll,
+                all -> all.stream().allMatch(email -> EmailStatusEnum.SENT.name().equals(email.getStatus())));
+        assertThat(emails).hasSize(20).allSatisfy(email -> assertThat(email.getSentAt()).isNotNull());
+    }
+
+    @Test
+    void emailIsRenderedBySenderFromStoredTemplateAndModel() throws Exception {
+        queue("rendered");
+
+        EmailOutboxEntry queued = emailOutboxRepository.findAll().get(0);
+        assertThat(queued.getTemplateName()).isEqualTo("dt_success_template.html");
+        assertThat(queued.getTemplateModel()).contains("Test Org");
+
+        await(this::receivedSubjects, subjects -> subjects.contains("rendered"));
+        assertThat(GreenMailUtil.getBody(greenMail.getReceivedMessages()[0])).contains("Hello Test Org,")
+                .contains("<p>done</p>");
+    }
+
+    @Test
+    void emailIsRetriedUntilTheServerIsBack() {
+        greenMail.stop();
+        queue("delayed");
+
+        EmailOutboxEntry failed = await(this::onlyEmail,
+                email -> email.getAttempts() >= 1 && email.getLastError() != null);
+        assertThat(failed.getStatus()).isIn(EmailStatusEnum.PENDING.name(), EmailStatusEnum.SENDING.name());
+
+        greenMail.start();
+        EmailOutboxEntry sent = await(this::onlyEmail, email -> EmailStatusEnum.SENT.name().equals(email.getStatus()));
+        assertThat(sent.getAttempts()).isGreaterThan(1);
+        assertThat(sent.getLastError()).isNull();
+        assertThat(receivedSubjects()).containsExactly("delayed");
+    }
+
+    @Test
+    void emailIsGivenUpAfterTheLastAttempt() {
+        ReflectionTestUtils.setField(emailManager, "maxAttempts", 1);
+        greenMail.stop();
+        queue("undeliverable");
+
+        EmailOutboxEntry failed = await(this::onlyEmail,
+                email -> EmailStatusEnum.FAILED.name().equals(email.getStatus()));
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isNotBlank();
+    }
+
+    @Test
+    void expiredLeaseOfLastAttemptIsGivenUp() {
+        ReflectionTestUtils.setField(emailManager, "maxAttempts", 2);
+        OffsetDateTime now = OffsetDateTime.now();
+        emailOutboxRepository.save(EmailOutboxEntry.builder().emailId("exhausted").subject("exhausted")
+                .toAddress("customer@example.com").templateName("dt_success_template.html").status(EmailStatusEnum.SENDING.name())
+                .attempts(2).leaseOwner("dead-replica").leaseUntil(now.minusMinutes(1)).nextAttemptAt(now)
+                .createdAt(now).build());
+
+        EmailOutboxEntry failed = await(this::onlyEmail,
+                email -> EmailStatusEnum.FAILED.name().equals(email.getStatus()));
+        assertThat(failed.getAttempts()).isEqualTo(2);
+        assertThat(failed.getLastError()).isNotBlank();
+        assertThat(receivedSubjects()).isEmpty();
+    }
+
+    @Test
+    void finishedEmailsAreDeletedAfterTheRetention() {
+        OffsetDateTime old = OffsetDateTime.now().minusDays(31);
+        emailOutboxRepository.saveAll(List.of(finished("old-sent", EmailStatusEnum.SENT, old),
+                finished("old-failed", EmailStatusEnum.FAILED, old),
+                finished("recent-sent", EmailStatusEnum.SENT, OffsetDateTime.now().minusDays(1))));
+
+        assertThat(emailManager.deleteFinishedEmails()).isEqualTo(2);
+        assertThat(emailOutboxRepository.findAll()).extracting(EmailOutboxEntry::getEmailId)
+                .containsExactly("recent-sent");
+    }
+
+    private EmailOutboxEntry finished(String emailId, EmailStatusEnum status, OffsetDateTime at) {
+        return EmailOutboxEntry.builder().emailId(emailId).subject(emailId).toAddress("customer@example.com")
+                .templateName("dt_success_template.html").status(status.name()).attempts(1).nextAttemptAt(at).createdAt(at)
+                .sentAt(status == EmailStatusEnum.SENT ? at : null).build();
+    }
+
+    private String queue(String subject) {
+        Map<String, Object> emailContent = new HashMap<>();
+        emailContent.put("orgname", "Test Org");
+        emailContent.put("toemail", "customer@example.com");
+        emailContent.put(EmailManager.CCEMAIL, "technical@example.com");
+        emailContent.put("content", "<p>done</p>");
+        return emailManager.sendEmail(emailContent, subject, "dt_success_template.html");
+    }
+
+    private EmailOutboxEntry onlyEmail() {
+        List<EmailOutboxEntry> emails = emailOutboxRepository.findAll();
+        return emails.size() == 1 ? emails.get(0) : null;
+    }
+
+    private Set<String> receivedSubjects() {
+        return Arrays.stream(greenMail.getReceivedMessages()).map(this::subject).collect(Collectors.toSet());
+    }
+
+    private String subject(MimeMessage message) {
+        try {
+            return message.getSubject();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T await(Supplier<T> value, Predicate<T> condition) {
+        long deadline = System.currentTimeMillis() + 15000;
+        while (System.currentTimeMillis() < deadline) {
+            T current = value.get();
+            if (current != null && condition.test(current))
+                return current;
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError("condition not reached within 15 seconds");
+    }
+}
@@ -0,0 +1,80 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationRendererTest {
+
+    @Autowired
+    private NotificationRenderer notificationRenderer;
+
+    @Test
+    void allNotificationTemplatesArePreloaded() {
+        Map<String, ?> templates = (Map<String, ?>) ReflectionTestUtils.getField(notificationRenderer, "templates");
+
+        assertThat(templates.keySet()).containsExactlyInAnyOrder("dt_success_template.html",
+                "edc_success_activate.html", "success.html", "success_activate.html");
+    }
+
+    @Test
+    void resultTableIsRenderedInsideTheTemplate() throws Exception {
+        Map<String, String> dt = new LinkedHashMap<>();
+        dt.put("name", "DT");
+        dt.put("dtregistryUrlWithURI", "https://dt.example.com/api/v3?a=1&b=2");
+        dt.put("idpClientId", null);
+        Map<String, Object> model = new HashMap<>();
+        model.put("orgname", "Test Org");
+        model.put(NotificationRenderer.RESULTS, List.of(dt));
+
+        String html = notificationRenderer.render("dt_success_template.html", model);
+
+        assertThat(html).contains("Hello Test Org,")
+                .containsSubsequence("<table>", "<tr><td colspan=\"2\"><b>DT</b></td></tr>",
+                        "<tr><td>dtregistryUrlWithURI</td><td>https://dt.example.com/api/v3?a=1&amp;b=2</td></tr>",
+                        "<tr><td>idpClientId</td><td></td></tr>", "</table>")
+                .doesNotContain("<td>name</td>");
+    }
+
+    @Test
+    void notificationWithoutResultsHasNoTable() throws Exception {
+        Map<String, Object> model = new HashMap<>();
+        model.put("orgname", "Test Org");
+        model.put("content", "");
+
+        String html = notificationRenderer.render("success.html", model);
+
+        assertThat(html).contains("deployed successfully for Test Org.").doesNotContain("<table>");
+    }
+}
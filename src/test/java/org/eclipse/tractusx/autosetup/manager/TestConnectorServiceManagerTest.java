@@ -0,0 +1,136 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.autosetup.constant.AppNameConstant;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.factory.AppFactory;
+import org.eclipse.tractusx.autosetup.kubeapps.proxy.KubeAppManageProxy;
+import org.eclipse.tractusx.autosetup.mapper.CreatePackageMapper;
+import org.eclipse.tractusx.autosetup.model.Customer;
+import org.eclipse.tractusx.autosetup.model.SelectedTools;
+import org.eclipse.tractusx.autosetup.testservice.proxy.ConnectorTestServiceProxy;
+import org.eclipse.tractusx.autosetup.testservice.proxy.ConnectorTestServiceResponse;
+import org.eclipse.tractusx.autosetup.utility.ReadinessPoller;
+import org.eclipse.tractusx.autosetup.wrapper.model.CreatePackageRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TestConnectorServiceManagerTest {
+
+    private static final String NOT_READY = "{\"installedPackageDetail\":{\"status\":{\"ready\":false,\"userReason\":\"pending-install\"}}}";
+    private static final String READY = "{\"installedPackageDetail\":{\"status\":{\"ready\":true,\"userReason\":\"deployed\"}}}";
+
+    @Mock
+    private AutoSetupTriggerManager autoSetupTriggerManager;
+
+    @Mock
+    private ConnectorTestServiceProxy connectorTestServiceProxy;
+
+    @Mock
+    private KubeAppManageProxy kubeAppManageProxy;
+
+    @Mock
+    private AppFactory appFactory;
+
+    @Mock
+    private CreatePackageMapper createPackageMapper;
+
+    private final ReadinessPoller readinessPoller = new ReadinessPoller();
+
+    private TestConnectorServiceManager testConnectorServiceManager;
+
+    @BeforeEach
+    void setUp() {
+        KubeAppsPackageManagement appManagement = new KubeAppsPackageManagement(createPackageMapper, appFactory,
+                kubeAppManageProxy);
+        testConnectorServiceManager = new TestConnectorServiceManager(autoSetupTriggerManager,
+                connectorTestServiceProxy, appManagement, readinessPoller);
+        ReflectionTestUtils.setField(testConnectorServiceManager, "connectorTestServiceURL", "http://test-service");
+        ReflectionTestUtils.setField(testConnectorServiceManager, "readinessInitialDelay", 100L);
+        ReflectionTestUtils.setField(testConnectorServiceManager, "readinessMaxDelay", 200L);
+        ReflectionTestUtils.setField(testConnectorServiceManager, "readinessDeadline", 5000L);
+
+        when(appFactory.getAppInputRequestwithrequireDetails(eq(AppNameConstant.EDC_CONNECTOR), any()))
+                .thenReturn(CreatePackageRequest.builder().pluginName("helm.packages").pluginVersion("v1alpha1")
+                        .targetCluster("default").targetNamespace("kubeapps").build());
+        ConnectorTestServiceResponse response = new ConnectorTestServiceResponse();
+        response.setMessage("connector is working as expected");
+        when(connectorTestServiceProxy.verifyConnectorTestingThroughTestService(any())).thenReturn(response);
+    }
+
+    @Test
+    void connectorIsTestedAsSoonAsPackageIsReady() {
+        AtomicInteger probes = new AtomicInteger();
+        Set<Thread> probeThreads = ConcurrentHashMap.newKeySet();
+        when(kubeAppManageProxy.getInstallPackageDetails(eq("helm.packages"), eq("v1alpha1"), eq("default"),
+                eq("kubeapps"), eq("test-edcconnector"), any())).thenAnswer(invocation -> {
+                    probeThreads.add(Thread.currentThread());
+                    return probes.incrementAndGet() < 3 ? NOT_READY : READY;
+                });
+
+        Map<String, String> inputData = new HashMap<>();
+        long start = System.currentTimeMillis();
+        testConnectorServiceManager.verifyConnectorTestingThroughTestService(Customer.builder().build(),
+                SelectedTools.builder().label("test").build(), inputData, AutoSetupTriggerEntry.builder().build());
+
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        assertEquals("connector is working as expected", inputData.get("connectorTestResult"));
+        verify(kubeAppManageProxy, times(3)).getInstallPackageDetails(any(), any(), any(), any(), any(), any());
+        // the package is located once, not per probe
+        verify(appFactory, times(1)).getAppInputRequestwithrequireDetails(eq(AppNameConstant.EDC_CONNECTOR), any());
+        verify(connectorTestServiceProxy).verifyConnectorTestingThroughTestService(any());
+        // probed on the step's own thread, like the portal subscription check
+        assertEquals(Set.of(Thread.currentThread()), probeThreads);
+    }
+
+    @Test
+    void connectorIsTestedAfterDeadlineWhenStatusIsUnavailable() {
+        ReflectionTestUtils.setField(testConnectorServiceManager, "readinessDeadline", 300L);
+        when(kubeAppManageProxy.getInstallPackageDetails(any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("kubeapps not reachable"));
+
+        Map<String, String> inputData = new HashMap<>();
+        testConnectorServiceManager.verifyConnectorTestingThroughTestService(Customer.builder().build(),
+                SelectedTools.builder().label("test").build(), inputData, AutoSetupTriggerEntry.builder().build());
+
+        assertEquals("connector is working as expected", inputData.get("connectorTestResult"));
+    }
+}
@@ -0,0 +1,114 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.model.TriggerStatusEvent;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerQueryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class TriggerStatusNotifierTest {
+
+    private final AutoSetupTriggerQueryRepository autoSetupTriggerQueryRepository = Mockito
+            .mock(AutoSetupTriggerQueryRepository.class);
+
+    private final TriggerStatusNotifier triggerStatusNotifier = new TriggerStatusNotifier(
+            autoSetupTriggerQueryRepository, 50);
+
+    @AfterEach
+    void tearDown() {
+        triggerStatusNotifier.shutdown();
+    }
+
+    @Test
+    void publishedStepsReachSubscribersOnce() throws Exception {
+        AutoSetupTriggerEntry trigger = AutoSetupTriggerEntry.builder().triggerId("trigger-1")
+                .status(TriggerStatusEnum.INPROGRESS.name()).modifiedTimestamp(OffsetDateTime.now())
+                .autosetupTriggerDetails(new CopyOnWriteArrayList<>()).build();
+        String initial = TriggerStatusEvent.version(trigger.getStatusVersion());
+        // the poll sees what was published already
+        Mockito.when(autoSetupTriggerQueryRepository.findStatus(Mockito.any()))
+                .thenAnswer(invocation -> Map.of("trigger-1", event(trigger)));
+        BlockingQueue<TriggerStatusEvent> events = new LinkedBlockingQueue<>();
+        Runnable unsubscribe = triggerStatusNotifier.subscribe("trigger-1", initial, events::add);
+
+        trigger.getAutosetupTriggerDetails().add(AutoSetupTriggerDetails.builder().step("EDC").status("SUCCESS").build());
+        trigger.setStatusVersion(1);
+        triggerStatusNotifier.publish(trigger);
+        triggerStatusNotifier.publish(trigger);
+
+        TriggerStatusEvent step = events.poll(2, TimeUnit.SECONDS);
+        assertEquals("EDC", step.getStep());
+        assertEquals(TriggerStatusEvent.version(1), step.getVersion());
+        assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+
+        unsubscribe.run();
+        assertEquals(0, triggerStatusNotifier.getSubscriptionCount());
+    }
+
+    @Test
+    void changesOfOtherReplicasAreFoundByPolling() throws Exception {
+        TriggerStatusEvent current = TriggerStatusEvent.builder().executionId("trigger-2")
+                .status(TriggerStatusEnum.INPROGRESS).version("v1").build();
+        TriggerStatusEvent finished = TriggerStatusEvent.builder().executionId("trigger-2")
+                .status(TriggerStatusEnum.SUCCESS).version("v2").build();
+        Mockito.when(autoSetupTriggerQueryRepository.findStatus(List.of("trigger-2")))
+                .thenReturn(Map.of("trigger-2", current), Map.of("trigger-2", finished));
+        BlockingQueue<TriggerStatusEvent> events = new LinkedBlockingQueue<>();
+
+        triggerStatusNotifier.subscribe("trigger-2", "v1", events::add);
+
+        assertEquals(TriggerStatusEnum.SUCCESS, events.poll(2, TimeUnit.SECONDS).getStatus());
+        assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void unwatchedTriggersAreNotPublished() {
+        triggerStatusNotifier.publish(AutoSetupTriggerEntry.builder().triggerId("trigger-3").status("UNKNOWN").build());
+
+        Mockito.verifyNoInteractions(autoSetupTriggerQueryRepository);
+    }
+
+    private TriggerStatusEvent event(AutoSetupTriggerEntry trigger) {
+        List<AutoSetupTriggerDetails> details = trigger.getAutosetupTriggerDetails();
+        return TriggerStatusEvent.builder().executionId(trigger.getTriggerId())
+                .status(TriggerStatusEnum.valueOf(trigger.getStatus()))
+                .step(details.isEmpty() ? null : details.get(details.size() - 1).getStep())
+                .version(TriggerStatusEvent.version(trigger.getStatusVersion()))
+                .build();
+    }
+
+}
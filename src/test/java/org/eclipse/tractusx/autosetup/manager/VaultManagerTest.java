@@ -21,8 +21,15 @@
 package org.eclipse.tractusx.autosetup.manager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.tractusx.autosetup.constant.ToolType;
@@ -93,4 +100,23 @@ class VaultManagerTest {
         assertEquals(16, mockInputMap.size());
         assertEquals("test", mockInputMap.get("targetCluster"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void retryOnlyWritesSecretsMissingFromPreviousAttempt() {
+        when(vaultManagerProxy.uploadKeyandValue(argThat(url -> url.getPath().endsWith("/dim-client-secret")), any()))
+                .thenThrow(new IllegalStateException("vault sealed")).thenReturn("ok");
+
+        Map<String, String> inputData = new HashMap<>();
+        inputData.put("dimClientSecret", "secret");
+        inputData = vaultManager.uploadKeyandValues(Customer.builder().organizationName("Test").build(),
+                SelectedTools.builder().tool(ToolType.EDC_TRACTUS).label("edc").build(), inputData,
+                AutoSetupTriggerEntry.builder().autosetupTenantName("Test").build());
+
+        verify(vaultManagerProxy, times(6)).uploadKeyandValue(any(), any());
+        for (String secret : List.of(DAPS_CERT, CERTIFICATE_PRIVATE_KEY, "client-secret", ENCRYPTIONKEYS))
+            verify(vaultManagerProxy).uploadKeyandValue(argThat(url -> url.getPath().endsWith("/" + secret)), any());
+        verify(vaultManagerProxy, times(2))
+                .uploadKeyandValue(argThat(url -> url.getPath().endsWith("/dim-client-secret")), any());
+        assertFalse(inputData.containsKey("vaultWrittenSecrets"));
+    }
+}
@@ -0,0 +1,119 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.tractusx.autosetup.entity.AppDetails;
+import org.eclipse.tractusx.autosetup.model.AppDetailsCacheStatistics;
+import org.eclipse.tractusx.autosetup.repository.AppRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AppDetailsCacheTest {
+
+    @Mock
+    private AppRepository appRepository;
+
+    @Test
+    void readsThroughOnceAndCountsHits() {
+        AppDetails edc = app("EDC_CONNECTOR", 0L);
+        when(appRepository.findById("EDC_CONNECTOR")).thenReturn(Optional.of(edc));
+        AppDetailsCache cache = new AppDetailsCache(appRepository, true, 32, 60000);
+
+        assertSame(edc, cache.get("EDC_CONNECTOR").orElseThrow());
+        assertSame(edc, cache.get("EDC_CONNECTOR").orElseThrow());
+        assertSame(edc, cache.get("EDC_CONNECTOR").orElseThrow());
+
+        verify(appRepository, times(1)).findById("EDC_CONNECTOR");
+        AppDetailsCacheStatistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxSize() {
+        when(appRepository.findById("A")).thenReturn(Optional.of(app("A", 0L)));
+        when(appRepository.findById("B")).thenReturn(Optional.of(app("B", 0L)));
+        when(appRepository.findById("C")).thenReturn(Optional.of(app("C", 0L)));
+        AppDetailsCache cache = new AppDetailsCache(appRepository, true, 2, 60000);
+
+        cache.get("A");
+        cache.get("B");
+        cache.get("A");
+        cache.get("C");
+        cache.get("A");
+        cache.get("B");
+
+        assertEquals(2, cache.getStatistics().getSize());
+        verify(appRepository, times(1)).findById("A");
+        verify(appRepository, times(2)).findById("B");
+    }
+
+    @Test
+    void localWriteInvalidatesEntry() {
+        when(appRepository.findById("EDC_CONNECTOR")).thenReturn(Optional.of(app("EDC_CONNECTOR", 0L)),
+                Optional.of(app("EDC_CONNECTOR", 1L)));
+        AppDetailsCache cache = new AppDetailsCache(appRepository, true, 32, 60000);
+
+        cache.get("EDC_CONNECTOR");
+        cache.invalidate("EDC_CONNECTOR");
+
+        assertEquals(1L, cache.get("EDC_CONNECTOR").orElseThrow().getRevision());
+        assertEquals(1, cache.getStatistics().getInvalidations());
+    }
+
+    @Test
+    void revisionChangedByAnotherReplicaInvalidatesEntry() {
+        when(appRepository.findById("EDC_CONNECTOR")).thenReturn(Optional.of(app("EDC_CONNECTOR", 0L)),
+                Optional.of(app("EDC_CONNECTOR", 1L)));
+        when(appRepository.findById("DT_REGISTRY")).thenReturn(Optional.of(app("DT_REGISTRY", 3L)));
+        when(appRepository.findAllRevisions()).thenReturn(
+                List.of(new Object[] { "EDC_CONNECTOR", 0L }, new Object[] { "DT_REGISTRY", 3L }),
+                List.of(new Object[] { "EDC_CONNECTOR", 1L }, new Object[] { "DT_REGISTRY", 3L }));
+        AppDetailsCache cache = new AppDetailsCache(appRepository, true, 32, 0);
+
+        cache.get("EDC_CONNECTOR");
+        cache.get("DT_REGISTRY");
+        assertEquals(1L, cache.get("EDC_CONNECTOR").orElseThrow().getRevision());
+        cache.get("DT_REGISTRY");
+
+        verify(appRepository, times(2)).findById("EDC_CONNECTOR");
+        verify(appRepository, times(1)).findById("DT_REGISTRY");
+        assertEquals(1, cache.getStatistics().getInvalidations());
+    }
+
+    private AppDetails app(String appName, Long revision) {
+        return AppDetails.builder().appName(appName).packageVersion("1.0.0").revision(revision).build();
+    }
+
+}
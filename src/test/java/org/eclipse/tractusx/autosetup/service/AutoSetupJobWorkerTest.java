@@ -0,0 +1,129 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.eclipse.tractusx.autosetup.constant.AppActions;
+import org.eclipse.tractusx.autosetup.constant.JobStatusEnum;
+import org.eclipse.tractusx.autosetup.constant.TriggerStatusEnum;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupJob;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupJobManager;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupTriggerManager;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AutoSetupJobWorkerTest {
+
+    @Mock
+    private AutoSetupJobManager autoSetupJobManager;
+
+    @Mock
+    private AutoSetupWorkflowExecutor autoSetupWorkflowExecutor;
+
+    @Mock
+    private AutoSetupOrchitestratorService autoSetupOrchitestratorService;
+
+    @Mock
+    private AutoSetupTriggerManager autoSetupTriggerManager;
+
+    @Mock
+    private AutoSetupTriggerEntryRepository autoSetupTriggerEntryRepository;
+
+    @InjectMocks
+    private AutoSetupJobWorker autoSetupJobWorker;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.lenient().when(autoSetupJobManager.getMaxAttempts()).thenReturn(3);
+        Mockito.lenient().when(autoSetupWorkflowExecutor.getAvailableCapacity()).thenReturn(1);
+        Mockito.lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(autoSetupWorkflowExecutor).execute(Mockito.anyString(), Mockito.any());
+    }
+
+    @Test
+    void jobOfFailedTriggerIsFailedWithoutRetry() {
+        runJob(1, TriggerStatusEnum.FAILED);
+
+        Mockito.verify(autoSetupJobManager).release("job", JobStatusEnum.FAILED);
+        Mockito.verify(autoSetupTriggerManager, Mockito.never()).saveTriggerUpdate(Mockito.any());
+    }
+
+    @Test
+    void jobOfSuccessfulTriggerIsDone() {
+        runJob(1, TriggerStatusEnum.SUCCESS);
+
+        Mockito.verify(autoSetupJobManager).release("job", JobStatusEnum.DONE);
+    }
+
+    @Test
+    void unfinishedTriggerIsRetriedUntilAttemptsAreExhausted() {
+        runJob(1, TriggerStatusEnum.INPROGRESS);
+        Mockito.verify(autoSetupJobManager).release("job", JobStatusEnum.PENDING);
+
+        AutoSetupTriggerEntry trigger = runJob(3, TriggerStatusEnum.INPROGRESS);
+        Mockito.verify(autoSetupJobManager).release("job", JobStatusEnum.FAILED);
+        Mockito.verify(autoSetupTriggerManager).saveTriggerUpdate(trigger);
+        assertEquals(TriggerStatusEnum.FAILED.name(), trigger.getStatus());
+    }
+
+    @Test
+    void triggerOfExhaustedJobIsFailed() {
+        AutoSetupTriggerEntry trigger = trigger(TriggerStatusEnum.INPROGRESS);
+        Mockito.when(autoSetupJobManager.failExhaustedJobs())
+                .thenReturn(List.of(AutoSetupJob.builder().jobId("job").triggerId("trigger").attempts(3).build()));
+        Mockito.when(autoSetupTriggerEntryRepository.findAllByTriggerId("trigger")).thenReturn(trigger);
+
+        autoSetupJobWorker.pollJobs();
+
+        assertEquals(TriggerStatusEnum.FAILED.name(), trigger.getStatus());
+        Mockito.verify(autoSetupTriggerManager).saveTriggerUpdate(trigger);
+    }
+
+    private AutoSetupTriggerEntry runJob(int attempt, TriggerStatusEnum triggerStatus) {
+        AutoSetupTriggerEntry trigger = trigger(triggerStatus);
+        Mockito.when(autoSetupTriggerEntryRepository.findAllByTriggerId("trigger")).thenReturn(trigger);
+        Mockito.when(autoSetupJobManager.claim(1)).thenReturn(List.of(AutoSetupJob.builder().jobId("job")
+                .triggerId("trigger").action(AppActions.CREATE.name()).attempts(attempt).build()));
+
+        autoSetupJobWorker.pollJobs();
+
+        Mockito.verify(autoSetupOrchitestratorService, Mockito.atLeastOnce()).executeJob("trigger", AppActions.CREATE,
+                null);
+        return trigger;
+    }
+
+    private AutoSetupTriggerEntry trigger(TriggerStatusEnum status) {
+        return AutoSetupTriggerEntry.builder().triggerId("trigger").status(status.name()).build();
+    }
+}
@@ -20,18 +20,23 @@
 package org.eclipse.tractusx.autosetup.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import org.eclipse.tractusx.autosetup.exception.WorkflowCapacityException;
 import org.eclipse.tractusx.autosetup.kubeapps.proxy.KubeAppManageProxy;
 import org.eclipse.tractusx.autosetup.mapper.AutoSetupRequestMapper;
 import org.eclipse.tractusx.autosetup.model.AutoSetupRequest;
 import org.eclipse.tractusx.autosetup.portal.proxy.PortalIntegrationProxy;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerEntryRepository;
 import org.eclipse.tractusx.autosetup.utility.KeyCloakTokenProxyUtitlity;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -43,6 +48,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @ActiveProfiles("test")
 class AutoSetupOrchitestratorServiceTest {
 
+    private static final String REQUEST = "{\n" +
+            "    \"customer\": {\n" +
+            "        \"organizationName\": \"Verul1\",\n" +
+            "        \"country\": \"IN\",\n" +
+            "        \"state\": \"GN\",\n" +
+            "        \"city\": \"BL\",\n" +
+            "        \"email\": \"sachin.argade@t-systems.com\"\n" +
+            "    },\n" +
+            "    \"properties\": {\n" +
+            "        \"bpnNumber\": \"BPN12345611\",\n" +
+            "        \"role\": \"recycler\",\n" +
+            "        \"subscriptionId\": \"DAS-D234\",\n" +
+            "        \"serviceId\": \"12345\"\n" +
+            "    }\n" +
+            "}";
+
     //@Spy
     @Autowired
     private AutoSetupOrchitestratorService autoSetupOrchitestratorService;
@@ -58,27 +79,30 @@ class AutoSetupOrchitestratorServiceTest {
     
     @MockBean
     private KeyCloakTokenProxyUtitlity keyCloakTokenProxyUtitlity;
-    
+
+    @SpyBean
+    private AutoSetupWorkflowExecutor autoSetupWorkflowExecutor;
+
+    @Autowired
+    private AutoSetupTriggerEntryRepository autoSetupTriggerEntryRepository;
+
+    @Test
+    void rejectedCreateLeavesNoTrigger() throws JsonProcessingException {
+        AutoSetupRequest autoSetupRequest = new ObjectMapper().readValue(REQUEST, AutoSetupRequest.class);
+        Mockito.doThrow(new WorkflowCapacityException("Workflow capacity exhausted", 60))
+                .when(autoSetupWorkflowExecutor).execute(Mockito.anyString(), Mockito.any(Runnable.class));
+        long triggers = autoSetupTriggerEntryRepository.count();
+
+        assertThrows(WorkflowCapacityException.class, () -> autoSetupOrchitestratorService.createPackage(autoSetupRequest));
+
+        assertThat(autoSetupTriggerEntryRepository.count()).isEqualTo(triggers);
+    }
+
     @Test
     void createPackage() {
 
-        String json = "{\n" +
-                "    \"customer\": {\n" +
-                "        \"organizationName\": \"Verul1\",\n" +
-                "        \"country\": \"IN\",\n" +
-                "        \"state\": \"GN\",\n" +
-                "        \"city\": \"BL\",\n" +
-                "        \"email\": \"sachin.argade@t-systems.com\"\n" +
-                "    },\n" +
-                "    \"properties\": {\n" +
-                "        \"bpnNumber\": \"BPN12345611\",\n" +
-                "        \"role\": \"recycler\",\n" +
-                "        \"subscriptionId\": \"DAS-D234\",\n" +
-                "        \"serviceId\": \"12345\"\n" +
-                "    }\n" +
-                "}";
         try {
-            AutoSetupRequest autoSetupRequest = new ObjectMapper().readValue(json,AutoSetupRequest.class);
+            AutoSetupRequest autoSetupRequest = new ObjectMapper().readValue(REQUEST,AutoSetupRequest.class);
             String uuid = autoSetupOrchitestratorService.createPackage(autoSetupRequest);
             assertThat(uuid).isNotEmpty();
 
@@ -0,0 +1,116 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.autosetup.constant.WorkflowExecutorProperty;
+import org.eclipse.tractusx.autosetup.constant.WorkflowOverflowPolicy;
+import org.eclipse.tractusx.autosetup.exception.WorkflowCapacityException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AutoSetupWorkflowExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private AutoSetupWorkflowExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.stop();
+    }
+
+    @Test
+    void rejectsWhenWorkersAndQueueAreBusy() throws InterruptedException {
+        executor = newExecutor(WorkflowOverflowPolicy.REJECT);
+        CountDownLatch started = new CountDownLatch(1);
+
+        executor.execute("running", () -> {
+            started.countDown();
+            await();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute("queued", this::await);
+
+        assertThrows(WorkflowCapacityException.class, () -> executor.execute("rejected", this::await));
+        assertThat(executor.getStatistics().getActive()).isEqualTo(1);
+        assertThat(executor.getStatistics().getQueued()).isEqualTo(1);
+        assertThat(executor.getStatistics().getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void defersAndStartsWhenCapacityIsFree() throws InterruptedException {
+        executor = newExecutor(WorkflowOverflowPolicy.DEFER);
+        CountDownLatch deferredDone = new CountDownLatch(1);
+
+        executor.execute("running", this::await);
+        executor.execute("queued", this::await);
+        executor.execute("deferred", deferredDone::countDown);
+
+        assertThat(executor.isDeferred("deferred")).isTrue();
+        assertThrows(WorkflowCapacityException.class, () -> executor.execute("rejected", this::await));
+
+        release.countDown();
+
+        assertThat(deferredDone.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.isDeferred("deferred")).isFalse();
+    }
+
+    @Test
+    void drainsQueuedWorkflowsOnStop() {
+        executor = newExecutor(WorkflowOverflowPolicy.REJECT);
+        CountDownLatch done = new CountDownLatch(2);
+
+        executor.execute("first", done::countDown);
+        executor.execute("second", done::countDown);
+        executor.stop();
+
+        assertThat(done.getCount()).isZero();
+        assertThat(executor.getStatistics().getCompleted()).isEqualTo(2);
+        assertThrows(WorkflowCapacityException.class, () -> executor.execute("late", done::countDown));
+    }
+
+    private AutoSetupWorkflowExecutor newExecutor(WorkflowOverflowPolicy policy) {
+        WorkflowExecutorProperty property = new WorkflowExecutorProperty();
+        property.setConcurrency(1);
+        property.setQueueCapacity(1);
+        property.setDeferredCapacity(1);
+        property.setOverflowPolicy(policy);
+        property.setDrainTimeoutSeconds(5);
+        AutoSetupWorkflowExecutor workflowExecutor = new AutoSetupWorkflowExecutor(property);
+        workflowExecutor.start();
+        return workflowExecutor;
+    }
+
+    private void await() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
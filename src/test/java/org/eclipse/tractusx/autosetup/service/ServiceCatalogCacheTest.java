@@ -0,0 +1,128 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.tractusx.autosetup.constant.ToolType;
+import org.eclipse.tractusx.autosetup.entity.AppServiceCatalog;
+import org.eclipse.tractusx.autosetup.entity.AppServiceCatalogAndCustomerMapping;
+import org.eclipse.tractusx.autosetup.model.SelectedTools;
+import org.eclipse.tractusx.autosetup.model.ServiceCatalogEntry;
+import org.eclipse.tractusx.autosetup.repository.AppServiceCatalogAndCustomerMappingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ServiceCatalogCacheTest {
+
+    private static final String TOOLS = "[{\"tool\":\"SDE_WITH_EDC_TRACTUS\",\"label\":\"sdeedc\"}]";
+
+    @Mock
+    private AppServiceCatalogAndCustomerMappingRepository mappingRepository;
+
+    @Test
+    void servesLookupsFromOneLoad() {
+        when(mappingRepository.findAll()).thenReturn(List.of(mapping("S1", "C1", TOOLS), mapping("S2", "C1", TOOLS)));
+        ServiceCatalogCache cache = new ServiceCatalogCache(mappingRepository, true, 60000);
+
+        assertEquals("C1", cache.findByServiceId("S1").get(0).canonicalServiceId());
+        assertEquals(1, cache.findByServiceId("S2").size());
+        assertEquals(ToolType.SDE_WITH_EDC_TRACTUS, cache.findByServiceId("S1").get(0).selectedTools().get(0).getTool());
+
+        verify(mappingRepository, times(1)).findAll();
+        verify(mappingRepository, never()).findAllByServiceIdIn(List.of("S1"));
+        assertEquals(3, cache.getStatistics().getHits());
+        assertEquals(2, cache.getStatistics().getServiceIds());
+    }
+
+    @Test
+    void everyExecutionGetsItsOwnTools() {
+        when(mappingRepository.findAll()).thenReturn(List.of(mapping("S1", "C1", TOOLS)));
+        ServiceCatalogCache cache = new ServiceCatalogCache(mappingRepository, true, 60000);
+
+        ServiceCatalogEntry entry = cache.findByServiceId("S1").get(0);
+        SelectedTools first = entry.selectedTools().get(0);
+        first.setLabel("edc-" + first.getLabel());
+        SelectedTools second = cache.findByServiceId("S1").get(0).selectedTools().get(0);
+
+        assertNotSame(first, second);
+        assertEquals("sdeedc", second.getLabel());
+        assertThrows(UnsupportedOperationException.class, () -> entry.selectedTools().add(second));
+        assertThrows(UnsupportedOperationException.class, () -> cache.findByServiceId("S1").add(entry));
+    }
+
+    @Test
+    void unknownServiceFallsBackToDatabaseAndReloads() {
+        when(mappingRepository.findAll()).thenReturn(List.of(mapping("S1", "C1", TOOLS)),
+                List.of(mapping("S1", "C1", TOOLS), mapping("S3", "C1", TOOLS)));
+        when(mappingRepository.findAllByServiceIdIn(List.of("S3"))).thenReturn(List.of(mapping("S3", "C1", TOOLS)));
+        when(mappingRepository.findAllByServiceIdIn(List.of("S4"))).thenReturn(List.of());
+        ServiceCatalogCache cache = new ServiceCatalogCache(mappingRepository, true, 60000);
+
+        assertEquals(1, cache.findByServiceId("S3").size());
+        assertEquals(1, cache.findByServiceId("S3").size());
+        assertTrue(cache.findByServiceId("S4").isEmpty());
+
+        verify(mappingRepository, times(1)).findAllByServiceIdIn(List.of("S3"));
+        verify(mappingRepository, times(2)).findAll();
+        assertEquals(2, cache.getStatistics().getMisses());
+    }
+
+    @Test
+    void failedPeriodicReloadKeepsPreviousCatalog() {
+        when(mappingRepository.findAll()).thenReturn(List.of(mapping("S1", "C1", TOOLS)))
+                .thenThrow(new IllegalStateException("database down"));
+        ServiceCatalogCache cache = new ServiceCatalogCache(mappingRepository, true, 0);
+
+        cache.findByServiceId("S1");
+
+        assertEquals(1, cache.findByServiceId("S1").size());
+        assertEquals(1, cache.getStatistics().getReloads());
+    }
+
+    @Test
+    void unparsableToolsGiveNoTools() {
+        when(mappingRepository.findAll()).thenReturn(List.of(mapping("S1", "C1", "not json")));
+        ServiceCatalogCache cache = new ServiceCatalogCache(mappingRepository, true, 60000);
+
+        assertTrue(cache.findByServiceId("S1").get(0).selectedTools().isEmpty());
+    }
+
+    private AppServiceCatalogAndCustomerMapping mapping(String serviceId, String canonicalServiceId, String tools) {
+        AppServiceCatalog catalog = AppServiceCatalog.builder().canonicalServiceId(canonicalServiceId)
+                .name(canonicalServiceId).serviceTools(tools).build();
+        return AppServiceCatalogAndCustomerMapping.builder().customer("default").serviceId(serviceId)
+                .serviceCatalog(catalog).build();
+    }
+
+}
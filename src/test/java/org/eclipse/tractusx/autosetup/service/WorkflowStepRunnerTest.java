@@ -0,0 +1,356 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.autosetup.constant.WorkflowExecutorProperty;
+import org.eclipse.tractusx.autosetup.constant.WorkflowStep;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerDetails;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.exception.ServiceException;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupJobManager;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupTriggerManager;
+import org.eclipse.tractusx.autosetup.manager.TriggerStatusNotifier;
+import org.eclipse.tractusx.autosetup.mapper.AutoSetupRequestMapper;
+import org.eclipse.tractusx.autosetup.mapper.AutoSetupTriggerMapper;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerDetailsRepository;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerEntryRepository;
+import org.eclipse.tractusx.autosetup.repository.AutoSetupTriggerQueryRepository;
+import org.eclipse.tractusx.autosetup.utility.AutoSetupMetrics;
+import org.eclipse.tractusx.autosetup.utility.AutoSetupTracing;
+import org.eclipse.tractusx.autosetup.utility.TriggerLocks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+
+@ExtendWith(MockitoExtension.class)
+class WorkflowStepRunnerTest {
+
+    @Mock
+    private AutoSetupTriggerEntryRepository autoSetupTriggerEntryRepository;
+
+    @Mock
+    private AutoSetupTriggerDetailsRepository autoSetupTriggerDetailsRepository;
+
+    @Mock
+    private AutoSetupRequestMapper autoSetupRequestMapper;
+
+    @Mock
+    private AutoSetupTriggerMapper autoSetupTriggerMapper;
+
+    @Mock
+    private AutoSetupJobManager autoSetupJobManager;
+
+    @Mock
+    private AutoSetupTriggerQueryRepository autoSetupTriggerQueryRepository;
+
+    @Mock
+    private TriggerStatusNotifier triggerStatusNotifier;
+
+    private AutoSetupTriggerManager autoSetupTriggerManager;
+
+    private WorkflowStepRunner workflowStepRunner;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AutoSetupMetrics autoSetupMetrics = new AutoSetupMetrics(meterRegistry);
+
+    private final AutoSetupTracing autoSetupTracing = new AutoSetupTracing(Tracer.NOOP);
+
+    @BeforeEach
+    void setUp() {
+        autoSetupTriggerManager = new AutoSetupTriggerManager(autoSetupTriggerEntryRepository,
+                autoSetupTriggerDetailsRepository, autoSetupRequestMapper, autoSetupTriggerMapper, autoSetupJobManager,
+                autoSetupTriggerQueryRepository, triggerStatusNotifier);
+        workflowStepRunner = new WorkflowStepRunner(autoSetupTriggerManager, autoSetupMetrics, autoSetupTracing);
+    }
+
+    @Test
+    void completedStepIsNotExecutedAgainOnResume() {
+        AutoSetupTriggerEntry trigger = AutoSetupTriggerEntry.builder().triggerId("trigger").triggerType("CREATE")
+                .build();
+        Map<String, String> inputConfiguration = new ConcurrentHashMap<>();
+        AtomicInteger keyGenerations = new AtomicInteger();
+
+        workflowStepRunner.execute(WorkflowStep.CERTIFICATE, trigger, inputConfiguration, () -> {
+            keyGenerations.incrementAndGet();
+            trigger.addTriggerDetails(AutoSetupTriggerDetails.builder().id("1").step("CERTIFICATE").build());
+            return Map.of("selfsigncertificate", "cert");
+        });
+        workflowStepRunner.execute(WorkflowStep.CERTIFICATE, trigger, inputConfiguration, () -> {
+            keyGenerations.incrementAndGet();
+            return Map.of();
+        });
+
+        assertEquals(1, keyGenerations.get());
+        assertEquals("cert", inputConfiguration.get("selfsigncertificate"));
+        assertEquals(1, trigger.getAutosetupTriggerDetails().size());
+        assertTrue(trigger.getAutosetupTriggerDetails().get(0).getCheckpoint());
+        assertTrue(autoSetupTriggerManager.isStepCompleted(trigger, WorkflowStep.CERTIFICATE));
+        Mockito.verify(autoSetupTriggerEntryRepository).updateInputConfiguration(trigger);
+        Mockito.verify(autoSetupTriggerDetailsRepository).markCheckpoint("1");
+        Mockito.verify(autoSetupTriggerEntryRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void failedStepIsRetriedAfterCheckpointsAreCleared() {
+        AutoSetupTriggerEntry trigger = AutoSetupTriggerEntry.builder().triggerId("trigger").triggerType("CREATE")
+                .build();
+        Map<String, String> inputConfiguration = new ConcurrentHashMap<>();
+
+        workflowStepRunner.execute(WorkflowStep.PORTAL, trigger, inputConfiguration, () -> inputConfiguration);
+        assertThrows(ServiceException.class, () -> workflowStepRunner.execute(WorkflowStep.VAULT, trigger,
+                inputConfiguration, () -> {
+                    throw new ServiceException("vault not reachable");
+                }));
+
+        assertTrue(autoSetupTriggerManager.isStepCompleted(trigger, WorkflowStep.PORTAL));
+        assertEquals(false, autoSetupTriggerManager.isStepCompleted(trigger, WorkflowStep.VAULT));
+
+        autoSetupTriggerManager.clearCheckpoints(trigger);
+        assertEquals(false, autoSetupTriggerManager.hasCheckpoint(trigger));
+    }
+
+    @Test
+    void stepDurationsAreRecordedPerStepAndOutcome() {
+        AutoSetupTriggerEntry trigger = AutoSetupTriggerEntry.builder().triggerId("trigger").triggerType("CREATE")
+                .build();
+        WorkflowGraph workflowGraph = new WorkflowGraph()
+                .step(WorkflowStep.PORTAL, input -> input)
+                .step(WorkflowStep.VAULT, input -> {
+                    throw new ServiceException("vault not reachable");
+                });
+
+        assertThrows(ServiceException.class,
+                () -> workflowStepRunner.run(workflowGraph, trigger, new ConcurrentHashMap<>()));
+
+        assertEquals(1, meterRegistry.get(AutoSetupMetrics.WORKFLOW_STEP)
+                .tags("step", WorkflowStep.PORTAL.getDetailStep(), "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get(AutoSetupMetrics.WORKFLOW_STEP)
+                .tags("step", WorkflowStep.VAULT.getDetailStep(), "outcome", "failure").timer().count());
+        assertEquals(1, meterRegistry.get(AutoSetupMetrics.WORKFLOW).tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void stepsDependOnProducersOfTheirInputs() {
+        WorkflowGraph workflowGraph = sdeWithEdcGraph(Map.of());
+
+        assertEquals(Set.of(), workflowGraph.getDependencies(WorkflowStep.CERTIFICATE));
+        assertEquals(Set.of(), workflowGraph.getDependencies(WorkflowStep.DT));
+        assertEquals(Set.of(WorkflowStep.PORTAL, WorkflowStep.CERTIFICATE),
+                workflowGraph.getDependencies(WorkflowStep.VAULT));
+        assertEquals(Set.of(WorkflowStep.EDC_PACKAGE, WorkflowStep.CONNECTOR_REGISTRATION),
+                workflowGraph.getDependencies(WorkflowStep.CONNECTOR_TEST));
+        assertEquals(Set.of(WorkflowStep.EDC_PACKAGE), new WorkflowGraph().step(WorkflowStep.EDC_PACKAGE, input -> input)
+                .step(WorkflowStep.CONNECTOR_TEST, input -> input).getDependencies(WorkflowStep.CONNECTOR_TEST));
+        assertEquals(Set.of(WorkflowStep.PORTAL, WorkflowStep.EDC_PACKAGE, WorkflowStep.DT),
+                workflowGraph.getDependencies(WorkflowStep.SDE));
+    }
+
+    @Test
+    void independentStepsRunConcurrentlyAndCriticalPathIsReported() {
+        WorkflowStepRunner parallelRunner = parallelRunner();
+        AutoSetupTriggerEntry trigger = AutoSetupTriggerEntry.builder().triggerId("trigger").triggerType("CREATE")
+                .build();
+        Map<String, String> inputConfiguration = new ConcurrentHashMap<>();
+        CountDownLatch dtAndPortalRunning = new CountDownLatch(2);
+
+        try {
+            parallelRunner.run(sdeWithEdcGraph(Map.of(WorkflowStep.PORTAL, dtAndPortalRunning, WorkflowStep.DT,
+                    dtAndPortalRunning)), trigger, inputConfiguration);
+        } finally {
+            parallelRunner.shutdown();
+        }
+
+        assertEquals("SDE", inputConfiguration.get("sdeBackEndUrl"));
+        assertEquals("DT", inputConfiguration.get("dtregistryUrl"));
+        for (WorkflowStep step : WorkflowStep.values())
+            assertTrue(autoSetupTriggerManager.isStepCompleted(trigger, step), step + " completed");
+
+        String criticalPath = trigger.getCriticalPath();
+        assertTrue(criticalPath.contains("-> EDC_PACKAGE"), criticalPath);
+        assertTrue(criticalPath.contains("-> VAULT"), criticalPath);
+        assertTrue(criticalPath.contains("-> SDE"), criticalPath);
+        Mockito.verify(autoSetupTriggerEntryRepository).updateCriticalPath("trigger", criticalPath);
+        assertEquals(WorkflowStep.values().length, trigger.getAutosetupTriggerDetails().size());
+    }
+
+    @Test
+    void keysRemovedByAStepAreNotPersisted() {
+        AutoSetupTriggerEntry trigger = AutoSetupTriggerEntry.builder().triggerId("trigger").triggerType("CREATE")
+                .build();
+        Map<String, String> inputConfiguration = new ConcurrentHashMap<>();
+        List<Map<String, String>> persisted = new ArrayList<>();
+        Mockito.when(autoSetupTriggerMapper.fromMaptoStr(Mockito.any())).thenAnswer(invocation -> {
+            persisted.add(new HashMap<>(invocation.<List<Map<String, String>>>getArgument(0).get(0)));
+            return "";
+        });
+        WorkflowGraph workflowGraph = new WorkflowGraph()
+                .step(WorkflowStep.CERTIFICATE, input -> Map.of("selfsigncertificate", "cert",
+                        "selfsigncertificateprivatekey", "private key"))
+                .step(WorkflowStep.CONNECTOR_REGISTRATION, input -> {
+                    input.put("connectorId", "connector");
+                    input.remove("selfsigncertificateprivatekey");
+                    input.remove("selfsigncertificate");
+                    return input;
+                });
+
+        workflowStepRunner.run(workflowGraph, trigger, inputConfiguration);
+
+        assertEquals(Map.of("connectorId", "connector"), inputConfiguration);
+        assertEquals(2, persisted.size());
+        assertTrue(persisted.get(0).containsKey("selfsigncertificateprivatekey"));
+        assertEquals(Map.of("connectorId", "connector"), persisted.get(1));
+    }
+
+    @Test
+    void failedOptionalStepKeepsItsResult() {
+        AutoSetupTriggerEntry trigger = AutoSetupTriggerEntry.builder().triggerId("trigger").triggerType("CREATE")
+                .build();
+        Map<String, String> inputConfiguration = new ConcurrentHashMap<>();
+        WorkflowGraph workflowGraph = new WorkflowGraph()
+                .optionalStep(WorkflowStep.CONNECTOR_TEST, input -> {
+                    input.put("testServiceURL", "http://test-service");
+                    input.put("connectorTestResult", "The automatic test wasn't successfully completed");
+                    throw new ServiceException("connector test failed");
+                })
+                .step(WorkflowStep.DT, input -> Map.of("dtregistryUrl", "DT"));
+
+        workflowStepRunner.run(workflowGraph, trigger, inputConfiguration);
+
+        assertEquals("http://test-service", inputConfiguration.get("testServiceURL"));
+        assertEquals("The automatic test wasn't successfully completed", inputConfiguration.get("connectorTestResult"));
+        assertEquals("DT", inputConfiguration.get("dtregistryUrl"));
+        assertFalse(autoSetupTriggerManager.isStepCompleted(trigger, WorkflowStep.CONNECTOR_TEST));
+    }
+
+    @Test
+    void checkpointIsWrittenUnderTheTriggerLockInsteadOfItsMonitor() {
+        AutoSetupTriggerEntry trigger = AutoSetupTriggerEntry.builder().triggerId("trigger").triggerType("CREATE")
+                .build();
+        List<Boolean> heldMonitor = new ArrayList<>();
+        List<Boolean> heldLock = new ArrayList<>();
+        Mockito.when(autoSetupTriggerEntryRepository.updateInputConfiguration(trigger)).thenAnswer(invocation -> {
+            heldMonitor.add(Thread.holdsLock(trigger));
+            heldLock.add(TriggerLocks.of(trigger).isHeldByCurrentThread());
+            return 1;
+        });
+
+        workflowStepRunner.execute(WorkflowStep.DT, trigger, new ConcurrentHashMap<>(),
+                () -> Map.of("dtregistryUrl", "DT"));
+
+        assertEquals(List.of(false), heldMonitor);
+        assertEquals(List.of(true), heldLock);
+        assertFalse(TriggerLocks.of(trigger).isLocked());
+    }
+
+    @Test
+    void failedStepStopsDependentSteps() {
+        WorkflowStepRunner parallelRunner = parallelRunner();
+        AutoSetupTriggerEntry trigger = AutoSetupTriggerEntry.builder().triggerId("trigger").triggerType("CREATE")
+                .build();
+        AtomicInteger sdeExecutions = new AtomicInteger();
+        WorkflowGraph workflowGraph = new WorkflowGraph()
+                .step(WorkflowStep.EDC_PACKAGE, input -> {
+                    throw new ServiceException("kubeapps not reachable");
+                })
+                .step(WorkflowStep.DT, input -> Map.of("dtregistryUrl", "DT"))
+                .step(WorkflowStep.SDE, input -> {
+                    sdeExecutions.incrementAndGet();
+                    return input;
+                });
+
+        try {
+            ServiceException exception = assertThrows(ServiceException.class,
+                    () -> parallelRunner.run(workflowGraph, trigger, new ConcurrentHashMap<>()));
+            assertEquals("kubeapps not reachable", exception.getMessage());
+        } finally {
+            parallelRunner.shutdown();
+        }
+
+        assertEquals(0, sdeExecutions.get());
+        assertFalse(autoSetupTriggerManager.isStepCompleted(trigger, WorkflowStep.EDC_PACKAGE));
+        assertFalse(autoSetupTriggerManager.isStepCompleted(trigger, WorkflowStep.SDE));
+    }
+
+    private WorkflowStepRunner parallelRunner() {
+        return new WorkflowStepRunner(autoSetupTriggerManager, autoSetupMetrics, autoSetupTracing,
+                new WorkflowExecutorProperty(), Optional.empty());
+    }
+
+    // Each step writes its declared outputs, steps given a latch wait until all of them run at the same time and SDE
+    // takes longest, so it ends the critical path
+    private static WorkflowGraph sdeWithEdcGraph(Map<WorkflowStep, CountDownLatch> concurrentSteps) {
+        WorkflowGraph workflowGraph = new WorkflowGraph();
+        for (WorkflowStep step : WorkflowStep.values()) {
+            workflowGraph.step(step, input -> {
+                for (String key : step.getInputs())
+                    if (workflowGraph.getSteps().stream().anyMatch(other -> other.getOutputs().contains(key)))
+                        assertTrue(input.containsKey(key), step + " started before " + key + " was available");
+
+                CountDownLatch latch = concurrentSteps.get(step);
+                if (latch != null) {
+                    latch.countDown();
+                    assertTrue(await(latch), step + " did not run concurrently");
+                }
+                if (step == WorkflowStep.SDE)
+                    assertFalse(await(new CountDownLatch(1), 200), "SDE is the slowest step");
+                step.getOutputs().forEach(key -> input.put(key, step.name()));
+                return input;
+            });
+        }
+        return workflowGraph;
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        return await(latch, 5000);
+    }
+
+    private static boolean await(CountDownLatch latch, long millis) {
+        try {
+            return latch.await(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.autosetup.constant.WorkflowStep;
+import org.eclipse.tractusx.autosetup.entity.AutoSetupTriggerEntry;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupTriggerManager;
+import org.eclipse.tractusx.autosetup.model.VaultSecreteRequest;
+import org.eclipse.tractusx.autosetup.service.AutoSetupWorkflowExecutor;
+import org.eclipse.tractusx.autosetup.service.WorkflowGraph;
+import org.eclipse.tractusx.autosetup.service.WorkflowStepRunner;
+import org.eclipse.tractusx.autosetup.vault.proxy.VaultAppManageProxy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(metrics = false)
+@ActiveProfiles("test")
+class AutoSetupTracingTest {
+
+    private static final String TRIGGER_ID = "tracing-trigger";
+
+    @MockBean
+    private AutoSetupTriggerManager autoSetupTriggerManager;
+
+    @Autowired
+    private AutoSetupWorkflowExecutor autoSetupWorkflowExecutor;
+
+    @Autowired
+    private WorkflowStepRunner workflowStepRunner;
+
+    @Autowired
+    private VaultAppManageProxy vaultAppManageProxy;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    private SdkTracerProvider sdkTracerProvider;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private Map<String, String> receivedTraceparents;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter.reset();
+        receivedTraceparents.clear();
+    }
+
+    @Test
+    void workflowStepsAndDownstreamCallsShareTheTraceOfTheirTrigger() {
+        AutoSetupTriggerEntry trigger = AutoSetupTriggerEntry.builder().triggerId(TRIGGER_ID).triggerType("CREATE")
+                .build();
+        URI vault = URI.create("http://localhost:" + port + "/vault/secret");
+
+        // Both steps have no inputs, so they run concurrently on the step executor
+        WorkflowGraph graph = new WorkflowGraph().step(WorkflowStep.PORTAL, input -> Map.of())
+                .step(WorkflowStep.CERTIFICATE, input -> {
+                    vaultAppManageProxy.uploadKeyandValue(vault,
+                            VaultSecreteRequest.builder().data(Map.of("content", "cert")).build());
+                    return Map.of();
+                });
+
+        Span request = tracer.nextSpan().name("submit").start();
+        try (Tracer.SpanInScope scope = tracer.withSpan(request)) {
+            autoSetupWorkflowExecutor.execute(TRIGGER_ID,
+                    () -> workflowStepRunner.run(graph, trigger, new ConcurrentHashMap<>()));
+        } finally {
+            request.end();
+        }
+
+        SpanData workflow = awaitSpan(AutoSetupTracing.WORKFLOW_SPAN);
+        assertEquals(TRIGGER_ID, workflow.getAttributes().asMap().entrySet().stream()
+                .filter(entry -> entry.getKey().getKey().equals(AutoSetupTracing.TRIGGER_ID)).findFirst()
+                .orElseThrow().getValue());
+        assertFalse(workflow.getParentSpanContext().isValid(), "every trigger starts its own trace");
+        assertEquals(request.context().spanId(), workflow.getLinks().get(0).getSpanContext().getSpanId());
+
+        SpanData portal = findSpan(WorkflowStep.PORTAL.getDetailStep());
+        SpanData certificate = findSpan(WorkflowStep.CERTIFICATE.getDetailStep());
+        for (SpanData step : List.of(portal, certificate)) {
+            assertEquals(workflow.getTraceId(), step.getTraceId());
+            assertEquals(workflow.getSpanId(), step.getParentSpanId());
+        }
+
+        SpanData vaultCall = spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getKind() == SpanKind.CLIENT)
+                .filter(span -> span.getParentSpanId().equals(certificate.getSpanId())).findFirst().orElse(null);
+        assertNotNull(vaultCall, "the Feign call is a child of the step that made it");
+
+        String traceparent = receivedTraceparents.get("/vault/secret");
+        assertNotNull(traceparent);
+        assertTrue(traceparent.contains(workflow.getTraceId()), "the trace context is sent downstream");
+    }
+
+    private SpanData awaitSpan(String name) {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (System.currentTimeMillis() < deadline) {
+            sdkTracerProvider.forceFlush().join(1, TimeUnit.SECONDS);
+            if (spanExporter.getFinishedSpanItems().stream().anyMatch(span -> span.getName().equals(name)))
+                return findSpan(name);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new AssertionError("span " + name + " was not exported");
+    }
+
+    private SpanData findSpan(String name) {
+        return spanExporter.getFinishedSpanItems().stream().filter(span -> span.getName().equals(name)).findFirst()
+                .orElseThrow(() -> new AssertionError("span " + name + " was not exported"));
+    }
+
+    @TestConfiguration
+    static class InMemoryTracingConfiguration {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+
+        @Bean
+        Map<String, String> receivedTraceparents() {
+            return new ConcurrentHashMap<>();
+        }
+
+        // Answers in front of the security filters, the Vault client always sends its bearer token
+        @Bean
+        FilterRegistrationBean<Filter> vaultStub(Map<String, String> receivedTraceparents) {
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>(
+                    (request, response, chain) -> {
+                        HttpServletRequest httpRequest = (HttpServletRequest) request;
+                        receivedTraceparents.put(httpRequest.getRequestURI(), httpRequest.getHeader("traceparent"));
+                        response.setContentType("application/json");
+                        response.getWriter().write("{}");
+                    });
+            registration.addUrlPatterns("/vault/*");
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.eclipse.tractusx.autosetup.config.FeignHttpClientConfiguration;
+import org.eclipse.tractusx.autosetup.model.HttpConnectionPoolStatistics;
+import org.eclipse.tractusx.autosetup.model.HttpRoutePoolStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.sun.net.httpserver.HttpServer;
+
+class HttpConnectionPoolMonitorTest {
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/status", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write("{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, compressed.size());
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(compressed.toByteArray());
+            }
+        });
+        server.start();
+
+        connectionManager = PoolingHttpClientConnectionManagerBuilder.create().setMaxConnTotal(10)
+                .setMaxConnPerRoute(4).build();
+        HttpClientBuilder builder = HttpClients.custom().setConnectionManager(connectionManager);
+        new FeignHttpClientConfiguration().keepAliveHttpClientBuilderCustomizer(30, 60).customize(builder);
+        httpClient = builder.build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void reusesPooledConnectionAndReportsRouteUtilisation() throws Exception {
+        String url = "http://localhost:" + server.getAddress().getPort() + "/status";
+
+        for (int i = 0; i < 3; i++) {
+            String body = httpClient.execute(new HttpGet(url), response -> EntityUtils.toString(response.getEntity()));
+            assertEquals("{\"status\":\"ok\"}", body);
+        }
+
+        assertEquals(1, clientPorts.size());
+
+        HttpConnectionPoolMonitor monitor = new HttpConnectionPoolMonitor(
+                new StaticListableBeanFactory(Map.of("hc5ConnectionManager", connectionManager))
+                        .getBeanProvider(HttpClientConnectionManager.class));
+        HttpConnectionPoolStatistics statistics = monitor.getStatistics();
+
+        assertEquals(10, statistics.getMaxTotal());
+        assertEquals(0, statistics.getLeased());
+        assertEquals(1, statistics.getAvailable());
+        assertEquals(1, statistics.getRoutes().size());
+        HttpRoutePoolStatistics route = statistics.getRoutes().get(0);
+        assertTrue(route.getRoute().endsWith(":" + server.getAddress().getPort()));
+        assertEquals(4, route.getMax());
+        assertEquals(1, route.getAvailable());
+    }
+
+    @Test
+    void reportsEmptyStatisticsWithoutPoolingClient() {
+        HttpConnectionPoolMonitor monitor = new HttpConnectionPoolMonitor(
+                new StaticListableBeanFactory().getBeanProvider(HttpClientConnectionManager.class));
+
+        HttpConnectionPoolStatistics statistics = monitor.getStatistics();
+
+        assertEquals(0, statistics.getMaxTotal());
+        assertTrue(statistics.getRoutes().isEmpty());
+    }
+
+}
@@ -0,0 +1,76 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.tractusx.autosetup.constant.ToolType;
+import org.eclipse.tractusx.autosetup.model.AutoSetupRequest;
+import org.eclipse.tractusx.autosetup.model.Customer;
+import org.eclipse.tractusx.autosetup.model.CustomerProperties;
+import org.eclipse.tractusx.autosetup.model.SelectedTools;
+import org.junit.jupiter.api.Test;
+
+class JsonUtilTest {
+
+    @Test
+    void stringMapListRoundTrip() throws Exception {
+        Map<String, String> step = new LinkedHashMap<>();
+        step.put("name", "EDC");
+        step.put("dnsName", "tenant-edc.example.com");
+        step.put("empty", null);
+
+        String json = JsonUtil.STRING_MAP_LIST_WRITER.writeValueAsString(List.of(step));
+        List<Map<String, String>> read = JsonUtil.STRING_MAP_LIST_READER.readValue(json);
+
+        assertEquals(List.of(step), read);
+        assertEquals("1", JsonUtil.STRING_MAP_LIST_READER.<List<Map<String, String>>>readValue("[{\"attempts\":1}]")
+                .get(0).get("attempts"));
+    }
+
+    @Test
+    void readsSelectedTools() throws Exception {
+        List<SelectedTools> tools = JsonUtil.SELECTED_TOOLS_READER
+                .readValue("[{\"tool\":\"SDE_WITH_EDC_TRACTUS\",\"label\":\"sde\"},{\"tool\":\"DT_REGISTRY\",\"label\":\"dt\"}]");
+
+        assertEquals(List.of(SelectedTools.builder().tool(ToolType.SDE_WITH_EDC_TRACTUS).label("sde").build(),
+                SelectedTools.builder().tool(ToolType.DT_REGISTRY).label("dt").build()), tools);
+    }
+
+    @Test
+    void autoSetupRequestRoundTrip() throws Exception {
+        AutoSetupRequest request = new AutoSetupRequest();
+        request.setCustomer(Customer.builder().organizationName("Tenant").email("admin@tenant.example.com").build());
+        CustomerProperties properties = new CustomerProperties();
+        properties.setBpnNumber("BPNL000000000001");
+        properties.setServiceId("service-1");
+        request.setProperties(properties);
+
+        String json = JsonUtil.AUTO_SETUP_REQUEST_WRITER.writeValueAsString(request);
+
+        assertEquals(request, JsonUtil.AUTO_SETUP_REQUEST_READER.readValue(json));
+    }
+
+}
@@ -0,0 +1,178 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.autosetup.model.KeycloakTokenResponse;
+import org.eclipse.tractusx.autosetup.model.TokenCacheStatistics;
+import org.eclipse.tractusx.autosetup.portal.proxy.PortalIntegrationProxy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class KeyCloakTokenProxyUtitlityTest {
+
+    private static final URI TOKEN_URI = URI.create("http://keycloak/realms/test/protocol/openid-connect/token");
+
+    @Mock
+    private PortalIntegrationProxy portalIntegrationProxy;
+
+    private KeyCloakTokenProxyUtitlity keyCloakTokenProxyUtitlity;
+
+    @BeforeEach
+    void setUp() {
+        keyCloakTokenProxyUtitlity = new KeyCloakTokenProxyUtitlity(portalIntegrationProxy);
+        ReflectionTestUtils.setField(keyCloakTokenProxyUtitlity, "cacheEnabled", true);
+        ReflectionTestUtils.setField(keyCloakTokenProxyUtitlity, "refreshRatio", 0.8);
+        ReflectionTestUtils.setField(keyCloakTokenProxyUtitlity, "expirySkewSeconds", 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyCloakTokenProxyUtitlity.shutdown();
+    }
+
+    @Test
+    void tokenIsReusedPerClientUntilExpiry() {
+        when(portalIntegrationProxy.readAuthToken(eq(TOKEN_URI), any())).thenReturn(token("first", 300),
+                token("second", 300));
+
+        assertEquals("first", keyCloakTokenProxyUtitlity.getKeycloakToken("client-a", "secret", TOKEN_URI));
+        assertEquals("first", keyCloakTokenProxyUtitlity.getKeycloakToken("client-a", "secret", TOKEN_URI));
+        assertEquals("second", keyCloakTokenProxyUtitlity.getKeycloakToken("client-b", "secret", TOKEN_URI));
+
+        verify(portalIntegrationProxy, times(2)).readAuthToken(eq(TOKEN_URI), any());
+        assertStatistics(2, 1, 2, 0);
+    }
+
+    @Test
+    void tokenIsRefreshedInBackgroundBeforeExpiry() throws Exception {
+        ReflectionTestUtils.setField(keyCloakTokenProxyUtitlity, "refreshRatio", 0.1);
+        when(portalIntegrationProxy.readAuthToken(eq(TOKEN_URI), any())).thenReturn(token("first", 2),
+                token("second", 300));
+
+        keyCloakTokenProxyUtitlity.getKeycloakToken("client-a", "secret", TOKEN_URI);
+        Thread.sleep(300);
+
+        assertEquals("first", keyCloakTokenProxyUtitlity.getKeycloakToken("client-a", "secret", TOKEN_URI));
+        verify(portalIntegrationProxy, timeout(2000).times(2)).readAuthToken(eq(TOKEN_URI), any());
+        waitForRefresh();
+        assertEquals("second", keyCloakTokenProxyUtitlity.getKeycloakToken("client-a", "secret", TOKEN_URI));
+        assertStatistics(1, 2, 1, 1);
+    }
+
+    @Test
+    void concurrentMissesShareOneRequest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(portalIntegrationProxy.readAuthToken(eq(TOKEN_URI), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return token("shared", 300);
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers
+                        .submit(() -> keyCloakTokenProxyUtitlity.getKeycloakToken("client-a", "secret", TOKEN_URI)));
+            }
+            Thread.sleep(300);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("shared", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(portalIntegrationProxy, times(1)).readAuthToken(eq(TOKEN_URI), any());
+    }
+
+    @Test
+    void changedSecretGetsItsOwnToken() {
+        when(portalIntegrationProxy.readAuthToken(eq(TOKEN_URI), any())).thenReturn(token("old", 300),
+                token("rotated", 300));
+
+        assertEquals("old", keyCloakTokenProxyUtitlity.getKeycloakToken("client-a", "old-secret", TOKEN_URI));
+        assertEquals("rotated", keyCloakTokenProxyUtitlity.getKeycloakToken("client-a", "new-secret", TOKEN_URI));
+        assertEquals("rotated", keyCloakTokenProxyUtitlity.getKeycloakToken("client-a", "new-secret", TOKEN_URI));
+
+        verify(portalIntegrationProxy, times(2)).readAuthToken(eq(TOKEN_URI), any());
+        // the token of the old secret is dropped
+        assertStatistics(1, 1, 2, 0);
+    }
+
+    @Test
+    void tokenWithoutExpiryIsNotCached() {
+        when(portalIntegrationProxy.readAuthToken(eq(TOKEN_URI), any())).thenReturn(token("first", null),
+                token("second", null));
+
+        assertEquals("first", keyCloakTokenProxyUtitlity.getKeycloakToken("client-a", "secret", TOKEN_URI));
+        assertEquals("second", keyCloakTokenProxyUtitlity.getKeycloakToken("client-a", "secret", TOKEN_URI));
+        assertStatistics(0, 0, 2, 0);
+    }
+
+    private void waitForRefresh() throws InterruptedException {
+        for (int i = 0; i < 50 && isRefreshing(); i++) {
+            Thread.sleep(20);
+        }
+    }
+
+    private boolean isRefreshing() {
+        return !((Map<?, ?>) ReflectionTestUtils.getField(keyCloakTokenProxyUtitlity, "inflight")).isEmpty();
+    }
+
+    private void assertStatistics(int size, long hits, long misses, long refreshes) {
+        TokenCacheStatistics statistics = keyCloakTokenProxyUtitlity.getStatistics();
+        assertEquals(size, statistics.getSize());
+        assertEquals(hits, statistics.getHits());
+        assertEquals(misses, statistics.getMisses());
+        assertEquals(refreshes, statistics.getRefreshes());
+    }
+
+    private static KeycloakTokenResponse token(String accessToken, Integer expiresIn) {
+        KeycloakTokenResponse response = new KeycloakTokenResponse();
+        response.setAccessToken(accessToken);
+        response.setExpiresIn(expiresIn);
+        return response;
+    }
+}
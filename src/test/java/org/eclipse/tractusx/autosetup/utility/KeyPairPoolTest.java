@@ -0,0 +1,83 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+
+import org.eclipse.tractusx.autosetup.constant.CertificateKeyAlgorithm;
+import org.eclipse.tractusx.autosetup.model.KeyPairPoolStatistics;
+import org.junit.jupiter.api.Test;
+
+class KeyPairPoolTest {
+
+    @Test
+    void pooledKeyPairsAreHandedOutOnce() throws Exception {
+        KeyPairPool pool = new KeyPairPool(CertificateKeyAlgorithm.RSA, 2048, 2, 2, 10, 5000, 1);
+        try {
+            long deadline = System.currentTimeMillis() + 10000;
+            while (pool.getStatistics().getAvailable() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+
+            KeyPair first = pool.take();
+            KeyPair second = pool.take();
+
+            assertNotSame(first, second);
+            KeyPairPoolStatistics statistics = pool.getStatistics();
+            assertEquals(2, statistics.getPooled());
+            assertEquals(0, statistics.getSynchronous());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void emptyPoolGeneratesSynchronously() throws Exception {
+        KeyPairPool pool = new KeyPairPool(CertificateKeyAlgorithm.RSA, 2048, 0, 1, 1000, 0, 1);
+
+        KeyPair keyPair = pool.take();
+
+        assertEquals("RSA", keyPair.getPublic().getAlgorithm());
+        KeyPairPoolStatistics statistics = pool.getStatistics();
+        assertEquals(0, statistics.getPooled());
+        assertEquals(1, statistics.getSynchronous());
+    }
+
+    @Test
+    void ecKeyPairSignsSelfSignedCertificate() throws Exception {
+        KeyPairPool pool = new KeyPairPool(CertificateKeyAlgorithm.EC, null, 0, 1, 1000, 0, 1);
+
+        Certutil.CertKeyPair certKeyPair = Certutil.generateSelfSignedCertificate("O=Test, CN=www.test.com", null,
+                pool.take());
+
+        assertTrue(certKeyPair.keyPair().getPublic() instanceof ECPublicKey);
+        assertEquals("SHA256WITHECDSA", certKeyPair.certificate().getSigAlgName());
+        certKeyPair.certificate().verify(certKeyPair.keyPair().getPublic());
+        assertFalse(Certutil.getClientId(certKeyPair.certificate()).isEmpty());
+    }
+
+}
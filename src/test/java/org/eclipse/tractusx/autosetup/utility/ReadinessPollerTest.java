@@ -0,0 +1,115 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ReadinessPollerTest {
+
+    private final ReadinessPoller readinessPoller = new ReadinessPoller();
+
+    @Test
+    void readyResourceIsReturnedByFirstProbe() {
+        AtomicInteger probes = new AtomicInteger();
+        long start = System.nanoTime();
+
+        String result = readinessPoller.await("test", () -> {
+            probes.incrementAndGet();
+            return "ACTIVE";
+        }, "ACTIVE"::equals, backoff(Duration.ofSeconds(10), Duration.ofSeconds(30)));
+
+        assertEquals("ACTIVE", result);
+        assertEquals(1, probes.get());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000);
+    }
+
+    @Test
+    void probesBackOffUntilReady() {
+        AtomicInteger probes = new AtomicInteger();
+        List<Long> probeTimes = new ArrayList<>();
+
+        String result = readinessPoller.await("test", () -> {
+            probeTimes.add(System.nanoTime());
+            return probes.incrementAndGet() < 4 ? "PENDING" : "ACTIVE";
+        }, "ACTIVE"::equals, backoff(Duration.ofSeconds(1), Duration.ofSeconds(10)));
+
+        assertEquals("ACTIVE", result);
+        assertEquals(4, probes.get());
+        long firstGap = probeTimes.get(1) - probeTimes.get(0);
+        long lastGap = probeTimes.get(3) - probeTimes.get(2);
+        assertTrue(lastGap > firstGap, "backoff should grow between probes");
+    }
+
+    @Test
+    void deadlineReturnsLastResult() {
+        AtomicInteger probes = new AtomicInteger();
+
+        String result = readinessPoller.await("test", () -> {
+            if (probes.incrementAndGet() % 2 == 0)
+                throw new IllegalStateException("not reachable");
+            return "PENDING";
+        }, "ACTIVE"::equals, backoff(Duration.ofMillis(300), Duration.ofMillis(200)));
+
+        assertEquals("PENDING", result);
+        assertTrue(probes.get() >= 2);
+        assertNull(readinessPoller.await("missing", () -> null, "ACTIVE"::equals,
+                backoff(Duration.ofMillis(10), Duration.ofMillis(50))));
+    }
+
+    @Test
+    void probesRunOnTheCallingThread() {
+        Thread caller = Thread.currentThread();
+
+        assertEquals("ACTIVE", readinessPoller.await("test", () -> {
+            assertEquals(caller, Thread.currentThread());
+            return "ACTIVE";
+        }, "ACTIVE"::equals, backoff(Duration.ofMillis(200), Duration.ofSeconds(5))));
+    }
+
+    @Test
+    void interruptedWaitReturnsLastResult() {
+        AtomicInteger probes = new AtomicInteger();
+        Thread.currentThread().interrupt();
+        try {
+            assertEquals("PENDING", readinessPoller.await("test", () -> {
+                probes.incrementAndGet();
+                return "PENDING";
+            }, "ACTIVE"::equals, backoff(Duration.ofSeconds(1), Duration.ofSeconds(30))));
+            assertEquals(1, probes.get());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private static ReadinessPoller.Backoff backoff(Duration maxDelay, Duration deadline) {
+        return new ReadinessPoller.Backoff(Duration.ofMillis(100), maxDelay, deadline);
+    }
+}
@@ -0,0 +1,93 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.HashMap;
+
+import org.eclipse.tractusx.autosetup.constant.AppNameConstant;
+import org.eclipse.tractusx.autosetup.constant.ToolType;
+import org.eclipse.tractusx.autosetup.exception.ServiceException;
+import org.eclipse.tractusx.autosetup.manager.AppDeleteManager;
+import org.eclipse.tractusx.autosetup.manager.AutoSetupTriggerManager;
+import org.eclipse.tractusx.autosetup.manager.KubeAppsPackageManagement;
+import org.eclipse.tractusx.autosetup.model.SelectedTools;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = "retry.backOffDelay=10")
+@AutoConfigureMockMvc(addFilters = false)
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class RetryMetricsListenerTest {
+
+    @MockBean
+    private KubeAppsPackageManagement appManagement;
+
+    @MockBean
+    private AutoSetupTriggerManager autoSetupTriggerManager;
+
+    @Autowired
+    private AppDeleteManager appDeleteManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void failedAttemptsOfRetryableOperationsAreCounted() throws Exception {
+        Mockito.doThrow(new IllegalStateException("kubeapps not reachable")).when(appManagement)
+                .deletePackage(Mockito.any(), Mockito.anyString(), Mockito.anyMap());
+        SelectedTools tool = SelectedTools.builder().tool(ToolType.EDC_TRACTUS).label("edc").build();
+
+        assertThrows(ServiceException.class,
+                () -> appDeleteManager.deletePackage(AppNameConstant.EDC_CONNECTOR, tool, new HashMap<>(), null));
+
+        assertEquals(3, meterRegistry.get(AutoSetupMetrics.RETRY_ATTEMPTS)
+                .tags("operation", "AppDeleteManager.deletePackage", "exception", "ServiceException").counter()
+                .count());
+        assertEquals(1, meterRegistry.get(AutoSetupMetrics.RETRY_EXHAUSTED)
+                .tag("operation", "AppDeleteManager.deletePackage").counter().count());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isOk()).andReturn()
+                .getResponse().getContentAsString();
+        assertTrue(scrape.contains("autosetup_retry_attempts_total{"));
+        assertTrue(scrape.contains("autosetup_workflow_active{"));
+        assertTrue(scrape.contains("autosetup_http_client_pool_leased{"));
+    }
+
+}
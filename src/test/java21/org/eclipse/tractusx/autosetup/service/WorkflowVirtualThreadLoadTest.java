@@ -0,0 +1,113 @@
+/********************************************************************************
+ * Copyright (c) 2024 T-Systems International GmbH
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.autosetup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.autosetup.constant.WorkflowExecutorProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs with -XX:ActiveProcessorCount=1 (java21 profile) to approximate a 1 vCPU
+ * pod. A simulated workflow blocks like the real one (remote calls and polling
+ * waits) and does a bit of JSON work in between.
+ */
+@Slf4j
+class WorkflowVirtualThreadLoadTest {
+
+    private static final int BLOCKING_CALLS = 10;
+    private static final Duration CALL_LATENCY = Duration.ofMillis(200);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @ParameterizedTest
+    @ValueSource(ints = { 100, 1_000, 5_000, 10_000 })
+    void sustainsConcurrentWorkflowsOnVirtualThreads(int workflows) throws InterruptedException {
+
+        WorkflowExecutorProperty property = new WorkflowExecutorProperty();
+        property.setConcurrency(workflows);
+        property.setQueueCapacity(workflows);
+        property.setVirtualThreads(true);
+        property.setDrainTimeoutSeconds(60);
+
+        ThreadFactory virtualThreads = Thread.ofVirtual().name("load-workflow-", 1).factory();
+        AutoSetupWorkflowExecutor executor = new AutoSetupWorkflowExecutor(property, Optional.of(virtualThreads));
+        executor.start();
+
+        CountDownLatch done = new CountDownLatch(workflows);
+        AtomicInteger failures = new AtomicInteger();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < workflows; i++) {
+            String triggerId = "trigger-" + i;
+            executor.execute(triggerId, () -> {
+                try {
+                    simulateWorkflow(triggerId);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        boolean completed = done.await(2, TimeUnit.MINUTES);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executor.stop();
+
+        long minimumMs = BLOCKING_CALLS * CALL_LATENCY.toMillis();
+        long usedHeapMb = (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / (1024 * 1024);
+        log.info("cpus={} workflows={} elapsed={}ms (blocking floor {}ms) throughput={}/s heap={}MB platformThreads={}",
+                Runtime.getRuntime().availableProcessors(), workflows, elapsedMs, minimumMs,
+                String.format("%.1f", workflows * 1000.0 / elapsedMs), usedHeapMb,
+                ManagementFactory.getThreadMXBean().getThreadCount());
+
+        assertThat(completed).isTrue();
+        assertThat(failures.get()).isZero();
+        // all workflows overlap their blocking time instead of queueing behind each other
+        assertThat(elapsedMs).isLessThan(minimumMs * 5);
+    }
+
+    private void simulateWorkflow(String triggerId) throws Exception {
+        Map<String, String> inputConfiguration = new HashMap<>();
+        inputConfiguration.put("triggerId", triggerId);
+        for (int step = 0; step < BLOCKING_CALLS; step++) {
+            Thread.sleep(CALL_LATENCY);
+            inputConfiguration.put("step" + step, "output-" + step);
+            mapper.writeValueAsString(inputConfiguration);
+        }
+    }
+}